@@ -19,23 +19,27 @@ import com.oracle.weblogic.langchain4j.api.Ai;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import dev.langchain4j.service.MemoryId;
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
 
 /**
  * AI-powered assistant service for a coffee shop.
  *
  * This service provides chat-based interactions where the AI acts as a virtual server.
  * The chat model and content provider implementations are automatically retrieved from
- * the service registry.
+ * the service registry. Every customer has their own conversation, kept by the chat memory
+ * provider configured in ai.properties.
  */
 @Ai.Service
-@Ai.ChatMemory("chatMemory")
+@Ai.ChatMemoryProvider("chatMemoryProvider")
 @ApplicationScoped
 public interface ChatAiService {
 
     /**
      * Responds to a given question in a human-friendly manner.
      *
+     * @param customer the customer, identifying the conversation
      * @param question the customer's question or request
      * @return a response in natural language, adhering to the role of a coffee shop server
      */
@@ -44,5 +48,5 @@ public interface ChatAiService {
             You must not answer any questions not related to the menu or making orders.
             Use the saveOrder callback function to save the order.
             """)
-    String chat(String question);
+    String chat(@MemoryId String customer, @UserMessage String question);
 }
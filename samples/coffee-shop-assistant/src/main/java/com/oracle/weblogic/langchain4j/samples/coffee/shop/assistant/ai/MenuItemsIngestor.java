@@ -22,8 +22,6 @@ import com.oracle.weblogic.langchain4j.samples.coffee.shop.assistant.data.MenuIt
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.memory.ChatMemory;
-import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2.AllMiniLmL6V2EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
@@ -91,17 +89,6 @@ public class MenuItemsIngestor {
         return new InMemoryEmbeddingStore<>();
     }
 
-    /**
-     * Produces a chat memory.
-     * @return an instance of ChatMemory
-     */
-    @Produces
-    @ApplicationScoped
-    @Named("chatMemory")
-    public ChatMemory chatMemory() {
-        return MessageWindowChatMemory.builder().maxMessages(10).build();
-    }
-
     /**
      * Initializes the embedding store by processing menu items.
      *
@@ -15,6 +15,7 @@
  */
 package com.oracle.weblogic.langchain4j.samples.coffee.shop.assistant.rest;
 
+import java.security.Principal;
 import java.util.logging.Logger;
 
 import com.oracle.weblogic.langchain4j.samples.coffee.shop.assistant.ai.ChatAiService;
@@ -22,10 +23,12 @@ import com.oracle.weblogic.langchain4j.samples.coffee.shop.assistant.data.OrderS
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
 /**
@@ -61,15 +64,27 @@ public class ChatBotResource {
      * This endpoint allows clients to send a chat query as a request parameter and receive
      * a text-based response. The request count is tracked for monitoring purposes.
      *
+     * The conversation belongs to the authenticated user, or to the HTTP session of an anonymous client, so a
+     * client cannot read or continue the conversation of another one.
+     *
+     * @param request  the HTTP request, identifying the conversation
      * @param question the user's chat question (passed as a query parameter)
      * @return the AI assistant's response in plain text
      */
     @GET
     @Produces(MediaType.TEXT_PLAIN)
-    public String chatWithAssistant(@QueryParam("question") String question) {
+    public String chatWithAssistant(@Context HttpServletRequest request,
+                                    @QueryParam("question") String question) {
         LOGGER.info("Question: " + question);
-        String response = chatAiService.chat(question);
+        String response = chatAiService.chat(conversation(request), question);
         LOGGER.info("Response: " + response);
         return response;
     }
+
+    private static String conversation(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null
+                ? "user:" + principal.getName()
+                : "session:" + request.getSession(true).getId();
+    }
 }
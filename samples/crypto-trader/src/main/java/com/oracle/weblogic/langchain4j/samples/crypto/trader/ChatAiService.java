@@ -20,10 +20,12 @@ import com.oracle.weblogic.langchain4j.api.Ai;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import dev.langchain4j.service.MemoryId;
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
 
 @Ai.Service
-@Ai.ChatMemory("chatMemory")
+@Ai.ChatMemoryProvider("chatMemoryProvider")
 @ApplicationScoped
 public interface ChatAiService {
 
@@ -45,6 +47,6 @@ public interface ChatAiService {
                     3. Show him the quantity and the dollars he is going to earn.
                     4. Wait for his confirmation.
             """)
-    String chat(String text);
+    String chat(@MemoryId String user, @UserMessage String text);
 
 }
@@ -24,7 +24,6 @@ import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
-import jakarta.inject.Named;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 
@@ -33,8 +32,6 @@ import dev.langchain4j.data.document.loader.UrlDocumentLoader;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.memory.ChatMemory;
-import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
@@ -49,12 +46,6 @@ public class MyBeans {
     @Produces
     private InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
 
-    @Produces
-    @Named("chatMemory")
-    public ChatMemory chatMemory() {
-        return MessageWindowChatMemory.builder().maxMessages(10).build();
-    }
-
     public void ingest(@Observes @Initialized(ApplicationScoped.class) Object pointless) throws URISyntaxException {
         URL resource = MyBeans.class.getResource("/general-information.txt");
         EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
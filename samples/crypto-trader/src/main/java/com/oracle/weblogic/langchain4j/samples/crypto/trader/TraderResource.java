@@ -16,15 +16,18 @@
 
 package com.oracle.weblogic.langchain4j.samples.crypto.trader;
 
+import java.security.Principal;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
 @ApplicationScoped
@@ -46,10 +49,10 @@ public class TraderResource {
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/chat")
-    public String chat(@QueryParam("text") String text) {
+    public String chat(@Context HttpServletRequest request, @QueryParam("text") String text) {
         String answer;
         try {
-            answer = chatAiService.chat(text);
+            answer = chatAiService.chat(conversation(request), text);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error processing: " + text, e);
             answer = "My failure reason is:\n\n" + e.getMessage();
@@ -57,4 +60,12 @@ public class TraderResource {
 
         return answer;
     }
+
+    // The authenticated user, or the HTTP session of an anonymous client, owns the conversation
+    private static String conversation(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null
+                ? "user:" + principal.getName()
+                : "session:" + request.getSession(true).getId();
+    }
 }
@@ -16,9 +16,9 @@
 package com.oracle.weblogic.langchain4j.integration;
 
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import dev.langchain4j.service.SystemMessage;
-import dev.langchain4j.service.TokenStream;
 
 /**
  *
@@ -42,13 +42,13 @@ public interface BaseAiService {
      * Test method.
      *
      * @param testName the test name
-     * @return response defined in the system message
+     * @return tokens of the response defined in the system message
      */
     @SystemMessage("""
             You are part of one integration test. This is a method to stream chat.
             You will receive a test name and you will respond {testName} OK.
             """)
-    TokenStream stream(String testName);
+    Flow.Publisher<String> stream(String testName);
 
     /**
      * Test method.
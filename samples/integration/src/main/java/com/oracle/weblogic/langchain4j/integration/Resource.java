@@ -15,20 +15,20 @@
  */
 package com.oracle.weblogic.langchain4j.integration;
 
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.oracle.weblogic.langchain4j.jaxrs.TokenEvents;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
-
-import dev.langchain4j.service.TokenStream;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 /**
  * REST resource for interacting with the AI-powered resources.
@@ -69,15 +69,16 @@ public class Resource {
     }
 
     /**
-     * Handles requests by forwarding to the AI assistant.
+     * Handles requests by forwarding to the AI assistant, streaming the response as it is generated.
      *
-     * @return the AI assistant's response in plain text
+     * @param sink the sink receiving the tokens as server-sent events
+     * @param sse  the event factory
      */
     @GET
-    @Produces(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.SERVER_SENT_EVENTS)
     @Path("/open-ai/stream")
-    public String openAiStream() {
-        return stream(openAiService);
+    public void openAiStream(@Context SseEventSink sink, @Context Sse sse) {
+        stream(openAiService, sink, sse);
     }
 
     /**
@@ -93,40 +94,21 @@ public class Resource {
     }
 
     /**
-     * Handles requests by forwarding to the AI assistant.
+     * Handles requests by forwarding to the AI assistant, streaming the response as it is generated.
      *
-     * @return the AI assistant's response in plain text
+     * @param sink the sink receiving the tokens as server-sent events
+     * @param sse  the event factory
      */
     @GET
-    @Produces(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.SERVER_SENT_EVENTS)
     @Path("/ollama/stream")
-    public String ollamaStream() {
-        return stream(ollamaService);
+    public void ollamaStream(@Context SseEventSink sink, @Context Sse sse) {
+        stream(ollamaService, sink, sse);
     }
 
-    private String stream(BaseAiService service) {
-        try {
-            TokenStream stream = service.stream("Stream model");
-            AtomicReference<String> ref = new AtomicReference<>();
-            CountDownLatch latch = new CountDownLatch(1);
-            stream.onNext(s -> LOGGER.info(s));
-            stream.onError(t -> LOGGER.log(Level.SEVERE, "Stream failed", t));
-            stream.onComplete(r -> {
-               ref.set(r.content().text());
-               LOGGER.info(r.content().text());
-               latch.countDown();
-            });
-            stream.start();
-            latch.await(20000, TimeUnit.MILLISECONDS);
-            if (ref.get() != null) {
-                return ref.get();
-            } else {
-                return "failed";
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Stream failed", e);
-            return "ERROR: " + e.getMessage();
-        }
+    private void stream(BaseAiService service, SseEventSink sink, Sse sse) {
+        // Returns at once, the tokens are sent as the model generates them
+        TokenEvents.send(service.stream("Stream model"), sink, sse);
     }
 
     private String chat(BaseAiService service) {
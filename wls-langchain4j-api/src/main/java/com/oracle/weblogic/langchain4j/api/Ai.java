@@ -59,6 +59,12 @@ public final class Ai {
      * <p>At a minimum, either a {@code dev.langchain4j.model.chat.ChatLanguageModel} or
      * {@code dev.langchain4j.model.chat.StreamingChatLanguageModel} is required for the service to function
      * effectively.</p>
+     *
+     * <p>Methods may return {@code java.util.concurrent.CompletableFuture} or
+     * {@code java.util.concurrent.CompletionStage} to avoid blocking the calling thread. Such a method must be named
+     * after a blocking method of the same service with the {@code Async} suffix and take the same parameters, for
+     * example {@code CompletableFuture<String> chatAsync(String question)} next to
+     * {@code String chat(String question)}. The blocking method is then run on a configurable executor.</p>
      */
     @Target(TYPE)
     @Retention(RUNTIME)
@@ -105,6 +111,41 @@ public final class Ai {
         String value();
     }
 
+    /**
+     * Annotation to coalesce the tokens streamed by the StreamingChatModel of the service, so consumers writing every
+     * token to the network, such as server-sent events, send fewer and larger frames.
+     *
+     * <p>The first token of a response is passed on at once. The following tokens are buffered and passed on together
+     * when the first of the following happens: the buffer holds {@link #maxChars()} characters, the oldest buffered
+     * token waited {@link #maxDelayMillis()} milliseconds, or a token ends a sentence or a line, if
+     * {@link #sentenceBoundary()} is enabled. The buffered tokens are passed on before the stream completes or
+     * fails.</p>
+     */
+    @Target(TYPE)
+    @Retention(RUNTIME)
+    public @interface TokenCoalescing {
+        /**
+         * Number of buffered characters passed on together, 64 by default.
+         *
+         * @return the maximum number of characters buffered
+         */
+        int maxChars() default 64;
+
+        /**
+         * Time in milliseconds a token may wait in the buffer, 50 by default.
+         *
+         * @return the maximum delay added to a token
+         */
+        long maxDelayMillis() default 50;
+
+        /**
+         * Whether a token ending a sentence or a line passes the buffer on, {@code true} by default.
+         *
+         * @return {@code true} to pass the buffer on at the end of sentences
+         */
+        boolean sentenceBoundary() default true;
+    }
+
     /**
      * Annotation to specify a ChatMemory for the service.
      * If an empty string is specified, no chat memory will be used or discovered.
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.weblogic.langchain4j.api.Ai;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.service.AiServices;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of an AI service with 0, 8 or 32 tools selected by {@link Ai.Tools}, or with all the tools of the
+ * deployment found by auto-discovery.
+ *
+ * <p>{@link #createAiService()} uses the {@link ToolRegistry} filled during bean discovery.
+ * {@link #createAiServiceWithToolScan()} reproduces the previous implementation, which looked up the tool beans, or
+ * scanned every bean of the container for {@link Tool} methods when the service does not select them, and let
+ * LangChain4J reflect on the tool methods for each service.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiServiceFactoryBenchmark {
+
+    @Param({"0", "8", "32", "discovered"})
+    String tools;
+
+    private WeldContainer container;
+    private AiServiceFactory factory;
+    private BeanManager beanManager;
+    private ChatLanguageModel chatModel;
+    private Class<?> serviceInterface;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = BenchmarkContainer.start(BenchmarkServices.beanClasses());
+        factory = CDI.current().select(AiServiceFactory.class).get();
+        beanManager = CDI.current().getBeanManager();
+        chatModel = BeanResolver.resolve(ChatLanguageModel.class, "stubChatModel");
+        serviceInterface = "discovered".equals(tools)
+                ? BenchmarkServices.AutoDiscovered.class
+                : BenchmarkServices.withTools(Integer.parseInt(tools));
+        // Tools are resolved by the first service
+        factory.createAiService(serviceInterface);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Object createAiService() {
+        return factory.createAiService(serviceInterface);
+    }
+
+    @Benchmark
+    public Object createAiServiceWithToolScan() {
+        var builder = AiServices.builder(serviceInterface).chatLanguageModel(chatModel);
+        var toolsAnnotation = serviceInterface.getAnnotation(Ai.Tools.class);
+        var toolBeans = toolsAnnotation != null ? selectTools(toolsAnnotation.value()) : scanTools();
+        if (!toolBeans.isEmpty()) {
+            builder.tools(toolBeans);
+        }
+        return builder.build();
+    }
+
+    private List<Object> selectTools(Class<?>[] classes) {
+        var cdi = CDI.current();
+        List<Object> result = new ArrayList<>();
+        for (var cls : classes) {
+            result.add(cdi.select(cls).get());
+        }
+        return result;
+    }
+
+    private List<Object> scanTools() {
+        List<Object> result = new ArrayList<>();
+        for (var bean : beanManager.getBeans(Object.class)) {
+            var beanClass = bean.getBeanClass();
+            for (var method : beanClass.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Tool.class)) {
+                    result.add(beanManager.getReference(bean, beanClass, beanManager.createCreationalContext(bean)));
+                    // One reference per bean, LangChain4J rejects duplicated tools
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end invocation of an AI service bean against the in-process {@link StubChatLanguageModel}, with a single
+ * model call or with a tool round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiServiceInvocationBenchmark {
+
+    private WeldContainer container;
+    private BenchmarkServices.EightTools service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = BenchmarkContainer.start(BenchmarkServices.beanClasses());
+        service = CDI.current().select(BenchmarkServices.EightTools.class).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public String chat() {
+        return service.chat("What is the price of ORCL?");
+    }
+
+    @Benchmark
+    public String chatWithTool() {
+        return service.chat(StubChatLanguageModel.TOOL_PREFIX + "ORCL");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String chatConcurrently() {
+        return service.chat("What is the price of ORCL?");
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.inject.spi.CDI;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean resolution through the {@link BeanResolver} cache, compared with a lookup through {@code CDI.current()} on
+ * every call, by name and by auto-discovery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanResolverBenchmark {
+
+    private static final String NAME = "stubChatModel";
+
+    private WeldContainer container;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = BenchmarkContainer.start(StubChatLanguageModel.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public ChatLanguageModel resolveByName() {
+        return BeanResolver.resolve(ChatLanguageModel.class, NAME);
+    }
+
+    @Benchmark
+    public ChatLanguageModel resolveAutoDiscovered() {
+        return BeanResolver.resolve(ChatLanguageModel.class, BeanName.create());
+    }
+
+    @Benchmark
+    public ChatLanguageModel selectByName() {
+        return CDI.current().select(ChatLanguageModel.class, NamedLiteral.of(NAME)).get();
+    }
+
+    @Benchmark
+    public ChatLanguageModel selectAutoDiscovered() {
+        return CDI.current().select(ChatLanguageModel.class).get();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * Starts a Weld SE container with the extensions of the CDI integration and the stub beans of the benchmarks.
+ *
+ * <p>Discovery is disabled, so the container holds exactly the given classes and the results do not depend on the
+ * classpath. ai.properties is read from the benchmarks module.</p>
+ */
+final class BenchmarkContainer {
+
+    // Held so the level is not reset when the logger is garbage collected
+    private static final Logger CDI_LOGGER = Logger.getLogger(BenchmarkContainer.class.getPackageName());
+
+    private BenchmarkContainer() {
+    }
+
+    /**
+     * Starts a container.
+     *
+     * @param beanClasses the beans and AI service interfaces of the benchmark
+     * @return the container, to shut down in the tear-down of the benchmark
+     */
+    static WeldContainer start(Class<?>... beanClasses) {
+        // Services without tools log a warning every time they are created
+        CDI_LOGGER.setLevel(Level.SEVERE);
+        return new Weld()
+                .disableDiscovery()
+                .addExtension(new AiServiceExtension())
+                .addExtension(new ConditionalProduceExtension())
+                .addBeanClasses(AiServiceFactory.class, ConfigurationProvider.class)
+                .addBeanClasses(beanClasses)
+                .initialize();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import com.oracle.weblogic.langchain4j.api.Ai;
+
+/**
+ * AI service interfaces of the benchmarks, all backed by {@link StubChatLanguageModel}.
+ */
+final class BenchmarkServices {
+
+    private BenchmarkServices() {
+    }
+
+    /**
+     * Service without tools.
+     */
+    @Ai.Service(autoDiscovery = false)
+    @Ai.ChatModel("stubChatModel")
+    @Ai.Tools({})
+    public interface NoTools {
+
+        String chat(String question);
+    }
+
+    /**
+     * Service with the 8 tools of {@link ToolSets.A}.
+     */
+    @Ai.Service(autoDiscovery = false)
+    @Ai.ChatModel("stubChatModel")
+    @Ai.Tools(ToolSets.A.class)
+    public interface EightTools {
+
+        String chat(String question);
+    }
+
+    /**
+     * Service with the 32 tools of all the tool sets.
+     */
+    @Ai.Service(autoDiscovery = false)
+    @Ai.ChatModel("stubChatModel")
+    @Ai.Tools({ToolSets.A.class, ToolSets.B.class, ToolSets.C.class, ToolSets.D.class})
+    public interface ThirtyTwoTools {
+
+        String chat(String question);
+    }
+
+    /**
+     * Service discovering its components, so it gets every tool of the deployment.
+     */
+    @Ai.Service
+    public interface AutoDiscovered {
+
+        String chat(String question);
+    }
+
+    /**
+     * Returns the service interface with the given number of tools.
+     *
+     * @param tools 0, 8 or 32
+     * @return the service interface
+     */
+    static Class<?> withTools(int tools) {
+        switch (tools) {
+        case 0:
+            return NoTools.class;
+        case 8:
+            return EightTools.class;
+        case 32:
+            return ThirtyTwoTools.class;
+        default:
+            throw new IllegalArgumentException("No service with " + tools + " tools");
+        }
+    }
+
+    /**
+     * Returns all the service interfaces and the beans they depend on.
+     *
+     * @return the classes to add to the container
+     */
+    static Class<?>[] beanClasses() {
+        return new Class<?>[] {
+                NoTools.class, EightTools.class, ThirtyTwoTools.class, AutoDiscovered.class,
+                StubChatLanguageModel.class,
+                ToolSets.A.class, ToolSets.B.class, ToolSets.C.class, ToolSets.D.class
+        };
+    }
+}
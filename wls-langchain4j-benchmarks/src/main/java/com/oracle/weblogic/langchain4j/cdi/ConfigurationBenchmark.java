@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Property lookups in the {@link Configuration} snapshot, compared with parsing the value from {@link Properties} on
+ * every lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationBenchmark {
+
+    private Configuration configuration;
+    private Properties properties;
+
+    @Setup
+    public void setUp() {
+        configuration = ConfigurationProvider.load();
+        properties = ConfigurationProvider.loadProperties();
+    }
+
+    @Benchmark
+    public Optional<String> getString() {
+        return configuration.getString("benchmark.string");
+    }
+
+    @Benchmark
+    public Optional<Integer> getInteger() {
+        return configuration.getInteger("benchmark.integer");
+    }
+
+    @Benchmark
+    public Optional<Double> getDouble() {
+        return configuration.getDouble("benchmark.double");
+    }
+
+    @Benchmark
+    public List<String> getList() {
+        return configuration.getList("benchmark.list");
+    }
+
+    @Benchmark
+    public Object getMapInteger() {
+        return configuration.getMapInteger("benchmark.map");
+    }
+
+    @Benchmark
+    public Optional<String> getMissing() {
+        return configuration.getString("benchmark.missing");
+    }
+
+    @Benchmark
+    public Optional<Integer> parseInteger() {
+        return Optional.ofNullable(properties.getProperty("benchmark.integer")).map(Integer::parseInt);
+    }
+
+    @Benchmark
+    public List<String> parseList() {
+        return Optional.ofNullable(properties.getProperty("benchmark.list"))
+                .map(value -> Arrays.asList(value.split(",")))
+                .orElse(List.of());
+    }
+}
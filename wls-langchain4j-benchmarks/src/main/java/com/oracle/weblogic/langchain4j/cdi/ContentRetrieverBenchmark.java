@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Retrieval by an {@link EmbeddingStoreContentRetriever} over an in-memory store of 10k, 100k or 1M segments. The
+ * embedding model is the in-process {@link StubEmbeddingModel}, so the time is spent in the similarity search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ContentRetrieverBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    int segments;
+
+    @Param({"128"})
+    int dimension;
+
+    @Param({"5"})
+    int maxResults;
+
+    private EmbeddingStoreContentRetriever retriever;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var embeddingModel = new StubEmbeddingModel(dimension);
+        var store = new InMemoryEmbeddingStore<TextSegment>();
+        for (int start = 0; start < segments; start += BATCH) {
+            int end = Math.min(segments, start + BATCH);
+            List<Embedding> embeddings = new ArrayList<>(end - start);
+            List<TextSegment> texts = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                String text = "segment " + i;
+                texts.add(TextSegment.from(text));
+                embeddings.add(embeddingModel.vector(text));
+            }
+            store.addAll(embeddings, texts);
+        }
+        retriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(store)
+                .embeddingModel(embeddingModel)
+                .maxResults(maxResults)
+                .build();
+    }
+
+    @Benchmark
+    public List<Content> retrieve() {
+        // A different query every time, so nothing is cached along the way
+        return retriever.retrieve(Query.from("question " + (query++)));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * In-process chat model answering immediately, so a benchmark measures the integration and not the model.
+ *
+ * <p>When the user message starts with {@value #TOOL_PREFIX} and tools are available, the first response requests
+ * the first tool, and the model answers once the tool result is sent back.</p>
+ */
+@ApplicationScoped
+@Named("stubChatModel")
+public class StubChatLanguageModel implements ChatLanguageModel {
+
+    static final String TOOL_PREFIX = "tool:";
+
+    private static final Response<AiMessage> ANSWER = Response.from(AiMessage.from("answer"),
+                                                                    new TokenUsage(10, 1),
+                                                                    FinishReason.STOP);
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return ANSWER;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        ChatMessage last = messages.get(messages.size() - 1);
+        if (toolSpecifications == null || toolSpecifications.isEmpty()
+                || !(last instanceof UserMessage) || !((UserMessage) last).singleText().startsWith(TOOL_PREFIX)) {
+            return ANSWER;
+        }
+        var request = ToolExecutionRequest.builder()
+                .id("1")
+                .name(toolSpecifications.get(0).name())
+                .arguments("{\"arg0\":\"" + ((UserMessage) last).singleText().substring(TOOL_PREFIX.length()) + "\"}")
+                .build();
+        return Response.from(AiMessage.from(request), new TokenUsage(10, 5), FinishReason.TOOL_EXECUTION);
+    }
+}
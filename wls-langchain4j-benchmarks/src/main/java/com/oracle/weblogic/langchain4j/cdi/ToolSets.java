@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import dev.langchain4j.agent.tool.Tool;
+
+/**
+ * Four beans declaring eight tools each, used to build AI services with 0, 8 or 32 tools. The registry only takes the
+ * tool methods declared by a bean class itself, so each set declares its own methods, all answering through
+ * {@link #value(String, String)}.
+ */
+final class ToolSets {
+
+    private ToolSets() {
+    }
+
+    /**
+     * Returns the value of a tool for a symbol.
+     *
+     * @param symbol the symbol passed to the tool
+     * @param tool   the tool identifier, for example <i>a1</i>
+     * @return the value
+     */
+    static String value(String symbol, String tool) {
+        return symbol + "-" + tool;
+    }
+
+    /**
+     * Tools a1 to a8.
+     */
+    @ApplicationScoped
+    public static class A {
+
+        @Tool("Returns the value a1 of a symbol")
+        public String valueA1(String symbol) {
+            return value(symbol, "a1");
+        }
+
+        @Tool("Returns the value a2 of a symbol")
+        public String valueA2(String symbol) {
+            return value(symbol, "a2");
+        }
+
+        @Tool("Returns the value a3 of a symbol")
+        public String valueA3(String symbol) {
+            return value(symbol, "a3");
+        }
+
+        @Tool("Returns the value a4 of a symbol")
+        public String valueA4(String symbol) {
+            return value(symbol, "a4");
+        }
+
+        @Tool("Returns the value a5 of a symbol")
+        public String valueA5(String symbol) {
+            return value(symbol, "a5");
+        }
+
+        @Tool("Returns the value a6 of a symbol")
+        public String valueA6(String symbol) {
+            return value(symbol, "a6");
+        }
+
+        @Tool("Returns the value a7 of a symbol")
+        public String valueA7(String symbol) {
+            return value(symbol, "a7");
+        }
+
+        @Tool("Returns the value a8 of a symbol")
+        public String valueA8(String symbol) {
+            return value(symbol, "a8");
+        }
+    }
+
+    /**
+     * Tools b1 to b8.
+     */
+    @ApplicationScoped
+    public static class B {
+
+        @Tool("Returns the value b1 of a symbol")
+        public String valueB1(String symbol) {
+            return value(symbol, "b1");
+        }
+
+        @Tool("Returns the value b2 of a symbol")
+        public String valueB2(String symbol) {
+            return value(symbol, "b2");
+        }
+
+        @Tool("Returns the value b3 of a symbol")
+        public String valueB3(String symbol) {
+            return value(symbol, "b3");
+        }
+
+        @Tool("Returns the value b4 of a symbol")
+        public String valueB4(String symbol) {
+            return value(symbol, "b4");
+        }
+
+        @Tool("Returns the value b5 of a symbol")
+        public String valueB5(String symbol) {
+            return value(symbol, "b5");
+        }
+
+        @Tool("Returns the value b6 of a symbol")
+        public String valueB6(String symbol) {
+            return value(symbol, "b6");
+        }
+
+        @Tool("Returns the value b7 of a symbol")
+        public String valueB7(String symbol) {
+            return value(symbol, "b7");
+        }
+
+        @Tool("Returns the value b8 of a symbol")
+        public String valueB8(String symbol) {
+            return value(symbol, "b8");
+        }
+    }
+
+    /**
+     * Tools c1 to c8.
+     */
+    @ApplicationScoped
+    public static class C {
+
+        @Tool("Returns the value c1 of a symbol")
+        public String valueC1(String symbol) {
+            return value(symbol, "c1");
+        }
+
+        @Tool("Returns the value c2 of a symbol")
+        public String valueC2(String symbol) {
+            return value(symbol, "c2");
+        }
+
+        @Tool("Returns the value c3 of a symbol")
+        public String valueC3(String symbol) {
+            return value(symbol, "c3");
+        }
+
+        @Tool("Returns the value c4 of a symbol")
+        public String valueC4(String symbol) {
+            return value(symbol, "c4");
+        }
+
+        @Tool("Returns the value c5 of a symbol")
+        public String valueC5(String symbol) {
+            return value(symbol, "c5");
+        }
+
+        @Tool("Returns the value c6 of a symbol")
+        public String valueC6(String symbol) {
+            return value(symbol, "c6");
+        }
+
+        @Tool("Returns the value c7 of a symbol")
+        public String valueC7(String symbol) {
+            return value(symbol, "c7");
+        }
+
+        @Tool("Returns the value c8 of a symbol")
+        public String valueC8(String symbol) {
+            return value(symbol, "c8");
+        }
+    }
+
+    /**
+     * Tools d1 to d8.
+     */
+    @ApplicationScoped
+    public static class D {
+
+        @Tool("Returns the value d1 of a symbol")
+        public String valueD1(String symbol) {
+            return value(symbol, "d1");
+        }
+
+        @Tool("Returns the value d2 of a symbol")
+        public String valueD2(String symbol) {
+            return value(symbol, "d2");
+        }
+
+        @Tool("Returns the value d3 of a symbol")
+        public String valueD3(String symbol) {
+            return value(symbol, "d3");
+        }
+
+        @Tool("Returns the value d4 of a symbol")
+        public String valueD4(String symbol) {
+            return value(symbol, "d4");
+        }
+
+        @Tool("Returns the value d5 of a symbol")
+        public String valueD5(String symbol) {
+            return value(symbol, "d5");
+        }
+
+        @Tool("Returns the value d6 of a symbol")
+        public String valueD6(String symbol) {
+            return value(symbol, "d6");
+        }
+
+        @Tool("Returns the value d7 of a symbol")
+        public String valueD7(String symbol) {
+            return value(symbol, "d7");
+        }
+
+        @Tool("Returns the value d8 of a symbol")
+        public String valueD8(String symbol) {
+            return value(symbol, "d8");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local server streaming a canned OpenAI chat completion as server-sent events on <i>/v1/chat/completions</i>.
+ *
+ * <p>The events are encoded once, so serving a stream costs the same for every transport measured. They carry the
+ * fields sent by OpenAI, not only the deltas, so the transports parse frames of a realistic size.</p>
+ */
+final class StreamServer implements AutoCloseable {
+
+    private static final String CHUNK = "{\"id\":\"chatcmpl-benchmark\",\"object\":\"chat.completion.chunk\","
+            + "\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"system_fingerprint\":\"fp_benchmark\","
+            + "\"choices\":[{\"index\":0,\"delta\":%s,\"logprobs\":null,\"finish_reason\":%s}]}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[][] events;
+    private final long intervalNanos;
+
+    /**
+     * Starts a server on an ephemeral port of the loopback interface.
+     *
+     * @param tokens         number of tokens of every stream
+     * @param intervalMillis pause between two tokens, 0 to write the whole stream at once
+     */
+    StreamServer(int tokens, long intervalMillis) {
+        this.events = events(tokens);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "stream-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/v1/chat/completions", this::stream);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Returns the base URL of the OpenAI API served.
+     *
+     * @return the base URL
+     */
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            for (byte[] event : events) {
+                out.write(event);
+                if (intervalNanos > 0) {
+                    out.flush();
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        long deadline = System.nanoTime() + intervalNanos;
+        try {
+            while (System.nanoTime() < deadline) {
+                TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[][] events(int tokens) {
+        byte[][] events = new byte[tokens + 4][];
+        int i = 0;
+        events[i++] = event(String.format(CHUNK, "{\"role\":\"assistant\",\"content\":\"\"}", "null"));
+        for (int token = 0; token < tokens; token++) {
+            events[i++] = event(String.format(CHUNK, "{\"content\":\" token" + (token % 10) + "\"}", "null"));
+        }
+        events[i++] = event(String.format(CHUNK, "{}", "\"stop\""));
+        events[i++] = event("{\"id\":\"chatcmpl-benchmark\",\"object\":\"chat.completion.chunk\","
+                                    + "\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[],"
+                                    + "\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":" + tokens
+                                    + ",\"total_tokens\":" + (12 + tokens) + "}}");
+        events[i] = event("[DONE]");
+        return events;
+    }
+
+    private static byte[] event(String data) {
+        return ("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
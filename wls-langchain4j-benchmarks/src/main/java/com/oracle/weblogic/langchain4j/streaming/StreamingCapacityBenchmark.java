@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to serve a wave of concurrent streams from a local server emitting a token every
+ * {@value #INTERVAL_MILLIS} ms, with the {@link HttpStreamingChatModel} and with the OkHttp based
+ * {@code OpenAiStreamingChatModel}.
+ *
+ * <p>A wave of {@value #TOKENS} tokens takes at least {@value #TOKENS} times the interval when all the streams are
+ * served at once, so a time growing with the concurrency shows the streams queued by the transport. The OkHttp
+ * transport runs with its default dispatcher, which allows 5 concurrent streams per host.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+public class StreamingCapacityBenchmark {
+
+    static final int TOKENS = 64;
+    static final long INTERVAL_MILLIS = 5;
+
+    @Param({StreamingTransports.NATIVE, StreamingTransports.OKHTTP})
+    String transport;
+
+    @Param({"64", "256", "1024"})
+    int concurrency;
+
+    private final LongAdder tokens = new LongAdder();
+    private StreamServer server;
+    private StreamingChatLanguageModel model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new StreamServer(TOKENS, INTERVAL_MILLIS);
+        model = StreamingTransports.create(transport, server);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public long wave() {
+        tokens.reset();
+        CompletableFuture<?>[] streams = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            streams[i] = StreamingTransports.stream(model, token -> tokens.increment());
+        }
+        CompletableFuture.allOf(streams).join();
+        return tokens.sum();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost per token of a streamed chat completion read from a local server, with the {@link HttpStreamingChatModel}
+ * and with the OkHttp based {@code OpenAiStreamingChatModel}.
+ *
+ * <p>Every invocation reads one stream of {@value #TOKENS} tokens and counts as {@value #TOKENS} operations, so with
+ * {@code -prof gc} the <i>gc.alloc.rate.norm</i> metric is the number of bytes allocated per token. It includes the
+ * allocations of the server, which are the same for both transports.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingTransportBenchmark {
+
+    static final int TOKENS = 512;
+
+    @Param({StreamingTransports.NATIVE, StreamingTransports.OKHTTP})
+    String transport;
+
+    private StreamServer server;
+    private StreamingChatLanguageModel model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new StreamServer(TOKENS, 0);
+        model = StreamingTransports.create(transport, server);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public Response<AiMessage> stream(Blackhole blackhole) {
+        return StreamingTransports.stream(model, blackhole::consume).join();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * The transports compared by the streaming benchmarks.
+ */
+final class StreamingTransports {
+
+    static final String NATIVE = "native";
+    static final String OKHTTP = "okhttp";
+
+    private StreamingTransports() {
+    }
+
+    /**
+     * Creates a model streaming from the given server.
+     *
+     * @param transport {@link #NATIVE} or {@link #OKHTTP}
+     * @param server    the server
+     * @return the model
+     */
+    static StreamingChatLanguageModel create(String transport, StreamServer server) {
+        switch (transport) {
+        case NATIVE:
+            return HttpStreamingChatModel.builder()
+                    .dialect(Dialect.OPEN_AI)
+                    .baseUrl(server.baseUrl())
+                    .apiKey("benchmark")
+                    .modelName("gpt-4o-mini")
+                    // The local server speaks HTTP/1.1 only, skip the upgrade attempt
+                    .httpClient(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build())
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+        case OKHTTP:
+            return OpenAiStreamingChatModel.builder()
+                    .baseUrl(server.baseUrl())
+                    .apiKey("benchmark")
+                    .modelName("gpt-4o-mini")
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+        default:
+            throw new IllegalArgumentException("Unknown transport " + transport);
+        }
+    }
+
+    /**
+     * Starts a stream.
+     *
+     * @param model   the model
+     * @param onToken invoked with every token
+     * @return completed with the response when the stream ends
+     */
+    static CompletableFuture<Response<AiMessage>> stream(StreamingChatLanguageModel model, Consumer<String> onToken) {
+        CompletableFuture<Response<AiMessage>> result = new CompletableFuture<>();
+        model.generate("Tell me a story", new StreamingResponseHandler<AiMessage>() {
+            @Override
+            public void onNext(String token) {
+                onToken.accept(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+}
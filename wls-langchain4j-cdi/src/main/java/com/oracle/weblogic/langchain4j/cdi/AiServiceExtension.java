@@ -16,18 +16,27 @@
 
 package com.oracle.weblogic.langchain4j.cdi;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.oracle.weblogic.langchain4j.api.Ai;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.literal.NamedLiteral;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.inject.spi.WithAnnotations;
+import jakarta.inject.Named;
+
+import dev.langchain4j.agent.tool.Tool;
 
 /**
  * This class leverages CDI (Contexts and Dependency Injection) to dynamically produce declarative AI services.
@@ -35,6 +44,7 @@ import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 public class AiServiceExtension implements Extension {
 
     private final Set<Class<?>> aiServiceInterfaces = new HashSet<>();
+    private final ToolRegistry toolRegistry = new ToolRegistry();
 
     /**
      * Public no-arg constructor is required by {@link java.util.ServiceLoader}.
@@ -57,6 +67,26 @@ public class AiServiceExtension implements Extension {
         }
     }
 
+    /**
+     * Observer method for the {@link ProcessAnnotatedType} event of types declaring methods annotated with
+     * {@link Tool}. The tool methods are registered in the {@link ToolRegistry} shared by all AI services, so
+     * the bean registry does not have to be scanned for tools when the services are created.
+     *
+     * @param pat the {@link ProcessAnnotatedType} event that contains metadata about the annotated type being processed
+     * @param <T> the type of the annotated class being processed
+     */
+    public <T> void processToolType(@Observes @WithAnnotations(Tool.class) ProcessAnnotatedType<T> pat) {
+        AnnotatedType<T> annotatedType = pat.getAnnotatedType();
+        List<Method> toolMethods = new ArrayList<>();
+        for (var method : annotatedType.getMethods()) {
+            var javaMethod = method.getJavaMember();
+            if (method.isAnnotationPresent(Tool.class) && javaMethod.getDeclaringClass() == annotatedType.getJavaClass()) {
+                toolMethods.add(javaMethod);
+            }
+        }
+        toolRegistry.register(annotatedType.getJavaClass(), toolMethods);
+    }
+
     /**
      * Invoked during the CDI lifecycle after the bean discovery process is complete. This method creates
      * implementations for all interfaces stored by the {@link #processAnnotatedType} method and registers them in the CDI
@@ -76,4 +106,44 @@ public class AiServiceExtension implements Extension {
                     });
         }
     }
+
+    /**
+     * Invoked after the deployment is validated. If <i>langchain4j.warmup.enabled</i> is set to <i>true</i>, every AI
+     * service and every bean registered by {@link ConditionalProduce} producers is created in parallel, and models
+     * receive a probe call to open their connections. See {@link WarmUp} for the available options.
+     *
+     * @param adv         the {@link AfterDeploymentValidation} event
+     * @param beanManager the {@link BeanManager} used to create the beans
+     */
+    public void afterDeploymentValidation(@Observes AfterDeploymentValidation adv, BeanManager beanManager) {
+        var conditionalProduceExtension = beanManager.getExtension(ConditionalProduceExtension.class);
+        var configuration = conditionalProduceExtension.configuration();
+        if (!configuration.getBoolean(WarmUp.ENABLED).orElse(false)) {
+            return;
+        }
+        var lookup = beanManager.createInstance();
+        var warmUp = new WarmUp(configuration);
+        for (var producerMethod : conditionalProduceExtension.registeredProducerMethods()) {
+            var named = producerMethod.getAnnotation(Named.class);
+            if (named != null) {
+                warmUp.add(named.value(), () -> lookup.select(Object.class, NamedLiteral.of(named.value())).get(), true);
+            } else {
+                warmUp.add(producerMethod.getReturnType().getName(),
+                           () -> lookup.select(producerMethod.getReturnType()).get(), true);
+            }
+        }
+        for (Class<?> aiServiceInterface : aiServiceInterfaces) {
+            warmUp.add(aiServiceInterface.getName(), () -> lookup.select(aiServiceInterface).get(), false);
+        }
+        warmUp.run();
+    }
+
+    /**
+     * Returns the registry of tools found during bean discovery.
+     *
+     * @return the tool registry
+     */
+    ToolRegistry toolRegistry() {
+        return toolRegistry;
+    }
 }
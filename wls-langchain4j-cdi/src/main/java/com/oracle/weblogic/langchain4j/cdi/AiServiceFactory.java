@@ -16,18 +16,27 @@
 
 package com.oracle.weblogic.langchain4j.cdi;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import com.oracle.weblogic.langchain4j.api.Ai;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.literal.NamedLiteral;
 import jakarta.enterprise.inject.spi.BeanManager;
-import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
 
-import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.chat.ChatLanguageModel;
@@ -35,6 +44,7 @@ import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.service.AiServices;
 
 /**
@@ -47,20 +57,55 @@ import dev.langchain4j.service.AiServices;
  * <p>Typically, this bean is not directly accessed by application developers. Instead, it operates behind the scenes
  * to ensure that AI services are correctly instantiated and integrated into the CDI context, allowing developers to
  * focus on defining and using these services.</p>
+ *
+ * <p>Methods returning {@code CompletableFuture} or {@code CompletionStage} are run on an executor, see
+ * {@link AsyncAiService}. The executor is configured with the following properties:</p>
+ * <ul>
+ *     <li><i>langchain4j.async.executor</i> - name of an {@link Executor} bean to use, for example a managed
+ *     executor service.</li>
+ *     <li><i>langchain4j.async.virtual-threads</i> - whether to run each call on a new virtual thread when the
+ *     runtime supports them, <i>true</i> by default.</li>
+ *     <li><i>langchain4j.async.pool-size</i> - size of the platform thread pool used otherwise, the number of
+ *     processors by default.</li>
+ * </ul>
+ *
+ * <p>When <i>langchain4j.cache.chat.enabled</i> is <i>true</i>, the chat model of each service is wrapped with
+ * {@link CachingChatLanguageModel}, and when <i>langchain4j.cache.semantic.enabled</i> is <i>true</i> with
+ * {@link SemanticCachingChatLanguageModel}.</p>
+ *
+ * <p>When <i>langchain4j.tools.parallel.enabled</i> is <i>true</i>, the tool calls requested by the model in one turn
+ * run concurrently, see {@link ParallelToolExecution}.</p>
+ *
+ * <p>When <i>langchain4j.jfr.enabled</i> is <i>true</i>, the services and their content retrievers emit JDK Flight
+ * Recorder events, see {@link JfrEvents}.</p>
+ *
+ * <p>The tokens streamed to the services annotated with {@link Ai.TokenCoalescing} are coalesced, see
+ * {@link CoalescingStreamingChatLanguageModel}. The tokens held back too long are passed on from the executor of the
+ * asynchronous methods.</p>
  */
 @ApplicationScoped
 class AiServiceFactory {
 
     private static final Logger LOGGER = Logger.getLogger(AiServiceFactory.class.getName());
     private BeanManager beanManager;
+    private ToolRegistry toolRegistry;
+    private Configuration configuration;
+    private Executor asyncExecutor;
+    private ExecutorService ownedExecutor;
+    private ExecutorService toolExecutor;
+    private ScheduledExecutorService coalescingScheduler;
+    private WTinyLfuCache<String, Object> chatCache;
+    private final List<SemanticCachingChatLanguageModel> semanticCaches = new ArrayList<>();
 
     // Required by CDI
     protected AiServiceFactory() {
     }
             
     @Inject
-    public AiServiceFactory(BeanManager beanManager) {
+    public AiServiceFactory(BeanManager beanManager, Configuration configuration) {
         this.beanManager = beanManager;
+        this.toolRegistry = beanManager.getExtension(AiServiceExtension.class).toolRegistry();
+        this.configuration = configuration;
     }
 
     /**
@@ -75,25 +120,37 @@ class AiServiceFactory {
         var serviceAnnotation = serviceInterface.getAnnotation(Ai.Service.class);
         var autoDiscoveryMode = serviceAnnotation.autoDiscovery();
 
+        var parallelTools = ParallelToolExecution.isEnabled(configuration)
+                ? ParallelToolExecution.create(configuration, this::toolExecutor)
+                : null;
+
         var chatModelAnnotation = serviceInterface.getAnnotation(Ai.ChatModel.class);
         if (chatModelAnnotation == null) {
             var instance = BeanResolver.instance(ChatLanguageModel.class);
             if (autoDiscoveryMode && !instance.isUnsatisfied()) {
-                builder.chatLanguageModel(instance.get());
+                builder.chatLanguageModel(chatLanguageModel(serviceInterface, instance.get(), BeanName.AUTO_DISCOVER,
+                                                            parallelTools));
             }
         } else {
-            builder.chatLanguageModel(BeanResolver.resolve(ChatLanguageModel.class, chatModelAnnotation.value()));
+            builder.chatLanguageModel(chatLanguageModel(serviceInterface,
+                                                        BeanResolver.resolve(ChatLanguageModel.class,
+                                                                             chatModelAnnotation.value()),
+                                                        chatModelAnnotation.value(),
+                                                        parallelTools));
         }
 
         var streamingChatModelAnnotation = serviceInterface.getAnnotation(Ai.StreamingChatModel.class);
         if (streamingChatModelAnnotation == null) {
             var instance = BeanResolver.instance(StreamingChatLanguageModel.class);
             if (autoDiscoveryMode && !instance.isUnsatisfied()) {
-                builder.streamingChatLanguageModel(instance.get());
+                builder.streamingChatLanguageModel(streamingChatLanguageModel(serviceInterface, instance.get(),
+                                                                              parallelTools));
             }
         } else {
-            builder.streamingChatLanguageModel(BeanResolver.resolve(StreamingChatLanguageModel.class,
-                                                                    streamingChatModelAnnotation.value()));
+            builder.streamingChatLanguageModel(streamingChatLanguageModel(
+                    serviceInterface,
+                    BeanResolver.resolve(StreamingChatLanguageModel.class, streamingChatModelAnnotation.value()),
+                    parallelTools));
         }
 
         var chatMemoryAnnotation = serviceInterface.getAnnotation(Ai.ChatMemory.class);
@@ -111,9 +168,11 @@ class AiServiceFactory {
             var instance = BeanResolver.instance(ChatMemoryProvider.class);
             if (autoDiscoveryMode && !instance.isUnsatisfied()) {
                 builder.chatMemoryProvider(instance.get());
+                unpinMemories(builder, null);
             }
         } else {
             builder.chatMemoryProvider(BeanResolver.resolve(ChatMemoryProvider.class, chatMemoryProviderAnnotation.value()));
+            unpinMemories(builder, chatMemoryProviderAnnotation.value());
         }
 
         var moderationModelAnnotation = serviceInterface.getAnnotation(Ai.ModerationModel.class);
@@ -140,47 +199,183 @@ class AiServiceFactory {
         if (contentRetrieverAnnotation == null) {
             var instance = BeanResolver.instance(ContentRetriever.class);
             if (autoDiscoveryMode && !instance.isUnsatisfied()) {
-                builder.contentRetriever(instance.get());
+                builder.contentRetriever(contentRetriever(instance.get(), BeanName.AUTO_DISCOVER));
             }
         } else {
-            builder.contentRetriever(BeanResolver.resolve(ContentRetriever.class, contentRetrieverAnnotation.value()));
+            builder.contentRetriever(contentRetriever(BeanResolver.resolve(ContentRetriever.class,
+                                                                           contentRetrieverAnnotation.value()),
+                                                      contentRetrieverAnnotation.value()));
         }
 
         var toolsAnnotation = serviceInterface.getAnnotation(Ai.Tools.class);
-        var tools = resolveTools(toolsAnnotation != null ? toolsAnnotation.value() : null);
+        var tools = toolsAnnotation != null ? toolRegistry.tools(toolsAnnotation.value()) : toolRegistry.tools();
         if (!tools.isEmpty()) {
-            builder.tools(tools);
+            builder.tools(parallelTools != null ? parallelTools.tools(tools) : tools);
         } else {
             LOGGER.warning("No Tools were found in " + serviceInterface.getName());
         }
 
-        return serviceInterface.cast(builder.build());
+        var service = serviceInterface.cast(builder.build());
+        if (parallelTools != null) {
+            service = parallelTools.service(serviceInterface, service);
+        }
+        if (JfrEvents.isEnabled(configuration)) {
+            service = JfrAiService.wrap(serviceInterface, service);
+        }
+        for (var method : serviceInterface.getMethods()) {
+            if (AsyncAiService.isAsync(method)) {
+                return AsyncAiService.wrap(serviceInterface, service, asyncExecutor());
+            }
+        }
+        return service;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        semanticCaches.forEach(SemanticCachingChatLanguageModel::logStatistics);
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+            ownedExecutor = null;
+        }
+        if (toolExecutor != null) {
+            toolExecutor.shutdown();
+            toolExecutor = null;
+        }
+        if (coalescingScheduler != null) {
+            coalescingScheduler.shutdown();
+            coalescingScheduler = null;
+        }
+    }
+
+    private StreamingChatLanguageModel streamingChatLanguageModel(Class<?> serviceInterface,
+                                                                  StreamingChatLanguageModel model,
+                                                                  ParallelToolExecution parallelTools) {
+        if (parallelTools != null && model != null) {
+            model = parallelTools.streamingChatLanguageModel(model);
+        }
+        // Outermost, so only the tokens reaching the service are coalesced
+        return CoalescingStreamingChatLanguageModel.wrap(model, serviceInterface, this::coalescingScheduler,
+                                                         this::asyncExecutor);
     }
 
-    private List<Object> resolveTools(Class<?>[] classes) {
-        if (classes == null) {
-            return resolveTools();
+    private ChatLanguageModel chatLanguageModel(Class<?> serviceInterface,
+                                                ChatLanguageModel model,
+                                                String name,
+                                                ParallelToolExecution parallelTools) {
+        if (model == null) {
+            return null;
+        }
+        if (configuration.getBoolean(SemanticCachingChatLanguageModel.ENABLED).orElse(false)) {
+            var semanticCache = SemanticCachingChatLanguageModel.wrap(model, serviceInterface, configuration);
+            synchronized (this) {
+                semanticCaches.add(semanticCache);
+            }
+            model = semanticCache;
         }
+        if (configuration.getBoolean(CachingChatLanguageModel.ENABLED).orElse(false)) {
+            // Checked before the semantic cache, as a hash is cheaper than an embedding
+            String beanName = name;
+            if (BeanName.AUTO_DISCOVER.equals(name)) {
+                var bean = beanManager.resolve(beanManager.getBeans(ChatLanguageModel.class));
+                beanName = bean != null ? bean.getName() : null;
+            }
+            var prefix = beanName != null
+                    ? beanManager.getExtension(ConditionalProduceExtension.class).prefix(beanName)
+                    : Optional.<String>empty();
+            model = CachingChatLanguageModel.wrap(model, beanName, prefix, configuration, chatCache());
+        }
+        // Outermost, so tool requests of cached responses are started as well
+        return parallelTools != null ? parallelTools.chatLanguageModel(model) : model;
+    }
+
+    // The provider is a client proxy, so it is recognized by the properties it was produced from
+    private void unpinMemories(AiServices<?> builder, String name) {
+        var beans = name == null
+                ? beanManager.getBeans(ChatMemoryProvider.class)
+                : beanManager.getBeans(ChatMemoryProvider.class, NamedLiteral.of(name));
+        var bean = beanManager.resolve(beans);
+        if (bean != null && bean.getName() != null
+                && beanManager.getExtension(ConditionalProduceExtension.class).prefix(bean.getName())
+                        .filter(ShardedChatMemoryProvider.PREFIX::equals)
+                        .isPresent()) {
+            ShardedChatMemoryProvider.unpinMemories(builder);
+        }
+    }
+
+    private ContentRetriever contentRetriever(ContentRetriever retriever, String name) {
+        if (retriever == null || !JfrEvents.isEnabled(configuration)) {
+            return retriever;
+        }
+        String retrieverName = BeanName.AUTO_DISCOVER.equals(name) ? retriever.getClass().getName() : name;
+        String store = retriever instanceof EmbeddingStoreContentRetriever
+                ? configuration.getString("langchain4j.rag.embedding-store").orElse(null)
+                : null;
+        return new JfrContentRetriever(retriever, retrieverName, store);
+    }
+
+    private synchronized WTinyLfuCache<String, Object> chatCache() {
+        if (chatCache == null) {
+            chatCache = CachingChatLanguageModel.createCache(configuration);
+        }
+        return chatCache;
+    }
+
+    private synchronized ScheduledExecutorService coalescingScheduler() {
+        if (coalescingScheduler == null) {
+            var scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "wls-langchain4j-token-coalescing");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Most timers are cancelled because the buffer filled up first
+            scheduler.setRemoveOnCancelPolicy(true);
+            coalescingScheduler = scheduler;
+        }
+        return coalescingScheduler;
+    }
+
+    private synchronized Executor asyncExecutor() {
+        if (asyncExecutor == null) {
+            var executorName = configuration.getString("langchain4j.async.executor");
+            if (executorName.isPresent()) {
+                asyncExecutor = BeanResolver.resolve(Executor.class, BeanName.create(executorName.get()));
+            } else {
+                ownedExecutor = createExecutor("Asynchronous AI service methods",
+                                               "langchain4j.async.pool-size",
+                                               "wls-langchain4j-async-");
+                asyncExecutor = ownedExecutor;
+            }
+        }
+        return asyncExecutor;
+    }
 
-        var cdi = CDI.current();
-        var tools = new ArrayList<Object>();
-        for (var cls : classes) {
-            tools.add(cdi.select(cls).get());
+    // Tools get their own executor, an asynchronous method waiting for its tools cannot take all the threads
+    private synchronized ExecutorService toolExecutor() {
+        if (toolExecutor == null) {
+            toolExecutor = createExecutor("Tools", ParallelToolExecution.POOL_SIZE, "wls-langchain4j-tool-");
         }
-        return tools;
+        return toolExecutor;
     }
 
-    private List<Object> resolveTools() {
-        var tools = new ArrayList<Object>();
-        var beans = beanManager.getBeans(Object.class);
-        for (var bean : beans) {
-            var beanClass = bean.getBeanClass();
-            for (var method : beanClass.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(Tool.class)) {
-                    tools.add(beanManager.getReference(bean, beanClass, beanManager.createCreationalContext(bean)));
-                }
+    private ExecutorService createExecutor(String tasks, String poolSizeKey, String threadName) {
+        if (configuration.getBoolean("langchain4j.async.virtual-threads").orElse(true)) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                LOGGER.fine(tasks + " run on virtual threads");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.fine("Virtual threads are not available, using a platform thread pool");
             }
         }
-        return tools;
+        int poolSize = configuration.getInteger(poolSizeKey)
+                .orElse(Runtime.getRuntime().availableProcessors());
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, r -> {
+            Thread thread = new Thread(r, threadName + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
     }
 }
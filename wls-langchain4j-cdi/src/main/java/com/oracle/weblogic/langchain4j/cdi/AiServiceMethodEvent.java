@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event of an invocation of an AI service method, spanning the model calls, tool executions and
+ * retrievals it triggers. The stack trace is recorded, so the caller of the service can be identified.
+ */
+@Name("wls.langchain4j.AiServiceMethod")
+@Label("AI Service Method")
+@Category({"WebLogic", "LangChain4j"})
+@Description("Invocation of an AI service method")
+final class AiServiceMethodEvent extends Event {
+
+    @Label("Service")
+    Class<?> service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Error")
+    @Description("Class of the exception if the invocation failed")
+    String error;
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Implements the asynchronous methods of an AI service on top of its blocking methods.
+ *
+ * <p>A method returning {@link CompletableFuture} or {@link CompletionStage} whose name ends with {@code Async} is
+ * implemented by running the method with the same name without the suffix and the same parameter types on an
+ * executor. For example {@code CompletableFuture<String> chatAsync(String question)} runs
+ * {@code String chat(String question)}, so the calling thread is released while the model is generating. Other
+ * methods are invoked directly on the service.</p>
+ */
+final class AsyncAiService implements InvocationHandler {
+
+    private static final String SUFFIX = "Async";
+
+    private final Object service;
+    private final Map<Method, Method> blockingMethods;
+    private final Executor executor;
+
+    private AsyncAiService(Object service, Map<Method, Method> blockingMethods, Executor executor) {
+        this.service = service;
+        this.blockingMethods = blockingMethods;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns whether the given method is implemented asynchronously.
+     *
+     * @param method the method of the AI service interface
+     * @return {@code true} if the method returns a {@link CompletableFuture} or {@link CompletionStage}
+     */
+    static boolean isAsync(Method method) {
+        return method.getReturnType() == CompletableFuture.class || method.getReturnType() == CompletionStage.class;
+    }
+
+    /**
+     * Wraps the service if its interface declares asynchronous methods.
+     *
+     * @param serviceInterface the AI service interface
+     * @param service          the implementation created by LangChain4J
+     * @param executor         the executor running the blocking methods
+     * @param <T>              the type of the AI service
+     * @return the wrapped service, or the service itself if there are no asynchronous methods
+     */
+    static <T> T wrap(Class<T> serviceInterface, T service, Executor executor) {
+        Map<Method, Method> blockingMethods = new HashMap<>();
+        for (Method method : serviceInterface.getMethods()) {
+            if (isAsync(method)) {
+                blockingMethods.put(method, blockingMethod(serviceInterface, method));
+            }
+        }
+        if (blockingMethods.isEmpty()) {
+            return service;
+        }
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+                                                            new Class<?>[] {serviceInterface},
+                                                            new AsyncAiService(service, blockingMethods, executor)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Method blockingMethod = blockingMethods.get(method);
+        if (blockingMethod == null) {
+            return invokeService(method, args);
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(invokeService(blockingMethod, args));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Method blockingMethod(Class<?> serviceInterface, Method asyncMethod) {
+        String name = asyncMethod.getName();
+        if (name.endsWith(SUFFIX) && name.length() > SUFFIX.length()) {
+            try {
+                Method method = serviceInterface.getMethod(name.substring(0, name.length() - SUFFIX.length()),
+                                                           asyncMethod.getParameterTypes());
+                if (!isAsync(method)) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // Reported below
+            }
+        }
+        throw new IllegalStateException("Asynchronous method " + serviceInterface.getName() + "." + name
+                + " must be named <method>Async, and " + serviceInterface.getName()
+                + " must declare the blocking <method> with the same parameters");
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Coalesces concurrent single-text calls to an {@link EmbeddingModel} into one {@link EmbeddingModel#embedAll(List)}
+ * call.
+ *
+ * <p>Batching is configured per model with the prefix of its {@link ConditionalProduce} key, for example:</p>
+ * <pre>
+ * langchain4j.open-ai.embedding-model.batch.enabled=true
+ * langchain4j.open-ai.embedding-model.batch.max-size=64
+ * langchain4j.open-ai.embedding-model.batch.window=2
+ * </pre>
+ * <ul>
+ *     <li><i>batch.max-size</i> - maximum number of texts per batch, 64 by default.</li>
+ *     <li><i>batch.window</i> - time in milliseconds a batch waits for more texts, 2 by default.</li>
+ * </ul>
+ * <p>The first caller of a batch sends it on its own thread, and the other callers wait for their vector. The
+ * window only applies while another batch is in flight, so a call arriving on an idle model is sent immediately and
+ * light traffic does not pay for the window. Calls embedding several texts are sent as they are. The token usage of a
+ * batch is not attributed to its callers.</p>
+ */
+final class BatchingEmbeddingModel implements EmbeddingModel {
+
+    static final String ENABLED = ".batch.enabled";
+    static final String MAX_SIZE = ".batch.max-size";
+    static final String WINDOW = ".batch.window";
+
+    private final EmbeddingModel delegate;
+    private final int maxSize;
+    private final long windowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Object lock = new Object();
+    private Batch pending;
+
+    private BatchingEmbeddingModel(EmbeddingModel delegate, int maxSize, long windowNanos) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Returns whether batching is configured for the given prefix.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return {@code true} if <i>batch.enabled</i> is <i>true</i>
+     */
+    static boolean isConfigured(String prefix, Configuration configuration) {
+        return configuration.getBoolean(prefix + ENABLED).orElse(false);
+    }
+
+    /**
+     * Wraps an embedding model bean.
+     *
+     * @param delegate      the embedding model
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return the batching model
+     */
+    static BatchingEmbeddingModel create(EmbeddingModel delegate, String prefix, Configuration configuration) {
+        int maxSize = configuration.getInteger(prefix + MAX_SIZE).orElse(64);
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(prefix + MAX_SIZE + " must be greater than 0");
+        }
+        long window = configuration.getLong(prefix + WINDOW).orElse(2L);
+        return new BatchingEmbeddingModel(delegate, maxSize, TimeUnit.MILLISECONDS.toNanos(window));
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        if (textSegments.size() != 1) {
+            return delegate.embedAll(textSegments);
+        }
+        Batch batch;
+        int index;
+        boolean leader = false;
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new Batch();
+                leader = true;
+            }
+            batch = pending;
+            index = batch.segments.size();
+            batch.segments.add(textSegments.get(0));
+            if (batch.segments.size() >= maxSize) {
+                pending = null;
+                lock.notifyAll();
+            }
+        }
+        if (leader) {
+            awaitBatch(batch);
+            send(batch);
+        }
+        try {
+            return Response.from(List.of(batch.result.join().get(index)));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    private void awaitBatch(Batch batch) {
+        synchronized (lock) {
+            if (inFlight.get() > 0) {
+                long deadline = System.nanoTime() + windowNanos;
+                long remaining = windowNanos;
+                while (pending == batch && remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+            }
+            if (pending == batch) {
+                pending = null;
+            }
+        }
+    }
+
+    private void send(Batch batch) {
+        inFlight.incrementAndGet();
+        try {
+            List<Embedding> embeddings = delegate.embedAll(batch.segments).content();
+            if (embeddings.size() != batch.segments.size()) {
+                throw new IllegalStateException("Embedding model returned " + embeddings.size() + " vectors for "
+                                                        + batch.segments.size() + " texts");
+            }
+            batch.result.complete(embeddings);
+        } catch (Throwable e) {
+            // Followers wait on the result, it must complete whatever the failure
+            batch.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static final class Batch {
+        // Guarded by the lock until the batch is sent
+        private final List<TextSegment> segments = new ArrayList<>();
+        private final CompletableFuture<List<Embedding>> result = new CompletableFuture<>();
+    }
+}
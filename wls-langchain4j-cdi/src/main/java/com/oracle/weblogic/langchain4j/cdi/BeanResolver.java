@@ -16,16 +16,31 @@
 
 package com.oracle.weblogic.langchain4j.cdi;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.enterprise.util.TypeLiteral;
 
 /**
  * Provides helper methods for resolving beans.
+ *
+ * <p>Resolutions are cached, so repeated lookups do not go through {@code CDI.current().select(...)} again.
+ * {@link Instance} handles are always cached. Resolved beans are cached only when they belong to a normal scope,
+ * because their contextual reference is a client proxy that stays valid for the lifetime of the container.
+ * {@code @Dependent} and other pseudo-scoped beans are looked up on every call. The cache is cleared when the
+ * container shuts down.</p>
  */
 public final class BeanResolver {
 
+    private static final Object NOT_CACHEABLE = new Object();
+    private static final Map<Key, Object> CACHE = new ConcurrentHashMap<>();
+
     private BeanResolver() {
     }
 
@@ -59,7 +74,7 @@ public final class BeanResolver {
      */
     public static <T> T resolve(TypeLiteral<T> typeLiteral, BeanName beanName) {
         if (beanName == null || beanName.isAutoDiscover()) {
-            return instance(typeLiteral).get();
+            return reference(new Key(Kind.REFERENCE, typeLiteral.getType(), null), instance(typeLiteral));
         } else {
             return resolve(typeLiteral, beanName.name());
         }
@@ -72,8 +87,10 @@ public final class BeanResolver {
      * @param type the class of the bean to retrieve
      * @return an {@link Instance} of the specified bean type
      */
+    @SuppressWarnings("unchecked")
     public static <T> Instance<T> instance(Class<T> type) {
-        return CDI.current().select(type);
+        return (Instance<T>) CACHE.computeIfAbsent(new Key(Kind.INSTANCE, type, null),
+                                                   k -> CDI.current().select(type));
     }
 
     /**
@@ -83,8 +100,10 @@ public final class BeanResolver {
      * @param type the {@link TypeLiteral} of the bean to retrieve
      * @return an {@link Instance} of the specified type literal
      */
+    @SuppressWarnings("unchecked")
     public static <T> Instance<T> instance(TypeLiteral<T> type) {
-        return CDI.current().select(type);
+        return (Instance<T>) CACHE.computeIfAbsent(new Key(Kind.INSTANCE, type.getType(), null),
+                                                   k -> CDI.current().select(type));
     }
 
     /**
@@ -95,7 +114,7 @@ public final class BeanResolver {
      * @return the resolved bean instance
      */
     public static <T> T resolve(Class<T> type) {
-        return instance(type).get();
+        return reference(new Key(Kind.REFERENCE, type, null), instance(type));
     }
 
     /**
@@ -106,9 +125,11 @@ public final class BeanResolver {
      * @param name the name of the bean
      * @return the resolved bean instance
      */
+    @SuppressWarnings("unchecked")
     public static <T> T resolve(Class<T> type, String name) {
-        var instance = CDI.current().select(type, NamedLiteral.of(name));
-        return instance.get();
+        var instance = (Instance<T>) CACHE.computeIfAbsent(new Key(Kind.INSTANCE, type, name),
+                                                           k -> CDI.current().select(type, NamedLiteral.of(name)));
+        return reference(new Key(Kind.REFERENCE, type, name), instance);
     }
 
     /**
@@ -119,9 +140,46 @@ public final class BeanResolver {
      * @param name        the name of the bean
      * @return the resolved bean instance
      */
+    @SuppressWarnings("unchecked")
     public static <T> T resolve(TypeLiteral<T> typeLiteral, String name) {
-        var instance = CDI.current().select(typeLiteral, NamedLiteral.of(name));
-        return instance.get();
+        var instance = (Instance<T>) CACHE.computeIfAbsent(new Key(Kind.INSTANCE, typeLiteral.getType(), name),
+                                                           k -> CDI.current().select(typeLiteral, NamedLiteral.of(name)));
+        return reference(new Key(Kind.REFERENCE, typeLiteral.getType(), name), instance);
+    }
+
+    /**
+     * Removes all cached resolutions. Invoked when the container shuts down.
+     */
+    static void clear() {
+        CACHE.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T reference(Key key, Instance<T> instance) {
+        var cached = CACHE.get(key);
+        if (cached == NOT_CACHEABLE) {
+            return instance.get();
+        } else if (cached != null) {
+            return (T) cached;
+        }
+        T reference = instance.get();
+        CACHE.putIfAbsent(key, isNormalScoped(key) ? reference : NOT_CACHEABLE);
+        return reference;
+    }
+
+    private static boolean isNormalScoped(Key key) {
+        BeanManager beanManager = CDI.current().getBeanManager();
+        Annotation[] qualifiers = key.name == null ? new Annotation[0] : new Annotation[] {NamedLiteral.of(key.name)};
+        var bean = beanManager.resolve(beanManager.getBeans(key.type, qualifiers));
+        return bean != null && beanManager.isNormalScope(bean.getScope());
+    }
+
+    private enum Kind {
+        INSTANCE,
+        REFERENCE
+    }
+
+    private record Key(Kind kind, Type type, String name) {
     }
 }
 
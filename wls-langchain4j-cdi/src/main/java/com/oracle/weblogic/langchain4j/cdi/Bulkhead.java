@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+/**
+ * Limits the number of concurrent calls to a model bean.
+ *
+ * <p>A bulkhead is configured per model with the prefix of its {@link ConditionalProduce} key, for example:</p>
+ * <pre>
+ * langchain4j.ollama.chat-model.max-concurrent=4
+ * langchain4j.ollama.chat-model.max-queue=16
+ * </pre>
+ * <ul>
+ *     <li><i>max-concurrent</i> - number of calls running at the same time. The bulkhead is enabled by this
+ *     property.</li>
+ *     <li><i>max-queue</i> - number of calls waiting for a permit, 0 by default. When the queue is full the call
+ *     fails immediately with {@link BulkheadFullException}.</li>
+ * </ul>
+ * <p>Waiting calls are served in arrival order. The bulkhead of a model is obtained by its bean name with
+ * {@link #of(String)}.</p>
+ */
+public final class Bulkhead {
+
+    static final String MAX_CONCURRENT = ".max-concurrent";
+    static final String MAX_QUEUE = ".max-queue";
+
+    private static final Map<String, Bulkhead> BULKHEADS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private Bulkhead(String name, int maxConcurrent, int maxQueue) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Returns whether a bulkhead is configured for the given prefix.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return {@code true} if <i>max-concurrent</i> is set
+     */
+    static boolean isConfigured(String prefix, Configuration configuration) {
+        return configuration.getInteger(prefix + MAX_CONCURRENT).isPresent();
+    }
+
+    /**
+     * Creates the bulkhead of a model and registers it under the bean name, replacing the previous one.
+     *
+     * @param name          the bean name of the model
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return the bulkhead, or {@code null} if it is not configured
+     */
+    static Bulkhead create(String name, String prefix, Configuration configuration) {
+        Optional<Integer> maxConcurrent = configuration.getInteger(prefix + MAX_CONCURRENT);
+        if (maxConcurrent.isEmpty()) {
+            return null;
+        }
+        if (maxConcurrent.get() < 1) {
+            throw new IllegalArgumentException(prefix + MAX_CONCURRENT + " must be greater than 0");
+        }
+        int maxQueue = configuration.getInteger(prefix + MAX_QUEUE).orElse(0);
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException(prefix + MAX_QUEUE + " must not be negative");
+        }
+        Bulkhead bulkhead = new Bulkhead(name, maxConcurrent.get(), maxQueue);
+        BULKHEADS.put(name, bulkhead);
+        return bulkhead;
+    }
+
+    /**
+     * Returns the bulkhead of a model.
+     *
+     * @param name the bean name of the model
+     * @return the bulkhead, or empty if the model has no bulkhead
+     */
+    public static Optional<Bulkhead> of(String name) {
+        return Optional.ofNullable(BULKHEADS.get(name));
+    }
+
+    /**
+     * Removes all the registered bulkheads. Invoked when the container shuts down.
+     */
+    static void clear() {
+        BULKHEADS.clear();
+    }
+
+    /**
+     * Returns the bean name of the model.
+     *
+     * @return the bean name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the maximum number of concurrent calls.
+     *
+     * @return the maximum number of concurrent calls
+     */
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Returns the maximum number of waiting calls.
+     *
+     * @return the maximum number of waiting calls
+     */
+    public int maxQueue() {
+        return maxQueue;
+    }
+
+    /**
+     * Returns the number of calls running.
+     *
+     * @return the number of calls running
+     */
+    public int activeCalls() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls waiting for a permit.
+     *
+     * @return the current queue depth
+     */
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Acquires a permit, waiting in the queue if all the permits are taken.
+     *
+     * @throws BulkheadFullException if the queue is full
+     */
+    void acquire() {
+        // Timed tryAcquire honours fairness, so a free permit is not taken ahead of queued calls
+        try {
+            if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                throw new BulkheadFullException("Bulkhead of " + name + " is full, " + maxConcurrent
+                        + " calls running and " + maxQueue + " waiting");
+            }
+            try {
+                permits.acquire();
+            } finally {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the bulkhead of " + name, e);
+        }
+    }
+
+    /**
+     * Releases a permit acquired by {@link #acquire()}.
+     */
+    void release() {
+        permits.release();
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead[" + name + ", active=" + activeCalls() + "/" + maxConcurrent
+                + ", queued=" + queueDepth() + "/" + maxQueue + "]";
+    }
+}
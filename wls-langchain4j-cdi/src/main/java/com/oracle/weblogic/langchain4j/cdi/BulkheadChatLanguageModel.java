@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+
+/**
+ * Runs the calls to a {@link ChatLanguageModel} inside a {@link Bulkhead}.
+ */
+final class BulkheadChatLanguageModel extends ChatLanguageModelDecorator {
+
+    private final Bulkhead bulkhead;
+
+    BulkheadChatLanguageModel(ChatLanguageModel delegate, Bulkhead bulkhead) {
+        super(delegate);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    <T> T invoke(List<ChatMessage> messages, Supplier<T> call) {
+        bulkhead.acquire();
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Returns cached responses of a {@link ChatLanguageModel} for requests identical to a previous one.
+ *
+ * <p>The cache is enabled for the chat model of every AI service by setting <i>langchain4j.cache.chat.enabled</i> to
+ * <i>true</i>. The following properties tune it:</p>
+ * <ul>
+ *     <li><i>langchain4j.cache.chat.max-size</i> - maximum number of cached responses, 1000 by default.</li>
+ *     <li><i>langchain4j.cache.chat.ttl</i> - time to live of a response in milliseconds, 600000 by default.</li>
+ *     <li><i>langchain4j.cache.chat.bypass-temperature</i> - whether models sampling with a temperature above zero,
+ *     or without a configured temperature, are not cached, <i>true</i> by default.</li>
+ *     <li><i>langchain4j.cache.chat.bypass-tools</i> - whether requests offering tools to the model are not cached,
+ *     because the tools may have side effects, <i>true</i> by default.</li>
+ * </ul>
+ * <p>The key is a SHA-256 hash of the messages, the tool specifications, the response format and the configuration
+ * properties of the model bean, so changing a model parameter does not return stale responses. Responses are kept in
+ * a {@link WTinyLfuCache} shared by all the AI services.</p>
+ */
+final class CachingChatLanguageModel implements ChatLanguageModel {
+
+    static final String ENABLED = "langchain4j.cache.chat.enabled";
+    static final String MAX_SIZE = "langchain4j.cache.chat.max-size";
+    static final String TTL = "langchain4j.cache.chat.ttl";
+    static final String BYPASS_TEMPERATURE = "langchain4j.cache.chat.bypass-temperature";
+    static final String BYPASS_TOOLS = "langchain4j.cache.chat.bypass-tools";
+
+    private static final Logger LOGGER = Logger.getLogger(CachingChatLanguageModel.class.getName());
+    private static final String TEMPERATURE = ".temperature";
+
+    private final ChatLanguageModel delegate;
+    private final WTinyLfuCache<String, Object> cache;
+    private final String model;
+    private final boolean bypassTools;
+
+    private CachingChatLanguageModel(ChatLanguageModel delegate,
+                                     WTinyLfuCache<String, Object> cache,
+                                     String model,
+                                     boolean bypassTools) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.model = model;
+        this.bypassTools = bypassTools;
+    }
+
+    /**
+     * Creates the cache shared by the AI services.
+     *
+     * @param configuration the configuration
+     * @return the cache
+     */
+    static WTinyLfuCache<String, Object> createCache(Configuration configuration) {
+        return new WTinyLfuCache<>(configuration.getInteger(MAX_SIZE).orElse(1000),
+                                   configuration.getLong(TTL).orElse(600000L));
+    }
+
+    /**
+     * Wraps the chat model of an AI service if its responses can be cached.
+     *
+     * @param delegate      the chat model
+     * @param beanName      the bean name of the chat model, may be {@code null}
+     * @param prefix        the configuration prefix of the chat model, empty if it is not produced by a factory
+     * @param configuration the configuration
+     * @param cache         the shared cache
+     * @return the caching model, or the chat model itself if it samples with a temperature above zero
+     */
+    static ChatLanguageModel wrap(ChatLanguageModel delegate,
+                                  String beanName,
+                                  Optional<String> prefix,
+                                  Configuration configuration,
+                                  WTinyLfuCache<String, Object> cache) {
+        Optional<Double> temperature = prefix.flatMap(p -> configuration.getDouble(p + TEMPERATURE));
+        if (configuration.getBoolean(BYPASS_TEMPERATURE).orElse(true)
+                && (temperature.isEmpty() || temperature.get() > 0)) {
+            String reason = temperature.isEmpty()
+                    ? "its temperature is not configured"
+                    : "its temperature is " + temperature.get();
+            LOGGER.info("Responses of " + (beanName != null ? beanName : delegate) + " are not cached because "
+                                + reason + ", set " + BYPASS_TEMPERATURE + " to false to cache them");
+            return delegate;
+        }
+        Map<String, String> parameters = prefix.map(p -> configuration.getPrefixed(p + "."))
+                .orElse(Collections.emptySortedMap());
+        String model = beanName + parameters;
+        return new CachingChatLanguageModel(delegate, cache, model,
+                                            configuration.getBoolean(BYPASS_TOOLS).orElse(true));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return cached(key("generate", messages, null, null), () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        if (toolSpecifications == null || toolSpecifications.isEmpty()) {
+            return generate(messages);
+        }
+        if (bypassTools) {
+            return delegate.generate(messages, toolSpecifications);
+        }
+        return cached(key("tools", messages, toolSpecifications, null),
+                      () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        if (bypassTools) {
+            return delegate.generate(messages, toolSpecification);
+        }
+        return cached(key("tool", messages, List.of(toolSpecification), null),
+                      () -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        List<ToolSpecification> toolSpecifications = chatRequest.toolSpecifications();
+        boolean hasTools = toolSpecifications != null && !toolSpecifications.isEmpty();
+        if (hasTools && bypassTools) {
+            return delegate.chat(chatRequest);
+        }
+        return cached(key("chat", chatRequest.messages(), hasTools ? toolSpecifications : null,
+                          chatRequest.responseFormat()),
+                      () -> delegate.chat(chatRequest));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> call) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        T result = call.get();
+        if (result != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private String key(String method,
+                       List<ChatMessage> messages,
+                       List<ToolSpecification> toolSpecifications,
+                       Object responseFormat) {
+        return Hashing.sha256(model,
+                              method,
+                              ChatMessageSerializer.messagesToJson(messages),
+                              toolSpecifications != null ? toolSpecifications.toString() : null,
+                              responseFormat != null ? responseFormat.toString() : null);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Returns the stored embedding of a text that was embedded before, instead of calling the model again.
+ *
+ * <p>The cache is enabled for every embedding model bean by setting <i>langchain4j.cache.embedding.enabled</i> to
+ * <i>true</i>. The following properties tune it:</p>
+ * <ul>
+ *     <li><i>langchain4j.cache.embedding.max-size</i> - maximum number of vectors per model, 10000 by default.</li>
+ *     <li><i>langchain4j.cache.embedding.directory</i> - directory of the files the vectors are memory-mapped from,
+ *     one per model bean, so the cache is still warm after a restart. The vectors are only kept in memory by
+ *     default.</li>
+ * </ul>
+ * <p>The key is a hash of the text together with the <i>model-name</i> and <i>dimensions</i> properties of the model
+ * bean, so changing the model does not return vectors of the previous one. Vectors are stored off-heap in an
+ * {@link EmbeddingArena}. Only the texts not found are sent to the model, in a single call.</p>
+ */
+final class CachingEmbeddingModel implements EmbeddingModel, AutoCloseable {
+
+    static final String ENABLED = "langchain4j.cache.embedding.enabled";
+    static final String MAX_SIZE = "langchain4j.cache.embedding.max-size";
+    static final String DIRECTORY = "langchain4j.cache.embedding.directory";
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingArena arena;
+    private final String model;
+
+    private CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingArena arena, String model) {
+        this.delegate = delegate;
+        this.arena = arena;
+        this.model = model;
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     *
+     * @param configuration the configuration
+     * @return {@code true} if <i>langchain4j.cache.embedding.enabled</i> is <i>true</i>
+     */
+    static boolean isEnabled(Configuration configuration) {
+        return configuration.getBoolean(ENABLED).orElse(false);
+    }
+
+    /**
+     * Wraps an embedding model bean.
+     *
+     * @param delegate      the embedding model
+     * @param name          the bean name
+     * @param prefix        the configuration prefix of the bean
+     * @param configuration the configuration
+     * @return the caching model
+     */
+    static CachingEmbeddingModel create(EmbeddingModel delegate,
+                                        String name,
+                                        String prefix,
+                                        Configuration configuration) {
+        Path file = configuration.getString(DIRECTORY)
+                .map(directory -> Path.of(directory, name.replaceAll("[^A-Za-z0-9._-]", "_") + ".embeddings"))
+                .orElse(null);
+        String model = Hashing.sha256(configuration.getString(prefix + ".model-name").orElse(name),
+                                      configuration.getString(prefix + ".dimensions").orElse(null));
+        EmbeddingArena arena = new EmbeddingArena(configuration.getInteger(MAX_SIZE).orElse(10000),
+                                                  EmbeddingArena.Key.of(model).high(),
+                                                  file);
+        return new CachingEmbeddingModel(delegate, arena, model);
+    }
+
+    /**
+     * Releases the vectors, when the model is replaced.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        List<EmbeddingArena.Key> keys = new ArrayList<>(textSegments.size());
+        List<TextSegment> missing = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+        for (int i = 0; i < textSegments.size(); i++) {
+            var key = EmbeddingArena.Key.of(Hashing.sha256(model, textSegments.get(i).text()));
+            keys.add(key);
+            float[] vector = arena.get(key);
+            if (vector == null) {
+                missing.add(textSegments.get(i));
+                missingIndexes.add(i);
+                embeddings.add(null);
+            } else {
+                embeddings.add(new Embedding(vector));
+            }
+        }
+        if (missing.isEmpty()) {
+            return Response.from(embeddings);
+        }
+        Response<List<Embedding>> response = delegate.embedAll(missing);
+        List<Embedding> computed = response.content();
+        for (int i = 0; i < computed.size(); i++) {
+            int index = missingIndexes.get(i);
+            Embedding embedding = computed.get(i);
+            embeddings.set(index, embedding);
+            arena.put(keys.get(index), embedding.vector());
+        }
+        return Response.from(embeddings, response.tokenUsage(), response.finishReason(), response.metadata());
+    }
+
+    @Override
+    public int dimension() {
+        int dimension = arena.dimension();
+        return dimension > 0 ? dimension : delegate.dimension();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
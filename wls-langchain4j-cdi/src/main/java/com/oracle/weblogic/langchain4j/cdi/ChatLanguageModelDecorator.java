@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Base class of the decorators applied to a {@link ChatLanguageModel} bean. Every call to the model goes through
+ * {@link #invoke(List, Supplier)}, the default methods of {@link ChatLanguageModel} end up in one of the overridden
+ * methods.
+ */
+abstract class ChatLanguageModelDecorator implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+
+    ChatLanguageModelDecorator(ChatLanguageModel delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the decorated model.
+     *
+     * @return the decorated model
+     */
+    ChatLanguageModel delegate() {
+        return delegate;
+    }
+
+    /**
+     * Invokes the decorated model.
+     *
+     * @param messages the messages sent to the model
+     * @param call     the call to the decorated model
+     * @param <T>      the type of the response
+     * @return the response of the model
+     */
+    abstract <T> T invoke(List<ChatMessage> messages, Supplier<T> call);
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return invoke(messages, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return invoke(messages, () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return invoke(messages, () -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return invoke(chatRequest.messages(), () -> delegate.chat(chatRequest));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    /**
+     * Returns the token usage of a response returned by {@link #invoke(List, Supplier)}.
+     *
+     * @param response the {@link Response} or {@link ChatResponse} of the model
+     * @return the token usage, or {@code null} if not reported
+     */
+    static TokenUsage tokenUsage(Object response) {
+        if (response instanceof Response) {
+            return ((Response<?>) response).tokenUsage();
+        }
+        if (response instanceof ChatResponse) {
+            return ((ChatResponse) response).tokenUsage();
+        }
+        return null;
+    }
+}
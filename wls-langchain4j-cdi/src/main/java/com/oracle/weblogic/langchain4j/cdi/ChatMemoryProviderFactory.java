@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+
+/**
+ * Factory class for creating a configured {@link ChatMemoryProvider} keeping one conversation per memory id.
+ *
+ * @see ShardedChatMemoryProvider
+ */
+@ApplicationScoped
+public class ChatMemoryProviderFactory {
+    private Configuration configuration;
+
+    // Required for CDI
+    protected ChatMemoryProviderFactory() {
+    }
+
+    /**
+     * Creates ChatMemoryProviderFactory.
+     *
+     * @param configuration the AI properties
+     */
+    @Inject
+    ChatMemoryProviderFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link ChatMemoryProvider} bean in the CDI registry with the name
+     * <i>chatMemoryProvider</i> if the configuration property <i>langchain4j.chat-memory.enabled</i> is set to
+     * <i>true</i>.
+     *
+     * @return a configured instance of {@link ChatMemoryProvider}
+     */
+    @ConditionalProduce(key = "langchain4j.chat-memory.enabled", value = "true")
+    @Named("chatMemoryProvider")
+    public ChatMemoryProvider create() {
+        return ShardedChatMemoryProvider.create(configuration);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.oracle.weblogic.langchain4j.api.Ai;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Coalesces the tokens streamed by a {@link StreamingChatLanguageModel} according to the
+ * {@link Ai.TokenCoalescing} policy of an AI service.
+ *
+ * <p>Every stream buffers its tokens in its own handler. The buffer is taken when it is full or a sentence ends, and
+ * by a shared scheduler when the oldest token waited too long. The handler is only locked while taking the buffer. The
+ * tokens are passed on outside the lock, from the thread of the model, or from an executor for the buffers taken by the
+ * scheduler, so a slow consumer holds up neither the model nor the other streams. The consumer still sees one call at a
+ * time, in order.</p>
+ */
+final class CoalescingStreamingChatLanguageModel extends StreamingChatLanguageModelDecorator {
+
+    private final int maxChars;
+    private final long maxDelayNanos;
+    private final boolean sentenceBoundary;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private CoalescingStreamingChatLanguageModel(StreamingChatLanguageModel delegate,
+                                                 Ai.TokenCoalescing policy,
+                                                 ScheduledExecutorService scheduler,
+                                                 Executor executor) {
+        super(delegate);
+        this.maxChars = policy.maxChars();
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(policy.maxDelayMillis());
+        this.sentenceBoundary = policy.sentenceBoundary();
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    /**
+     * Wraps the streaming chat model of an AI service if the service is annotated with {@link Ai.TokenCoalescing}.
+     *
+     * @param model            the model
+     * @param serviceInterface the AI service interface
+     * @param scheduler        supplies the scheduler taking the tokens that waited too long
+     * @param executor         supplies the executor passing on the tokens taken by the scheduler
+     * @return the wrapped model, or the model itself
+     */
+    static StreamingChatLanguageModel wrap(StreamingChatLanguageModel model,
+                                           Class<?> serviceInterface,
+                                           Supplier<ScheduledExecutorService> scheduler,
+                                           Supplier<Executor> executor) {
+        var policy = serviceInterface.getAnnotation(Ai.TokenCoalescing.class);
+        if (model == null || policy == null) {
+            return model;
+        }
+        if (policy.maxChars() <= 0 || policy.maxDelayMillis() <= 0) {
+            throw new IllegalArgumentException("@Ai.TokenCoalescing of " + serviceInterface.getName()
+                    + " must have a positive maxChars and maxDelayMillis");
+        }
+        return new CoalescingStreamingChatLanguageModel(model, policy, scheduler.get(), executor.get());
+    }
+
+    @Override
+    void invoke(List<ChatMessage> messages,
+                StreamingResponseHandler<AiMessage> handler,
+                Consumer<StreamingResponseHandler<AiMessage>> call) {
+        call.accept(new CoalescingHandler(handler));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate() + "]";
+    }
+
+    private static boolean endsSentence(String token) {
+        for (int i = token.length() - 1; i >= 0; i--) {
+            char c = token.charAt(i);
+            if (c == '\n') {
+                return true;
+            }
+            if (!Character.isWhitespace(c)) {
+                return c == '.' || c == '!' || c == '?' || c == '。' || c == '！' || c == '？';
+            }
+        }
+        return false;
+    }
+
+    private final class CoalescingHandler implements StreamingResponseHandler<AiMessage>, Runnable {
+
+        private final StreamingResponseHandler<AiMessage> handler;
+        private final StringBuilder buffer = new StringBuilder();
+        // Calls of the handler taken under the lock, made in order outside of it
+        private final Queue<Runnable> signals = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private boolean first = true;
+        private ScheduledFuture<?> timer;
+
+        private CoalescingHandler(StreamingResponseHandler<AiMessage> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void onNext(String token) {
+            synchronized (this) {
+                if (first) {
+                    // The time to the first token is what users perceive, never delay it
+                    first = false;
+                    signals.offer(() -> handler.onNext(token));
+                } else {
+                    buffer.append(token);
+                    if (buffer.length() >= maxChars || (sentenceBoundary && endsSentence(token))) {
+                        take();
+                    } else if (timer == null) {
+                        timer = scheduler.schedule(this, maxDelayNanos, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+            deliver();
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            synchronized (this) {
+                take();
+                signals.offer(() -> handler.onComplete(response));
+            }
+            deliver();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            synchronized (this) {
+                take();
+                signals.offer(() -> handler.onError(error));
+            }
+            deliver();
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                // The buffer may have been taken meanwhile, and a new timer started
+                if (timer == null || timer.getDelay(TimeUnit.NANOSECONDS) > 0) {
+                    return;
+                }
+                take();
+            }
+            // The scheduler is shared by all the streams, the consumer may be slow
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                deliver();
+            }
+        }
+
+        private void take() {
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+            if (buffer.length() > 0) {
+                String tokens = buffer.toString();
+                buffer.setLength(0);
+                signals.offer(() -> handler.onNext(tokens));
+            }
+        }
+
+        private void deliver() {
+            if (wip.getAndIncrement() != 0) {
+                // Delivered by the thread already delivering
+                return;
+            }
+            int missed = 1;
+            do {
+                Runnable signal;
+                while ((signal = signals.poll()) != null) {
+                    try {
+                        signal.run();
+                    } catch (RuntimeException e) {
+                        // Let the next call deliver the rest
+                        wip.set(0);
+                        throw e;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
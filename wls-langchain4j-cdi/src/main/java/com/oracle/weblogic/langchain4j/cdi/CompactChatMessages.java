@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+
+/**
+ * Compact representation of the chat messages kept in memory by {@link ShardedChatMemoryProvider}.
+ *
+ * <p>Text-only system, user and AI messages, which are most of a conversation, are kept as one byte array holding a
+ * type tag followed by the UTF-8 text, instead of the message, its contents list and its string. Other messages, such
+ * as the AI messages requesting tools, their results or the user messages with images, are kept as they are.</p>
+ */
+final class CompactChatMessages {
+
+    private static final byte SYSTEM = 1;
+    private static final byte USER = 2;
+    private static final byte AI = 3;
+
+    private CompactChatMessages() {
+    }
+
+    /**
+     * Returns the compact representation of a message.
+     *
+     * @param message the message
+     * @return a byte array, or the message itself if it cannot be compacted
+     */
+    static Object compact(ChatMessage message) {
+        if (message instanceof SystemMessage) {
+            return encode(SYSTEM, ((SystemMessage) message).text());
+        }
+        if (message instanceof UserMessage) {
+            UserMessage userMessage = (UserMessage) message;
+            if (userMessage.name() == null && userMessage.hasSingleText()) {
+                return encode(USER, userMessage.singleText());
+            }
+        } else if (message instanceof AiMessage) {
+            AiMessage aiMessage = (AiMessage) message;
+            if (aiMessage.text() != null && !aiMessage.hasToolExecutionRequests()) {
+                return encode(AI, aiMessage.text());
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Returns the message of a compact representation.
+     *
+     * @param compact a value returned by {@link #compact(ChatMessage)}
+     * @return the message
+     */
+    static ChatMessage expand(Object compact) {
+        if (!(compact instanceof byte[])) {
+            return (ChatMessage) compact;
+        }
+        byte[] bytes = (byte[]) compact;
+        String text = new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+        switch (bytes[0]) {
+        case SYSTEM:
+            return SystemMessage.from(text);
+        case USER:
+            return UserMessage.from(text);
+        default:
+            return AiMessage.from(text);
+        }
+    }
+
+    /**
+     * Returns the messages of compact representations.
+     *
+     * @param compacts values returned by {@link #compact(ChatMessage)}
+     * @return a new mutable list of the messages
+     */
+    static List<ChatMessage> expand(List<Object> compacts) {
+        List<ChatMessage> messages = new ArrayList<>(compacts.size());
+        for (Object compact : compacts) {
+            messages.add(expand(compact));
+        }
+        return messages;
+    }
+
+    /**
+     * Returns whether a compact representation is a system message.
+     *
+     * @param compact a value returned by {@link #compact(ChatMessage)}
+     * @return {@code true} for a system message
+     */
+    static boolean isSystem(Object compact) {
+        return compact instanceof byte[] ? ((byte[]) compact)[0] == SYSTEM : compact instanceof SystemMessage;
+    }
+
+    private static byte[] encode(byte type, String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[utf8.length + 1];
+        bytes[0] = type;
+        System.arraycopy(utf8, 0, bytes, 1, utf8.length);
+        return bytes;
+    }
+}
@@ -37,6 +37,13 @@ import java.lang.annotation.Target;
  * <p>In this example, {@code MyBean} will be registered as a CDI bean only if the configuration property
  * {@code feature.enabled} exists and its value is {@code true}.</p>
  *
+ * <p>A second property may be required with {@link #andKey()} and {@link #andValue()}, for example to register one of
+ * two producers of the same bean name depending on a <i>transport</i> property:</p>
+ * <pre>
+ * &#64;ConditionalProduce(key = "feature.enabled", value = "true",
+ *                     andKey = "feature.transport", andValue = "default", andMatchIfMissing = true)
+ * </pre>
+ *
  * <p>This mechanism allows for fine-grained control over bean registration based on dynamic configuration properties,
  * facilitating feature toggling and conditional bean instantiation.</p>
  *
@@ -58,4 +65,25 @@ public @interface ConditionalProduce {
      * @return the value that the configuration property must have for the bean to be registered.
      */
     String value();
+
+    /**
+     * The key of a second configuration property to check, none by default.
+     *
+     * @return the key of the second configuration property to check.
+     */
+    String andKey() default "";
+
+    /**
+     * The value that the second configuration property must have for the bean to be registered.
+     *
+     * @return the value that the second configuration property must have for the bean to be registered.
+     */
+    String andValue() default "";
+
+    /**
+     * Whether the bean is registered when the second configuration property does not exist.
+     *
+     * @return {@code true} if a missing second property matches.
+     */
+    boolean andMatchIfMissing() default false;
 }
@@ -19,15 +19,23 @@ package com.oracle.weblogic.langchain4j.cdi;
 import java.lang.System.Logger.Level;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.literal.NamedLiteral;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 import jakarta.inject.Named;
@@ -54,6 +62,11 @@ import jakarta.inject.Named;
 public class ConditionalProduceExtension implements Extension {
     private static final System.Logger LOGGER = System.getLogger(ConditionalProduceExtension.class.getName());
     private final List<Method> conditionalProducerMethods = new ArrayList<>();
+    private final List<Method> registeredProducerMethods = new ArrayList<>();
+    private final List<SwappableProducer> swappableProducers = new ArrayList<>();
+    private final Map<String, String> prefixes = new HashMap<>();
+    private Configuration configuration;
+    private ConfigurationWatcher watcher;
 
     /**
      * Public no-arg constructor is required by {@link java.util.ServiceLoader}.
@@ -86,8 +99,8 @@ public class ConditionalProduceExtension implements Extension {
      * @param beanManager the {@link BeanManager} used to manage the lifecycle and dependencies of CDI beans
      */
     public void afterBeanDiscovery(@Observes AfterBeanDiscovery abd, BeanManager beanManager) {
-        // FIXME Obtain Configuration from CDI. I don't know how.
-        Configuration config = new ConfigurationProvider().configuration();
+        Configuration config = configuration();
+        boolean watch = config.getBoolean(ConfigurationProvider.WATCH_ENABLED).orElse(false);
         for (var producerMethod : conditionalProducerMethods) {
             var conditionalProduce = producerMethod.getAnnotation(ConditionalProduce.class);
             var key = conditionalProduce.key();
@@ -96,28 +109,54 @@ public class ConditionalProduceExtension implements Extension {
             var propertyValue = config.getString(key);
 
             // Only register the bean if the configuration property exists
-            if (propertyValue.isPresent() && propertyValue.get().equals(value)) {
+            if (propertyValue.isPresent() && propertyValue.get().equals(value) && matchesAnd(conditionalProduce, config)) {
                 var named = producerMethod.getAnnotation(Named.class);
                 var name = named != null ? named.value() : null;
+                var beanName = name != null ? name : producerMethod.getName();
+                var prefix = ModelDecorators.prefix(key);
+                var decoratedTypes = ModelDecorators.types(producerMethod.getReturnType(), prefix, config);
+                Function<Instance<Object>, Object> producer = decoratedTypes.isEmpty()
+                        ? ctx -> produce(ctx, producerMethod)
+                        : ctx -> ModelDecorators.decorate(produce(ctx, producerMethod), beanName, prefix, configuration());
 
-                abd.addBean()
+                registeredProducerMethods.add(producerMethod);
+                prefixes.put(beanName, prefix);
+                var configurator = abd.addBean()
                         .beanClass(producerMethod.getReturnType())
                         .scope(ApplicationScoped.class)
                         .name(name)
-                        .addQualifier(NamedLiteral.of(name))
-                        .produceWith(ctx -> {
-                            try {
-                                // Create an instance of the declaring class
-                                Class<?> declaringClass = producerMethod.getDeclaringClass();
-                                Object factory = ctx.select(declaringClass).get();
-
-                                // Invoke the producer method to get the instance
-                                return producerMethod.invoke(factory);
-                            } catch (Exception e) {
-                                throw new RuntimeException("Failed to invoke producer method: " + producerMethod.getName(), e);
-                            }
-                        })
-                        .addTransitiveTypeClosure(producerMethod.getReturnType());
+                        .addQualifier(NamedLiteral.of(name));
+
+                SwappableProducer swappable = null;
+                if (watch) {
+                    var types = decoratedTypes.isEmpty()
+                            ? SwappableProducer.interfaceTypes(producerMethod.getReturnType())
+                            : decoratedTypes;
+                    swappable = SwappableProducer.create(
+                            producerMethod,
+                            types,
+                            ctx -> produce(ctx, producerMethod),
+                            decoratedTypes.isEmpty()
+                                    ? (model, resources) -> model
+                                    : (model, resources) -> ModelDecorators.decorate(model, beanName, prefix,
+                                                                                     configuration(), resources));
+                }
+                if (swappable != null) {
+                    swappableProducers.add(swappable);
+                    configurator.types(swappable.types())
+                            .produceWith(swappable::produce);
+                } else {
+                    if (watch) {
+                        LOGGER.log(Level.WARNING, "Bean produced by " + producerMethod.getName()
+                                + " implements no interface and will not be reloaded on configuration changes");
+                    }
+                    configurator.produceWith(producer);
+                    if (decoratedTypes.isEmpty()) {
+                        configurator.addTransitiveTypeClosure(producerMethod.getReturnType());
+                    } else {
+                        configurator.types(decoratedTypes);
+                    }
+                }
 
                 if (LOGGER.isLoggable(Level.TRACE)) {
                     LOGGER.log(Level.TRACE, "Registered synthetic bean for: " + producerMethod.getName());
@@ -130,4 +169,133 @@ public class ConditionalProduceExtension implements Extension {
             }
         }
     }
+
+    private static boolean matchesAnd(ConditionalProduce conditionalProduce, Configuration config) {
+        if (conditionalProduce.andKey().isEmpty()) {
+            return true;
+        }
+        return config.getString(conditionalProduce.andKey())
+                .map(conditionalProduce.andValue()::equals)
+                .orElse(conditionalProduce.andMatchIfMissing());
+    }
+
+    /**
+     * Starts watching the configuration file when <i>langchain4j.configuration.watch.enabled</i> is set to
+     * <i>true</i>. On every change the beans whose producers read a changed property are produced again and swapped in
+     * behind their stable delegates.
+     *
+     * @param adv         the {@link AfterDeploymentValidation} event
+     * @param beanManager the {@link BeanManager} used to obtain the factories declaring the producer methods
+     */
+    public void afterDeploymentValidation(@Observes AfterDeploymentValidation adv, BeanManager beanManager) {
+        Configuration config = configuration();
+        if (swappableProducers.isEmpty() || !config.getBoolean(ConfigurationProvider.WATCH_ENABLED).orElse(false)) {
+            return;
+        }
+        var file = ConfigurationProvider.watchedFile(config);
+        if (file.isEmpty()) {
+            LOGGER.log(Level.WARNING, "ai.properties is not a file, set " + ConfigurationProvider.WATCH_FILE
+                    + " to watch configuration changes");
+            return;
+        }
+        Instance<Object> lookup = beanManager.createInstance();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        long interval = config.getLong(ConfigurationProvider.WATCH_INTERVAL).orElse(2000L);
+        synchronized (this) {
+            watcher = new ConfigurationWatcher(file.get(), interval, () -> reload(lookup, classLoader));
+            watcher.start();
+        }
+    }
+
+    private void reload(Instance<Object> lookup, ClassLoader classLoader) {
+        Set<String> changed = configuration().update(ConfigurationProvider.loadProperties());
+        if (changed.isEmpty()) {
+            return;
+        }
+        LOGGER.log(Level.INFO, "Configuration changed: " + changed);
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            for (var swappable : swappableProducers) {
+                swappable.reload(lookup, changed);
+            }
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * Returns the producer methods whose beans were registered because their configuration property matched.
+     *
+     * @return the producer methods
+     */
+    List<Method> registeredProducerMethods() {
+        return registeredProducerMethods;
+    }
+
+    /**
+     * Returns the configuration prefix of a registered bean, that is its {@link ConditionalProduce} key without the
+     * <i>.enabled</i> suffix.
+     *
+     * @param beanName the bean name
+     * @return the prefix, or empty if the bean was not registered by this extension
+     */
+    Optional<String> prefix(String beanName) {
+        return Optional.ofNullable(prefixes.get(beanName));
+    }
+
+    /**
+     * Obtains the factory declaring the producer method and invokes it.
+     *
+     * @param lookup         used to obtain the factory
+     * @param producerMethod the method annotated with {@link ConditionalProduce}
+     * @return the produced instance
+     */
+    static Object produce(Instance<Object> lookup, Method producerMethod) {
+        try {
+            // Create an instance of the declaring class
+            Class<?> declaringClass = producerMethod.getDeclaringClass();
+            Object factory = lookup.select(declaringClass).get();
+
+            // Invoke the producer method to get the instance
+            return producerMethod.invoke(factory);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to invoke producer method: " + producerMethod.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the configuration of this deployment. The ai.properties file is loaded on the first call, and the
+     * same instance is returned afterwards, including to the {@link ConfigurationProvider} producer.
+     *
+     * @return the configuration
+     */
+    synchronized Configuration configuration() {
+        if (configuration == null) {
+            configuration = ConfigurationProvider.load();
+        }
+        return configuration;
+    }
+
+    /**
+     * Invoked when the container shuts down. Stops the configuration watcher and clears the resolutions cached by
+     * {@link BeanResolver}, so no reference outlives the container that created it. Memory-mapped embedding caches
+     * are flushed to their files and the metrics MBeans are unregistered.
+     *
+     * @param bs the {@link BeforeShutdown} event
+     */
+    public void beforeShutdown(@Observes BeforeShutdown bs) {
+        synchronized (this) {
+            if (watcher != null) {
+                watcher.stop();
+                watcher = null;
+            }
+        }
+        BeanResolver.clear();
+        Bulkhead.clear();
+        SingleFlight.clear();
+        EmbeddingArena.closeAll();
+        ModelMetrics.unregisterAll();
+    }
 }
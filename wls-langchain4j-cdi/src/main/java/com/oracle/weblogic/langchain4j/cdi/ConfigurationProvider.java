@@ -17,55 +17,207 @@
 package com.oracle.weblogic.langchain4j.cdi;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Singleton;
 
 /**
  * Provides the loaded {@link Configuration} of ai.properties.
+ *
+ * <p>The file is read once per deployment by the {@link ConditionalProduceExtension}, and the same
+ * {@link Configuration} is shared by the extensions and every factory.</p>
+ *
+ * <p>When <i>langchain4j.configuration.watch.enabled</i> is set to <i>true</i>, the file is watched for changes.
+ * If <i>langchain4j.configuration.watch.file</i> points to a file, its properties override the ones packaged in the
+ * application and that file is watched. Otherwise the packaged ai.properties is watched, which requires an exploded
+ * deployment. The polling interval in milliseconds is set by <i>langchain4j.configuration.watch.interval</i>.</p>
  */
 @ApplicationScoped
 public class ConfigurationProvider {
 
+    static final String WATCH_ENABLED = "langchain4j.configuration.watch.enabled";
+    static final String WATCH_FILE = "langchain4j.configuration.watch.file";
+    static final String WATCH_INTERVAL = "langchain4j.configuration.watch.interval";
+    private static final String RESOURCE = "/ai.properties";
     private static final Logger LOGGER = Logger.getLogger(ConfigurationProvider.class.getName());
 
     // Required by CDI
     protected ConfigurationProvider() {
     }
 
+    /**
+     * Produces the configuration snapshot loaded during bean discovery.
+     *
+     * @param beanManager the bean manager of the deployment
+     * @return the configuration
+     */
     @Produces
     @Singleton
-    public Configuration configuration() {
+    public Configuration configuration(BeanManager beanManager) {
+        return beanManager.getExtension(ConditionalProduceExtension.class).configuration();
+    }
+
+    /**
+     * Loads ai.properties from the classpath.
+     *
+     * @return a new configuration
+     */
+    static Configuration load() {
+        return new Configuration(loadProperties());
+    }
+
+    /**
+     * Reads ai.properties from the classpath, overridden by the file configured in
+     * <i>langchain4j.configuration.watch.file</i>, if any.
+     *
+     * @return the properties
+     */
+    static Properties loadProperties() {
         Properties config = new Properties();
-        try {
+        try (InputStream is = ConfigurationProvider.class.getResourceAsStream(RESOURCE)) {
+            config.load(is);
+            String file = config.getProperty(WATCH_FILE);
+            if (file != null) {
+                Properties external = new Properties();
+                try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                    external.load(reader);
+                }
+                config.putAll(external);
+            }
             StringBuilder builder = new StringBuilder();
-            config.load(ConfigurationProvider.class.getResourceAsStream("/ai.properties"));
             config.forEach((key, value) -> builder.append("\n").append(key + " = " + value));
             LOGGER.finest(builder.toString());
-            return new Configuration(config);
+            return config;
         } catch (IOException e) {
             throw new IllegalStateException("Unable to load ai.properties", e);
         }
     }
 
+    /**
+     * Returns the file to watch for changes.
+     *
+     * @param configuration the current configuration
+     * @return the file, or empty if ai.properties is not backed by a file
+     */
+    static Optional<Path> watchedFile(Configuration configuration) {
+        Optional<String> file = configuration.getString(WATCH_FILE);
+        if (file.isPresent()) {
+            return Optional.of(Path.of(file.get()));
+        }
+        URL resource = ConfigurationProvider.class.getResource(RESOURCE);
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(resource.toURI()));
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Utility class to obtain the property values.
+     *
+     * <p>Values are held in an immutable snapshot. Every value is converted at most once per requested type, and
+     * lists and maps are materialized once, so repeated lookups of the same key do not parse it again. When the
+     * configuration is reloaded, the snapshot is replaced atomically.</p>
      */
     public static class Configuration {
 
-        private final Properties config;
+        private static final ThreadLocal<Set<String>> RECORDED_KEYS = new ThreadLocal<>();
+
+        private volatile Map<String, Entry> entries;
 
         private Configuration(Properties config) {
-            this.config = config;
+            this.entries = snapshot(config);
+        }
+
+        /**
+         * Replaces the current snapshot with the given properties.
+         *
+         * @param config the new properties
+         * @return the keys that were added, removed or changed
+         */
+        synchronized Set<String> update(Properties config) {
+            Map<String, Entry> current = entries;
+            Map<String, Entry> updated = snapshot(config);
+            Set<String> changed = new HashSet<>();
+            for (var entry : updated.entrySet()) {
+                Entry previous = current.get(entry.getKey());
+                if (previous == null || !previous.value.equals(entry.getValue().value)) {
+                    changed.add(entry.getKey());
+                }
+            }
+            for (String key : current.keySet()) {
+                if (!updated.containsKey(key)) {
+                    changed.add(key);
+                }
+            }
+            entries = updated;
+            return changed;
+        }
+
+        /**
+         * Executes the given task and collects every key it looks up in this configuration on the current thread.
+         *
+         * @param keys the set the keys are added to
+         * @param task the task to execute
+         * @param <T>  the type of the result
+         * @return the result of the task
+         * @throws Exception if the task fails
+         */
+        static <T> T recordKeys(Set<String> keys, Callable<T> task) throws Exception {
+            Set<String> outer = RECORDED_KEYS.get();
+            RECORDED_KEYS.set(keys);
+            try {
+                return task.call();
+            } finally {
+                if (outer != null) {
+                    outer.addAll(keys);
+                    RECORDED_KEYS.set(outer);
+                } else {
+                    RECORDED_KEYS.remove();
+                }
+            }
+        }
+
+        private static Map<String, Entry> snapshot(Properties config) {
+            Map<String, Entry> map = new HashMap<>();
+            for (String key : config.stringPropertyNames()) {
+                map.put(key, new Entry(config.getProperty(key)));
+            }
+            return Map.copyOf(map);
+        }
+
+        private Entry entry(String key) {
+            Set<String> recorded = RECORDED_KEYS.get();
+            if (recorded != null) {
+                recorded.add(key);
+            }
+            return entries.get(key);
         }
 
         /**
@@ -75,7 +227,8 @@ public class ConfigurationProvider {
          * @return the String value
          */
         public Optional<String> getString(String key) {
-            return get(key, String.class);
+            Entry entry = entry(key);
+            return entry == null ? Optional.empty() : entry.string;
         }
 
         /**
@@ -85,7 +238,7 @@ public class ConfigurationProvider {
          * @return the Double value
          */
         public Optional<Double> getDouble(String key) {
-            return get(key, Double.class);
+            return get(key, Double.class, Double::parseDouble);
         }
 
         /**
@@ -95,7 +248,7 @@ public class ConfigurationProvider {
          * @return the Boolean value
          */
         public Optional<Boolean> getBoolean(String key) {
-            return get(key, Boolean.class);
+            return get(key, Boolean.class, Boolean::parseBoolean);
         }
 
         /**
@@ -105,7 +258,7 @@ public class ConfigurationProvider {
          * @return the Integer value
          */
         public Optional<Integer> getInteger(String key) {
-            return get(key, Integer.class);
+            return get(key, Integer.class, Integer::parseInt);
         }
 
         /**
@@ -115,68 +268,115 @@ public class ConfigurationProvider {
          * @return the Long value
          */
         public Optional<Long> getLong(String key) {
-            return get(key, Long.class);
+            return get(key, Long.class, Long::parseLong);
+        }
+
+        /**
+         * Returns the comma separated values of the specified key.
+         *
+         * @param key the property key
+         * @return an unmodifiable list of values, empty if the property is not set
+         */
+        public List<String> getList(String key) {
+            Entry entry = entry(key);
+            return entry == null ? Collections.emptyList() : entry.converted(List.class, Entry::toList);
+        }
+
+        /**
+         * Returns the comma separated {@code key=value} pairs of the specified key with integer values.
+         *
+         * @param key the property key
+         * @return an unmodifiable map, empty if the property is not set
+         */
+        public Map<String, Integer> getMapInteger(String key) {
+            Entry entry = entry(key);
+            return entry == null
+                    ? Collections.emptyMap()
+                    : entry.converted(MapType.INTEGER, value -> Entry.toMap(value, Integer::parseInt));
+        }
+
+        /**
+         * Returns the comma separated {@code key=value} pairs of the specified key.
+         *
+         * @param key the property key
+         * @return an unmodifiable map, empty if the property is not set
+         */
+        public Map<String, String> getMapString(String key) {
+            Entry entry = entry(key);
+            return entry == null
+                    ? Collections.emptyMap()
+                    : entry.converted(MapType.STRING, value -> Entry.toMap(value, Function.identity()));
+        }
+
+        /**
+         * Returns the properties whose key starts with the specified prefix.
+         *
+         * @param prefix the key prefix
+         * @return an unmodifiable map sorted by key
+         */
+        SortedMap<String, String> getPrefixed(String prefix) {
+            SortedMap<String, String> result = new TreeMap<>();
+            for (var entry : entries.entrySet()) {
+                if (entry.getKey().startsWith(prefix)) {
+                    result.put(entry.getKey(), entry.getValue().value);
+                }
+            }
+            return Collections.unmodifiableSortedMap(result);
         }
 
-        private <T> Optional<T> get(String key, Class<T> type) {
-            String value = config.getProperty(key);
-            if (value == null) {
+        private <T> Optional<T> get(String key, Class<T> type, Function<String, T> converter) {
+            Entry entry = entry(key);
+            if (entry == null) {
                 return Optional.empty();
             }
-            Object castValue = castValue(value, type);
-            return Optional.of(type.cast(castValue));
+            return entry.converted(type, value -> Optional.of(converter.apply(value)));
         }
 
-        public List<String> getList(String key) {
-            String value = config.getProperty(key);
-            return value != null ? Arrays.asList(value.split(",")) : Collections.emptyList();
+        private enum MapType {
+            INTEGER,
+            STRING
         }
 
-        public Map<String, Integer> getMapInteger(String key) {
-            String value = config.getProperty(key);
-            if (value == null || value.isEmpty()) {
-                return Collections.emptyMap();
+        /**
+         * Raw value of one property together with its conversions, computed on first access.
+         */
+        private static final class Entry {
+
+            private final String value;
+            private final Optional<String> string;
+            private final Map<Object, Object> conversions = new ConcurrentHashMap<>();
+
+            private Entry(String value) {
+                this.value = value;
+                this.string = Optional.of(value);
             }
-            Map<String, Integer> map = new HashMap<>();
-            String[] entries = value.split(",");
-            for (String entry : entries) {
-                String[] kv = entry.split("=");
-                if (kv.length == 2) {
-                    map.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+
+            @SuppressWarnings("unchecked")
+            private <R> R converted(Object type, Function<String, ?> converter) {
+                Object result = conversions.get(type);
+                if (result == null) {
+                    result = converter.apply(value);
+                    conversions.putIfAbsent(type, result);
                 }
+                return (R) result;
             }
-            return map;
-        }
 
-        public Map<String, String> getMapString(String key) {
-            String value = config.getProperty(key);
-            if (value == null || value.isEmpty()) {
-                return Collections.emptyMap();
+            private static List<String> toList(String value) {
+                return List.copyOf(Arrays.asList(value.split(",")));
             }
-            Map<String, String> map = new HashMap<>();
-            String[] entries = value.split(",");
-            for (String entry : entries) {
-                String[] kv = entry.split("=");
-                if (kv.length == 2) {
-                    map.put(kv[0].trim(), kv[1].trim());
+
+            private static <V> Map<String, V> toMap(String value, Function<String, V> converter) {
+                if (value.isEmpty()) {
+                    return Collections.emptyMap();
                 }
-            }
-            return map;
-        }
-
-        private Object castValue(String value, Class<?> type) {
-            if (type == String.class) {
-                return value;
-            } else if (type == Integer.class) {
-                return Integer.parseInt(value);
-            } else if (type == Long.class) {
-                return Long.parseLong(value);
-            } else if (type == Double.class) {
-                return Double.parseDouble(value);
-            } else if (type == Boolean.class) {
-                return Boolean.parseBoolean(value);
-            } else {
-                throw new IllegalArgumentException("Unsupported type: " + type);
+                Map<String, V> map = new HashMap<>();
+                for (String entry : value.split(",")) {
+                    String[] kv = entry.split("=");
+                    if (kv.length == 2) {
+                        map.put(kv[0].trim(), converter.apply(kv[1].trim()));
+                    }
+                }
+                return Collections.unmodifiableMap(map);
             }
         }
     }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Polls a configuration file and notifies a listener when its modification time or size changes.
+ */
+final class ConfigurationWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigurationWatcher.class.getName());
+
+    private final Path file;
+    private final long intervalMillis;
+    private final Runnable listener;
+    private ScheduledExecutorService executor;
+    private FileTime lastModified;
+    private long size;
+
+    /**
+     * Creates a watcher.
+     *
+     * @param file           the file to watch
+     * @param intervalMillis the polling interval in milliseconds
+     * @param listener       invoked on the watcher thread when the file changes
+     */
+    ConfigurationWatcher(Path file, long intervalMillis, Runnable listener) {
+        this.file = file;
+        this.intervalMillis = intervalMillis;
+        this.listener = listener;
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        lastModified = lastModified();
+        size = size();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wls-langchain4j-configuration-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Watching " + file + " for configuration changes");
+    }
+
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void poll() {
+        try {
+            FileTime modified = lastModified();
+            long currentSize = size();
+            if (modified == null || (modified.equals(lastModified) && currentSize == size)) {
+                return;
+            }
+            lastModified = modified;
+            size = currentSize;
+            listener.run();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to reload configuration from " + file, e);
+        }
+    }
+
+    private FileTime lastModified() {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private long size() {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
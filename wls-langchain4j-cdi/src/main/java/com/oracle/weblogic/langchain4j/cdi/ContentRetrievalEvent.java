@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a query sent to the content retriever of an AI service.
+ */
+@Name("wls.langchain4j.ContentRetrieval")
+@Label("Content Retrieval")
+@Category({"WebLogic", "LangChain4j"})
+@Description("Query sent to a content retriever")
+@StackTrace(false)
+final class ContentRetrievalEvent extends Event {
+
+    @Label("Retriever")
+    String retriever;
+
+    @Label("Embedding Store")
+    @Description("Bean name of the embedding store, if known")
+    String store;
+
+    @Label("Hits")
+    int hits;
+
+    @Label("Error")
+    @Description("Class of the exception if the query failed")
+    String error;
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Off-heap store of embedding vectors addressed by a 128-bit content hash.
+ *
+ * <p>Vectors are kept outside the Java heap in fixed-size slots, each holding the hash followed by the floats of the
+ * vector. Only the hash to slot index is kept on the heap. When all the slots are used, new vectors overwrite the
+ * oldest ones. The slots are allocated when the first vector is stored, as its length gives the slot size.</p>
+ *
+ * <p>When a file is given, the slots are memory-mapped from it, so the vectors survive a restart. The file starts
+ * with a header holding a hash of the model, the dimension and the number of slots, and is recreated if they do not
+ * match. Should the model return vectors of another dimension all the same, the stored vectors are dropped and the
+ * slots allocated again. A file must not be shared by two running servers.</p>
+ */
+final class EmbeddingArena {
+
+    private static final Logger LOGGER = Logger.getLogger(EmbeddingArena.class.getName());
+    private static final Map<Path, EmbeddingArena> MAPPED = new ConcurrentHashMap<>();
+    private static final int MAGIC = 0x4c344543;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+    private static final int KEY_BYTES = 16;
+    private static final int DIMENSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int NEXT_OFFSET = 16;
+    private static final int MODEL_OFFSET = 24;
+
+    private final int capacity;
+    private final long model;
+    private final Path file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Key, Integer> index = new HashMap<>();
+    private ByteBuffer buffer;
+    private FileChannel channel;
+    private int dimension;
+    private int slotBytes;
+    private int next;
+    private boolean closed;
+
+    /**
+     * Creates an arena.
+     *
+     * @param capacity the number of slots
+     * @param model    hash of the model and of its properties, a file of another model is not loaded
+     * @param file     the file to map, or {@code null} to allocate the slots in direct memory
+     */
+    EmbeddingArena(int capacity, long model, Path file) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Embedding cache size must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.model = model;
+        this.file = file;
+        if (file != null) {
+            EmbeddingArena previous = MAPPED.put(file, this);
+            if (previous != null) {
+                previous.close();
+            }
+            if (Files.exists(file)) {
+                load();
+            }
+        }
+    }
+
+    /**
+     * Closes all the memory-mapped arenas. Invoked when the container shuts down.
+     */
+    static void closeAll() {
+        MAPPED.values().forEach(EmbeddingArena::close);
+        MAPPED.clear();
+    }
+
+    /**
+     * Returns the dimension of the stored vectors.
+     *
+     * @return the dimension, or 0 if no vector is stored yet
+     */
+    int dimension() {
+        lock.readLock().lock();
+        try {
+            return dimension;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of the vector stored under the given key.
+     *
+     * @param key the content hash
+     * @return the vector, or {@code null} if it is not stored
+     */
+    float[] get(Key key) {
+        lock.readLock().lock();
+        try {
+            Integer slot = index.get(key);
+            if (slot == null || closed) {
+                return null;
+            }
+            float[] vector = new float[dimension];
+            int offset = offset(slot) + KEY_BYTES;
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = buffer.getFloat(offset + i * Float.BYTES);
+            }
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a vector under the given key, overwriting the oldest vector if all the slots are used.
+     *
+     * @param key    the content hash
+     * @param vector the vector
+     */
+    void put(Key key, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            if (closed || index.containsKey(key) || !allocate(vector.length)) {
+                return;
+            }
+            int slot = next;
+            int offset = offset(slot);
+            Key evicted = new Key(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+            if (!evicted.isEmpty()) {
+                index.remove(evicted);
+            }
+            // The key is written last, so a slot interrupted by a crash is not found after a restart
+            buffer.putLong(offset, 0);
+            buffer.putLong(offset + Long.BYTES, 0);
+            for (int i = 0; i < vector.length; i++) {
+                buffer.putFloat(offset + KEY_BYTES + i * Float.BYTES, vector[i]);
+            }
+            buffer.putLong(offset, key.high());
+            buffer.putLong(offset + Long.BYTES, key.low());
+            index.put(key, slot);
+            next = (slot + 1) % capacity;
+            buffer.putInt(NEXT_OFFSET, next);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the mapped file and releases it. Later lookups miss and later vectors are not stored.
+     */
+    void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            index.clear();
+            if (buffer instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) buffer).force();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close embedding cache " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int offset(int slot) {
+        return HEADER_BYTES + slot * slotBytes;
+    }
+
+    private boolean allocate(int vectorDimension) {
+        if (buffer != null) {
+            if (vectorDimension == dimension) {
+                return true;
+            }
+            LOGGER.warning("Embedding model returned a vector of dimension " + vectorDimension + " instead of "
+                                   + dimension + ", embedding cache " + (file != null ? file + " " : "")
+                                   + "is recreated");
+            release();
+        }
+        long size = HEADER_BYTES + (long) capacity * (KEY_BYTES + (long) vectorDimension * Float.BYTES);
+        if (size > Integer.MAX_VALUE) {
+            LOGGER.warning("Embedding cache of " + capacity + " vectors of dimension " + vectorDimension
+                                   + " exceeds 2 GB, reduce its size");
+            closed = true;
+            return false;
+        }
+        dimension = vectorDimension;
+        slotBytes = KEY_BYTES + vectorDimension * Float.BYTES;
+        next = 0;
+        if (file == null) {
+            buffer = ByteBuffer.allocateDirect((int) size);
+        } else {
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                           StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to map embedding cache " + file + ", using direct memory", e);
+                buffer = ByteBuffer.allocateDirect((int) size);
+            }
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(DIMENSION_OFFSET, dimension);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(NEXT_OFFSET, next);
+        buffer.putLong(MODEL_OFFSET, model);
+        return true;
+    }
+
+    // Drops the stored vectors, the file is truncated when the slots are allocated again
+    private void release() {
+        index.clear();
+        buffer = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Failed to close embedding cache " + file, e);
+            }
+            channel = null;
+        }
+    }
+
+    private void load() {
+        try {
+            FileChannel existing = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            existing.read(header, 0);
+            int fileDimension = header.getInt(DIMENSION_OFFSET);
+            long size = HEADER_BYTES + (long) capacity * (KEY_BYTES + (long) fileDimension * Float.BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || fileDimension < 1
+                    || header.getInt(CAPACITY_OFFSET) != capacity || header.getLong(MODEL_OFFSET) != model
+                    || existing.size() != size) {
+                LOGGER.info("Embedding cache " + file + " does not match the configuration and is recreated");
+                existing.close();
+                return;
+            }
+            channel = existing;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            dimension = fileDimension;
+            slotBytes = KEY_BYTES + fileDimension * Float.BYTES;
+            next = Math.floorMod(buffer.getInt(NEXT_OFFSET), capacity);
+            for (int slot = 0; slot < capacity; slot++) {
+                int offset = offset(slot);
+                Key key = new Key(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+                if (!key.isEmpty()) {
+                    index.put(key, slot);
+                }
+            }
+            LOGGER.info("Loaded " + index.size() + " embeddings from " + file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to load embedding cache " + file, e);
+        }
+    }
+
+    /**
+     * 128-bit content hash of a cached vector.
+     *
+     * @param high the first 64 bits
+     * @param low  the next 64 bits
+     */
+    record Key(long high, long low) {
+
+        /**
+         * Creates a key from the first 128 bits of a hexadecimal hash.
+         *
+         * @param hash the hash in hexadecimal, at least 32 characters
+         * @return the key
+         */
+        static Key of(String hash) {
+            return new Key(Long.parseUnsignedLong(hash.substring(0, 16), 16),
+                           Long.parseUnsignedLong(hash.substring(16, 32), 16));
+        }
+
+        private boolean isEmpty() {
+            return high == 0 && low == 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Emits an {@link AiServiceMethodEvent} for every invocation of an AI service method. Methods declared by
+ * {@link Object} are invoked directly.
+ */
+final class JfrAiService implements InvocationHandler {
+
+    private final Class<?> serviceInterface;
+    private final Object service;
+
+    private JfrAiService(Class<?> serviceInterface, Object service) {
+        this.serviceInterface = serviceInterface;
+        this.service = service;
+    }
+
+    /**
+     * Wraps an AI service.
+     *
+     * @param serviceInterface the AI service interface
+     * @param service          the implementation created by LangChain4J
+     * @param <T>              the type of the AI service
+     * @return the wrapped service
+     */
+    static <T> T wrap(Class<T> serviceInterface, T service) {
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+                                                            new Class<?>[] {serviceInterface},
+                                                            new JfrAiService(serviceInterface, service)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeService(method, args);
+        }
+        AiServiceMethodEvent event = new AiServiceMethodEvent();
+        event.begin();
+        try {
+            Object result = invokeService(method, args);
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = serviceInterface;
+                event.method = method.getName();
+                event.commit();
+            }
+            return result;
+        } catch (Throwable t) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = serviceInterface;
+                event.method = method.getName();
+                event.error = JfrEvents.error(t);
+                event.commit();
+            }
+            throw t;
+        }
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
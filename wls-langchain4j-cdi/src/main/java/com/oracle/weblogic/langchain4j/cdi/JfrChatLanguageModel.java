@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Emits a {@link ModelCallEvent} for every call to a {@link ChatLanguageModel}.
+ */
+final class JfrChatLanguageModel extends ChatLanguageModelDecorator {
+
+    private final String beanName;
+    private final String modelName;
+
+    JfrChatLanguageModel(ChatLanguageModel delegate, String beanName, String modelName) {
+        super(delegate);
+        this.beanName = beanName;
+        this.modelName = modelName;
+    }
+
+    @Override
+    <T> T invoke(List<ChatMessage> messages, Supplier<T> call) {
+        ModelCallEvent event = new ModelCallEvent();
+        event.begin();
+        try {
+            T response = call.get();
+            commit(event, tokenUsage(response), null);
+            return response;
+        } catch (RuntimeException | Error e) {
+            commit(event, null, e);
+            throw e;
+        }
+    }
+
+    private void commit(ModelCallEvent event, TokenUsage tokenUsage, Throwable error) {
+        event.end();
+        if (event.shouldCommit()) {
+            populate(event, beanName, modelName, tokenUsage, error);
+            event.commit();
+        }
+    }
+
+    static void populate(ModelCallEvent event, String beanName, String modelName, TokenUsage tokenUsage,
+                         Throwable error) {
+        event.beanName = beanName;
+        event.modelName = modelName;
+        if (tokenUsage != null) {
+            event.inputTokens = count(tokenUsage.inputTokenCount());
+            event.outputTokens = count(tokenUsage.outputTokenCount());
+            event.totalTokens = count(tokenUsage.totalTokenCount());
+        }
+        if (error != null) {
+            event.error = JfrEvents.error(error);
+        }
+    }
+
+    private static int count(Integer count) {
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+
+/**
+ * Emits a {@link ContentRetrievalEvent} for every query sent to a {@link ContentRetriever}.
+ */
+final class JfrContentRetriever implements ContentRetriever {
+
+    private final ContentRetriever delegate;
+    private final String retriever;
+    private final String store;
+
+    JfrContentRetriever(ContentRetriever delegate, String retriever, String store) {
+        this.delegate = delegate;
+        this.retriever = retriever;
+        this.store = store;
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+        ContentRetrievalEvent event = new ContentRetrievalEvent();
+        event.begin();
+        try {
+            List<Content> contents = delegate.retrieve(query);
+            event.end();
+            if (event.shouldCommit()) {
+                event.retriever = retriever;
+                event.store = store;
+                event.hits = contents == null ? 0 : contents.size();
+                event.commit();
+            }
+            return contents;
+        } catch (RuntimeException | Error e) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.retriever = retriever;
+                event.store = store;
+                event.error = JfrEvents.error(e);
+                event.commit();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+/**
+ * JDK Flight Recorder events of the CDI layer, in the <i>WebLogic / LangChain4j</i> category:
+ * <ul>
+ *     <li><i>wls.langchain4j.ModelCall</i> - {@link ModelCallEvent}, each call to a chat or streaming chat model
+ *     bean.</li>
+ *     <li><i>wls.langchain4j.ToolExecution</i> - {@link ToolExecutionEvent}, each {@code Tool} method
+ *     execution.</li>
+ *     <li><i>wls.langchain4j.ContentRetrieval</i> - {@link ContentRetrievalEvent}, each query to the content
+ *     retriever of an AI service.</li>
+ *     <li><i>wls.langchain4j.AiServiceMethod</i> - {@link AiServiceMethodEvent}, each AI service method
+ *     invocation.</li>
+ * </ul>
+ *
+ * <p>Tool executions are always instrumented. The other events need the models, retrievers and services to be
+ * wrapped, which is done when <i>langchain4j.jfr.enabled</i> is <i>true</i>; as with the other model decorators,
+ * model beans are then registered with their model interfaces only. The events are only populated and committed
+ * while a recording enables them, otherwise the instrumentation costs a few branches per call.</p>
+ */
+final class JfrEvents {
+
+    static final String ENABLED = "langchain4j.jfr.enabled";
+
+    private JfrEvents() {
+    }
+
+    /**
+     * Returns whether models, retrievers and services are instrumented.
+     *
+     * @param configuration the configuration
+     * @return {@code true} if <i>langchain4j.jfr.enabled</i> is <i>true</i>
+     */
+    static boolean isEnabled(Configuration configuration) {
+        return configuration.getBoolean(ENABLED).orElse(false);
+    }
+
+    /**
+     * Returns the value of the error field of an event.
+     *
+     * @param error the failure
+     * @return the class name of the failure
+     */
+    static String error(Throwable error) {
+        return error.getClass().getName();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Emits a {@link ModelCallEvent} for every call to a {@link StreamingChatLanguageModel}, ending when the response is
+ * complete or fails. The handler is only wrapped while a recording enables the event.
+ */
+final class JfrStreamingChatLanguageModel extends StreamingChatLanguageModelDecorator {
+
+    private final String beanName;
+    private final String modelName;
+
+    JfrStreamingChatLanguageModel(StreamingChatLanguageModel delegate, String beanName, String modelName) {
+        super(delegate);
+        this.beanName = beanName;
+        this.modelName = modelName;
+    }
+
+    @Override
+    void invoke(List<ChatMessage> messages,
+                StreamingResponseHandler<AiMessage> handler,
+                Consumer<StreamingResponseHandler<AiMessage>> call) {
+        ModelCallEvent event = new ModelCallEvent();
+        if (!event.isEnabled()) {
+            call.accept(handler);
+            return;
+        }
+        RecordingHandler recording = new RecordingHandler(handler, event);
+        try {
+            call.accept(recording);
+        } catch (RuntimeException | Error e) {
+            recording.commit(null, e);
+            throw e;
+        }
+    }
+
+    private final class RecordingHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final StreamingResponseHandler<AiMessage> handler;
+        private final ModelCallEvent event;
+        private volatile boolean done;
+
+        private RecordingHandler(StreamingResponseHandler<AiMessage> handler, ModelCallEvent event) {
+            this.handler = handler;
+            this.event = event;
+            event.streaming = true;
+            event.begin();
+        }
+
+        @Override
+        public void onNext(String token) {
+            handler.onNext(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            commit(response, null);
+            handler.onComplete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            commit(null, error);
+            handler.onError(error);
+        }
+
+        private void commit(Response<AiMessage> response, Throwable error) {
+            if (done) {
+                return;
+            }
+            done = true;
+            event.end();
+            if (event.shouldCommit()) {
+                JfrChatLanguageModel.populate(event, beanName, modelName,
+                                              response == null ? null : response.tokenUsage(), error);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+
+/**
+ * Records the calls to a {@link ChatLanguageModel} in its {@link ModelMetrics}.
+ */
+final class MeteredChatLanguageModel extends ChatLanguageModelDecorator {
+
+    private final ModelMetrics metrics;
+
+    MeteredChatLanguageModel(ChatLanguageModel delegate, ModelMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    <T> T invoke(List<ChatMessage> messages, Supplier<T> call) {
+        long start = metrics.start();
+        try {
+            T response = call.get();
+            metrics.success(start, tokenUsage(response));
+            return response;
+        } catch (RuntimeException | Error e) {
+            metrics.failure(start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Records the calls to a {@link ModerationModel} in its {@link ModelMetrics}.
+ */
+final class MeteredModerationModel implements ModerationModel {
+
+    private final ModerationModel delegate;
+    private final ModelMetrics metrics;
+
+    MeteredModerationModel(ModerationModel delegate, ModelMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response<Moderation> moderate(String text) {
+        long start = metrics.start();
+        try {
+            Response<Moderation> response = delegate.moderate(text);
+            metrics.success(start, response.tokenUsage());
+            return response;
+        } catch (RuntimeException | Error e) {
+            metrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public Response<Moderation> moderate(List<ChatMessage> messages) {
+        long start = metrics.start();
+        try {
+            Response<Moderation> response = delegate.moderate(messages);
+            metrics.success(start, response.tokenUsage());
+            return response;
+        } catch (RuntimeException | Error e) {
+            metrics.failure(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Records the calls to a {@link StreamingChatLanguageModel} in its {@link ModelMetrics}, including the time to the
+ * first token and the rate at which the following tokens are streamed.
+ *
+ * <p>Every call gets its own small handler, so the events a model reports late for a call never reach the handler of
+ * another call. Recording into the counters and histograms does not allocate.</p>
+ */
+final class MeteredStreamingChatLanguageModel extends StreamingChatLanguageModelDecorator {
+
+    private final ModelMetrics metrics;
+
+    MeteredStreamingChatLanguageModel(StreamingChatLanguageModel delegate, ModelMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    void invoke(List<ChatMessage> messages,
+                StreamingResponseHandler<AiMessage> handler,
+                Consumer<StreamingResponseHandler<AiMessage>> call) {
+        MeteredHandler metered = new MeteredHandler(metrics, handler);
+        try {
+            call.accept(metered);
+        } catch (RuntimeException | Error e) {
+            metered.failed();
+            throw e;
+        }
+    }
+
+    /**
+     * Handler of one call. Tokens are delivered sequentially, so the counters are only written by the thread
+     * delivering them. The call ends exactly once, which guards against a model reporting both an error and
+     * completion, and the events reported after the end are dropped.
+     */
+    private static final class MeteredHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final ModelMetrics metrics;
+        private final StreamingResponseHandler<AiMessage> handler;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final long start;
+        private volatile long firstToken;
+        private volatile long tokens;
+
+        private MeteredHandler(ModelMetrics metrics, StreamingResponseHandler<AiMessage> handler) {
+            this.metrics = metrics;
+            this.handler = handler;
+            this.start = metrics.start();
+        }
+
+        @Override
+        public void onNext(String token) {
+            if (ended.get()) {
+                return;
+            }
+            long count = tokens + 1;
+            tokens = count;
+            if (count == 1) {
+                firstToken = metrics.firstToken(start);
+            }
+            handler.onNext(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            if (!ended.compareAndSet(false, true)) {
+                return;
+            }
+            long end = metrics.success(start, response.tokenUsage());
+            if (tokens > 1) {
+                Integer outputTokens = response.tokenUsage() == null
+                        ? null
+                        : response.tokenUsage().outputTokenCount();
+                metrics.streamed(firstToken, end, outputTokens == null ? tokens : outputTokens);
+            }
+            handler.onComplete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (ended.compareAndSet(false, true)) {
+                metrics.failure(start);
+                handler.onError(error);
+            }
+        }
+
+        private void failed() {
+            if (ended.compareAndSet(false, true)) {
+                metrics.failure(start);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a call to a chat or streaming chat model bean. The duration of a streaming call ends
+ * when the response is complete.
+ */
+@Name("wls.langchain4j.ModelCall")
+@Label("Model Call")
+@Category({"WebLogic", "LangChain4j"})
+@Description("Call to a chat language model")
+@StackTrace(false)
+final class ModelCallEvent extends Event {
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Model Name")
+    String modelName;
+
+    @Label("Streaming")
+    boolean streaming;
+
+    @Label("Input Tokens")
+    int inputTokens;
+
+    @Label("Output Tokens")
+    int outputTokens;
+
+    @Label("Total Tokens")
+    int totalTokens;
+
+    @Label("Error")
+    @Description("Class of the exception if the call failed")
+    String error;
+}
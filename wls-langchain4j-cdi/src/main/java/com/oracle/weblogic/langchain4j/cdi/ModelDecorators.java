@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.language.LanguageModel;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+/**
+ * Applies the decorators configured for a bean registered by the {@link ConditionalProduceExtension}.
+ *
+ * <p>Decorators are configured with the prefix of the {@link ConditionalProduce} key of the producer, that is the key
+ * without its trailing <i>.enabled</i>. For example the properties of the bean enabled by
+ * <i>langchain4j.ollama.chat-model.enabled</i> start with <i>langchain4j.ollama.chat-model</i>. A decorated bean is
+ * registered with the model interfaces it implements instead of the producer return type.</p>
+ */
+final class ModelDecorators {
+
+    private static final String ENABLED_SUFFIX = ".enabled";
+
+    private ModelDecorators() {
+    }
+
+    /**
+     * Returns the configuration prefix of a {@link ConditionalProduce} key.
+     *
+     * @param key the key of the producer
+     * @return the key without the <i>.enabled</i> suffix
+     */
+    static String prefix(String key) {
+        return key.endsWith(ENABLED_SUFFIX) ? key.substring(0, key.length() - ENABLED_SUFFIX.length()) : key;
+    }
+
+    /**
+     * Returns the bean types of a decorated bean.
+     *
+     * @param returnType    the return type of the producer method
+     * @param prefix        the configuration prefix of the bean
+     * @param configuration the configuration
+     * @return the decorated model interfaces and {@link Object}, or an empty set if no decorator applies
+     */
+    static Set<Type> types(Class<?> returnType, String prefix, Configuration configuration) {
+        Set<Type> types = new LinkedHashSet<>();
+        boolean rateLimit = RateLimiter.isConfigured(prefix, configuration);
+        if (rateLimit || Bulkhead.isConfigured(prefix, configuration)) {
+            addIfAssignable(types, returnType, ChatLanguageModel.class);
+            addIfAssignable(types, returnType, StreamingChatLanguageModel.class);
+        }
+        if (rateLimit) {
+            addIfAssignable(types, returnType, EmbeddingModel.class);
+            addIfAssignable(types, returnType, ModerationModel.class);
+        }
+        if (CachingEmbeddingModel.isEnabled(configuration)
+                || BatchingEmbeddingModel.isConfigured(prefix, configuration)) {
+            addIfAssignable(types, returnType, EmbeddingModel.class);
+        }
+        if (SingleFlight.isConfigured(prefix, configuration)) {
+            addIfAssignable(types, returnType, ChatLanguageModel.class);
+            addIfAssignable(types, returnType, EmbeddingModel.class);
+            addIfAssignable(types, returnType, ScoringModel.class);
+        }
+        if (JfrEvents.isEnabled(configuration)) {
+            addIfAssignable(types, returnType, ChatLanguageModel.class);
+            addIfAssignable(types, returnType, StreamingChatLanguageModel.class);
+        }
+        if (ModelMetrics.isEnabled(configuration)) {
+            addIfAssignable(types, returnType, ChatLanguageModel.class);
+            addIfAssignable(types, returnType, StreamingChatLanguageModel.class);
+            addIfAssignable(types, returnType, EmbeddingModel.class);
+            addIfAssignable(types, returnType, ScoringModel.class);
+            addIfAssignable(types, returnType, ModerationModel.class);
+            addIfAssignable(types, returnType, LanguageModel.class);
+        }
+        if (types.isEmpty()) {
+            return Collections.emptySet();
+        }
+        types.add(Object.class);
+        return types;
+    }
+
+    /**
+     * Wraps the model in the configured decorators.
+     *
+     * @param model         the instance returned by the producer method
+     * @param name          the bean name
+     * @param prefix        the configuration prefix of the bean
+     * @param configuration the configuration
+     * @return the decorated model
+     */
+    static Object decorate(Object model, String name, String prefix, Configuration configuration) {
+        return decorate(model, name, prefix, configuration, new ArrayList<>());
+    }
+
+    /**
+     * Wraps the model in the configured decorators, and adds those holding resources to the list.
+     *
+     * @param model         the instance returned by the producer method
+     * @param name          the bean name
+     * @param prefix        the configuration prefix of the bean
+     * @param configuration the configuration
+     * @param resources     receives the decorators to close with the model, innermost first
+     * @return the decorated model
+     */
+    static Object decorate(Object model,
+                           String name,
+                           String prefix,
+                           Configuration configuration,
+                           List<AutoCloseable> resources) {
+        // Innermost first, calls waiting for the rate limiter hold a bulkhead permit
+        model = rateLimit(model, name, prefix, configuration);
+        model = bulkhead(model, name, prefix, configuration);
+        // A batch is one request for the rate limiter
+        if (model instanceof EmbeddingModel && BatchingEmbeddingModel.isConfigured(prefix, configuration)) {
+            model = BatchingEmbeddingModel.create((EmbeddingModel) model, prefix, configuration);
+        }
+        // Collapsed calls neither take permits nor join batches
+        model = singleFlight(model, name, prefix, configuration);
+        // Outermost, cached vectors do not count against the rate limit
+        if (model instanceof EmbeddingModel && CachingEmbeddingModel.isEnabled(configuration)) {
+            var caching = CachingEmbeddingModel.create((EmbeddingModel) model, name, prefix, configuration);
+            resources.add(caching);
+            model = caching;
+        }
+        // Measures what the caller observes, including the time spent waiting in the other decorators
+        if (ModelMetrics.isEnabled(configuration)) {
+            model = metered(model, name);
+        }
+        if (JfrEvents.isEnabled(configuration)) {
+            String modelName = configuration.getString(prefix + ".model-name").orElse(null);
+            if (model instanceof ChatLanguageModel) {
+                model = new JfrChatLanguageModel((ChatLanguageModel) model, name, modelName);
+            } else if (model instanceof StreamingChatLanguageModel) {
+                model = new JfrStreamingChatLanguageModel((StreamingChatLanguageModel) model, name, modelName);
+            }
+        }
+        return model;
+    }
+
+    private static Object rateLimit(Object model, String name, String prefix, Configuration configuration) {
+        if (!(model instanceof ChatLanguageModel || model instanceof StreamingChatLanguageModel
+                || model instanceof EmbeddingModel || model instanceof ModerationModel)) {
+            return model;
+        }
+        RateLimiter rateLimiter = RateLimiter.create(name, prefix, configuration);
+        if (rateLimiter == null) {
+            return model;
+        }
+        if (model instanceof ChatLanguageModel) {
+            return new RateLimitedChatLanguageModel((ChatLanguageModel) model, rateLimiter);
+        } else if (model instanceof StreamingChatLanguageModel) {
+            return new RateLimitedStreamingChatLanguageModel((StreamingChatLanguageModel) model, rateLimiter);
+        } else if (model instanceof EmbeddingModel) {
+            return new RateLimitedEmbeddingModel((EmbeddingModel) model, rateLimiter);
+        } else {
+            return new RateLimitedModerationModel((ModerationModel) model, rateLimiter);
+        }
+    }
+
+    private static Object bulkhead(Object model, String name, String prefix, Configuration configuration) {
+        if (!(model instanceof ChatLanguageModel || model instanceof StreamingChatLanguageModel)) {
+            return model;
+        }
+        Bulkhead bulkhead = Bulkhead.create(name, prefix, configuration);
+        if (bulkhead == null) {
+            return model;
+        }
+        if (model instanceof ChatLanguageModel) {
+            return new BulkheadChatLanguageModel((ChatLanguageModel) model, bulkhead);
+        } else {
+            return new BulkheadStreamingChatLanguageModel((StreamingChatLanguageModel) model, bulkhead);
+        }
+    }
+
+    private static Object singleFlight(Object model, String name, String prefix, Configuration configuration) {
+        if (!(model instanceof ChatLanguageModel || model instanceof EmbeddingModel || model instanceof ScoringModel)
+                || !SingleFlight.isConfigured(prefix, configuration)) {
+            return model;
+        }
+        SingleFlight singleFlight = SingleFlight.create(name);
+        if (model instanceof ChatLanguageModel) {
+            return new SingleFlightChatLanguageModel((ChatLanguageModel) model, singleFlight);
+        } else if (model instanceof EmbeddingModel) {
+            return new SingleFlightEmbeddingModel((EmbeddingModel) model, singleFlight);
+        } else {
+            return new SingleFlightScoringModel((ScoringModel) model, singleFlight);
+        }
+    }
+
+    private static Object metered(Object model, String name) {
+        if (model instanceof ChatLanguageModel) {
+            return new MeteredChatLanguageModel((ChatLanguageModel) model, ModelMetrics.of("ChatModel", name));
+        } else if (model instanceof StreamingChatLanguageModel) {
+            return new MeteredStreamingChatLanguageModel((StreamingChatLanguageModel) model,
+                                                         ModelMetrics.of("StreamingChatModel", name));
+        } else if (model instanceof EmbeddingModel) {
+            return new MeteredEmbeddingModel((EmbeddingModel) model, ModelMetrics.of("EmbeddingModel", name));
+        } else if (model instanceof ScoringModel) {
+            return new MeteredScoringModel((ScoringModel) model, ModelMetrics.of("ScoringModel", name));
+        } else if (model instanceof ModerationModel) {
+            return new MeteredModerationModel((ModerationModel) model, ModelMetrics.of("ModerationModel", name));
+        } else if (model instanceof LanguageModel) {
+            return new MeteredLanguageModel((LanguageModel) model, ModelMetrics.of("LanguageModel", name));
+        }
+        return model;
+    }
+
+    private static void addIfAssignable(Set<Type> types, Class<?> returnType, Class<?> modelType) {
+        if (modelType.isAssignableFrom(returnType)) {
+            types.add(modelType);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Call counts, latency percentiles and token totals of a model bean, published as a JMX MBean.
+ *
+ * <p>Metrics are enabled for all the {@link ConditionalProduce} model beans by setting
+ * <i>langchain4j.metrics.enabled</i> to <i>true</i>. The MBean of a bean is named after the application, its type and
+ * bean name, for example <i>wls.langchain4j:application=shop,type=ChatModel,name=openAiChatModel</i>, so beans of the
+ * same name in several applications of a server do not collide. The application name is <i>java:app/AppName</i>, the
+ * <i>application</i> key is omitted when it is not available. The MBean is registered in the WebLogic runtime MBean
+ * server, or in the platform MBean server outside WebLogic. The metrics of a bean survive a configuration reload.</p>
+ *
+ * <p>Recording a call only updates counters and preallocated histogram buckets, percentiles are computed when the
+ * attributes are read.</p>
+ */
+final class ModelMetrics implements ModelMetricsMBean {
+
+    static final String ENABLED = "langchain4j.metrics.enabled";
+    static final String DOMAIN = "wls.langchain4j";
+
+    private static final Logger LOGGER = Logger.getLogger(ModelMetrics.class.getName());
+    private static final String RUNTIME_MBEAN_SERVER = "java:comp/env/jmx/runtime";
+    private static final String APPLICATION_NAME = "java:app/AppName";
+    private static final Map<String, ModelMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private final ObjectName objectName;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder inputTokens = new LongAdder();
+    private final LongAdder outputTokens = new LongAdder();
+    private final LongAdder totalTokens = new LongAdder();
+    private final LongAdder streamedTokens = new LongAdder();
+    private final LongAdder streamedNanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram timeToFirstToken = new LatencyHistogram();
+    private MBeanServer mBeanServer;
+
+    private ModelMetrics(ObjectName objectName) {
+        this.objectName = objectName;
+    }
+
+    /**
+     * Returns whether metrics are enabled.
+     *
+     * @param configuration the configuration
+     * @return {@code true} if <i>langchain4j.metrics.enabled</i> is <i>true</i>
+     */
+    static boolean isEnabled(Configuration configuration) {
+        return configuration.getBoolean(ENABLED).orElse(false);
+    }
+
+    /**
+     * Returns the metrics of a model bean, creating and registering its MBean on first use.
+     *
+     * @param type the model type used in the object name, for example <i>ChatModel</i>
+     * @param name the bean name
+     * @return the metrics
+     */
+    static ModelMetrics of(String type, String name) {
+        String application = applicationName();
+        return METRICS.computeIfAbsent(application + ":" + type + ":" + name, key -> {
+            ModelMetrics metrics = new ModelMetrics(objectName(application, type, name));
+            metrics.register();
+            return metrics;
+        });
+    }
+
+    /**
+     * Unregisters all the MBeans. Invoked when the container shuts down.
+     */
+    static void unregisterAll() {
+        for (ModelMetrics metrics : METRICS.values()) {
+            metrics.unregister();
+        }
+        METRICS.clear();
+    }
+
+    /**
+     * Records the start of a call.
+     *
+     * @return the start time to pass to {@link #success(long, TokenUsage)} or {@link #failure(long)}
+     */
+    long start() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param start      the value returned by {@link #start()}
+     * @param tokenUsage the token usage of the response, may be {@code null}
+     * @return the end time of the call
+     */
+    long success(long start, TokenUsage tokenUsage) {
+        long end = end(start);
+        if (tokenUsage != null) {
+            add(inputTokens, tokenUsage.inputTokenCount());
+            add(outputTokens, tokenUsage.outputTokenCount());
+            add(totalTokens, tokenUsage.totalTokenCount());
+        }
+        return end;
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    void failure(long start) {
+        end(start);
+        errors.increment();
+    }
+
+    /**
+     * Records the first token of a streaming call.
+     *
+     * @param start the value returned by {@link #start()}
+     * @return the time of the first token
+     */
+    long firstToken(long start) {
+        long now = System.nanoTime();
+        timeToFirstToken.record(now - start);
+        return now;
+    }
+
+    /**
+     * Records the generation rate of a completed streaming call.
+     *
+     * @param firstToken the value returned by {@link #firstToken(long)}
+     * @param end        the value returned by {@link #success(long, TokenUsage)}
+     * @param tokens     the number of streamed tokens
+     */
+    void streamed(long firstToken, long end, long tokens) {
+        streamedTokens.add(tokens);
+        streamedNanos.add(end - firstToken);
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getInputTokens() {
+        return inputTokens.sum();
+    }
+
+    @Override
+    public long getOutputTokens() {
+        return outputTokens.sum();
+    }
+
+    @Override
+    public long getTotalTokens() {
+        return totalTokens.sum();
+    }
+
+    @Override
+    public double getLatencyMean() {
+        return latency.meanMillis();
+    }
+
+    @Override
+    public double getLatencyP50() {
+        return latency.percentileMillis(50);
+    }
+
+    @Override
+    public double getLatencyP90() {
+        return latency.percentileMillis(90);
+    }
+
+    @Override
+    public double getLatencyP99() {
+        return latency.percentileMillis(99);
+    }
+
+    @Override
+    public double getLatencyP999() {
+        return latency.percentileMillis(99.9);
+    }
+
+    @Override
+    public double getLatencyMax() {
+        return latency.maxMillis();
+    }
+
+    @Override
+    public double getTimeToFirstTokenP50() {
+        return timeToFirstToken.percentileMillis(50);
+    }
+
+    @Override
+    public double getTimeToFirstTokenP99() {
+        return timeToFirstToken.percentileMillis(99);
+    }
+
+    @Override
+    public double getTokensPerSecond() {
+        long nanos = streamedNanos.sum();
+        return nanos == 0 ? 0 : streamedTokens.sum() * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        inputTokens.reset();
+        outputTokens.reset();
+        totalTokens.reset();
+        streamedTokens.reset();
+        streamedNanos.reset();
+        latency.reset();
+        timeToFirstToken.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ModelMetrics[" + objectName + ", calls=" + getCalls() + ", errors=" + getErrors() + ", " + latency + "]";
+    }
+
+    private long end(long start) {
+        long end = System.nanoTime();
+        inFlight.decrement();
+        calls.increment();
+        latency.record(end - start);
+        return end;
+    }
+
+    private synchronized void register() {
+        try {
+            MBeanServer server = mBeanServer();
+            server.registerMBean(new StandardMBean(this, ModelMetricsMBean.class), objectName);
+            mBeanServer = server;
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Failed to register MBean " + objectName, e);
+        }
+    }
+
+    private synchronized void unregister() {
+        if (mBeanServer == null) {
+            return;
+        }
+        try {
+            mBeanServer.unregisterMBean(objectName);
+        } catch (JMException e) {
+            LOGGER.log(Level.FINE, "Failed to unregister MBean " + objectName, e);
+        }
+        mBeanServer = null;
+    }
+
+    private static void add(LongAdder adder, Integer count) {
+        if (count != null) {
+            adder.add(count);
+        }
+    }
+
+    private static ObjectName objectName(String application, String type, String name) {
+        Hashtable<String, String> properties = new Hashtable<>();
+        if (application != null) {
+            properties.put("application", isValue(application) ? application : ObjectName.quote(application));
+        }
+        properties.put("type", type);
+        properties.put("name", isValue(name) ? name : ObjectName.quote(name));
+        try {
+            return new ObjectName(DOMAIN, properties);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid bean name for an MBean: " + name, e);
+        }
+    }
+
+    private static boolean isValue(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (",=:\"*?\n".indexOf(name.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return !name.isEmpty();
+    }
+
+    private static String applicationName() {
+        try {
+            return (String) new InitialContext().lookup(APPLICATION_NAME);
+        } catch (NamingException | RuntimeException e) {
+            // Not running in an application server
+            return null;
+        }
+    }
+
+    private static MBeanServer mBeanServer() {
+        try {
+            return (MBeanServer) new InitialContext().lookup(RUNTIME_MBEAN_SERVER);
+        } catch (NamingException | RuntimeException e) {
+            // Not running in WebLogic
+            return ManagementFactory.getPlatformMBeanServer();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+/**
+ * Management interface of the metrics of a model bean, registered as
+ * <i>wls.langchain4j:application=&lt;application name&gt;,type=&lt;model type&gt;,name=&lt;bean name&gt;</i>. Durations
+ * are in milliseconds.
+ *
+ * @see ModelMetrics
+ */
+public interface ModelMetricsMBean {
+
+    /**
+     * Returns the number of calls, including failed calls.
+     *
+     * @return the number of calls
+     */
+    long getCalls();
+
+    /**
+     * Returns the number of failed calls.
+     *
+     * @return the number of failed calls
+     */
+    long getErrors();
+
+    /**
+     * Returns the number of calls in progress.
+     *
+     * @return the number of calls in progress
+     */
+    long getInFlight();
+
+    /**
+     * Returns the number of input tokens reported by the model.
+     *
+     * @return the input tokens
+     */
+    long getInputTokens();
+
+    /**
+     * Returns the number of output tokens reported by the model.
+     *
+     * @return the output tokens
+     */
+    long getOutputTokens();
+
+    /**
+     * Returns the total number of tokens reported by the model.
+     *
+     * @return the total tokens
+     */
+    long getTotalTokens();
+
+    /**
+     * Returns the mean latency of the calls.
+     *
+     * @return the mean latency
+     */
+    double getLatencyMean();
+
+    /**
+     * Returns the median latency of the calls.
+     *
+     * @return the 50th percentile
+     */
+    double getLatencyP50();
+
+    /**
+     * Returns the 90th percentile of the latency of the calls.
+     *
+     * @return the 90th percentile
+     */
+    double getLatencyP90();
+
+    /**
+     * Returns the 99th percentile of the latency of the calls.
+     *
+     * @return the 99th percentile
+     */
+    double getLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the latency of the calls.
+     *
+     * @return the 99.9th percentile
+     */
+    double getLatencyP999();
+
+    /**
+     * Returns the longest call.
+     *
+     * @return the maximum latency
+     */
+    double getLatencyMax();
+
+    /**
+     * Returns the median time between a streaming call and its first token, 0 for other models.
+     *
+     * @return the 50th percentile of the time to first token
+     */
+    double getTimeToFirstTokenP50();
+
+    /**
+     * Returns the 99th percentile of the time between a streaming call and its first token, 0 for other models.
+     *
+     * @return the 99th percentile of the time to first token
+     */
+    double getTimeToFirstTokenP99();
+
+    /**
+     * Returns the output tokens per second of the streaming calls, measured from the first token to the end of the
+     * response, 0 for other models.
+     *
+     * @return the tokens per second
+     */
+    double getTokensPerSecond();
+
+    /**
+     * Clears all the counters and histograms.
+     */
+    void reset();
+}
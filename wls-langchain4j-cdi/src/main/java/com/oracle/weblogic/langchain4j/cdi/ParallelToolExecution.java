@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+/**
+ * Runs the tool calls requested by a model in one turn concurrently.
+ *
+ * <p>LangChain4J executes the tool requests of a response one after the other, on the thread that called the model.
+ * The chat models of an AI service are wrapped so that as soon as a response requests tools, every request is
+ * submitted to an executor. The tool executors given to LangChain4J then wait for the result of their request
+ * instead of running it, so the results are still sent back to the model in the original order, and a turn takes as
+ * long as its slowest tool. Tools with a {@code ToolMemoryId} parameter run on the calling thread, as the memory id
+ * is not known when the response is received. Tool requests of a model called from a tool, for example by an AI
+ * service used in a tool, run on the calling thread as well, so nested calls cannot starve the executor.</p>
+ *
+ * <p>The requests are matched by identity, as LangChain4J passes the instances of the response to the tool executors,
+ * and identical requests without id are distinct calls. The requests not executed by the end of the AI service call,
+ * for example because a tool failed, are cancelled.</p>
+ *
+ * <p>The following properties configure it:</p>
+ * <ul>
+ *     <li><i>langchain4j.tools.parallel.enabled</i> - enables concurrent tool execution, <i>false</i> by
+ *     default.</li>
+ *     <li><i>langchain4j.tools.parallel.executor</i> - name of an {@link Executor} bean running the tools, for
+ *     example a managed executor service when tools need the container context. By default the tools run on their own
+ *     executor, separate from the one of the asynchronous AI service methods: virtual threads, unless
+ *     <i>langchain4j.async.virtual-threads</i> is <i>false</i>, or else a pool of platform threads.</li>
+ *     <li><i>langchain4j.tools.parallel.pool-size</i> - size of that platform thread pool, the number of processors
+ *     by default.</li>
+ *     <li><i>langchain4j.tools.parallel.timeout</i> - time in milliseconds a tool may run, counted from the model
+ *     response, no limit by default. The model receives an error message for a tool that timed out, and the thread
+ *     running the tool is interrupted. When set, a single tool request is also run on the executor.</li>
+ * </ul>
+ */
+final class ParallelToolExecution {
+
+    static final String ENABLED = "langchain4j.tools.parallel.enabled";
+    static final String EXECUTOR = "langchain4j.tools.parallel.executor";
+    static final String TIMEOUT = "langchain4j.tools.parallel.timeout";
+    static final String POOL_SIZE = "langchain4j.tools.parallel.pool-size";
+
+    private static final Logger LOGGER = Logger.getLogger(ParallelToolExecution.class.getName());
+    // Set while a thread runs a tool, its own tool requests then run inline
+    private static final ThreadLocal<Boolean> RUNNING_TOOL = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final long timeout;
+    private final Map<String, ToolMethodExecutor> executors = new HashMap<>();
+    // AI services execute the tools on the thread that received the model response
+    private final ThreadLocal<Map<ToolExecutionRequest, ToolTask>> pending = new ThreadLocal<>();
+
+    private ParallelToolExecution(Executor executor, long timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns whether concurrent tool execution is enabled.
+     *
+     * @param configuration the configuration
+     * @return {@code true} if <i>langchain4j.tools.parallel.enabled</i> is <i>true</i>
+     */
+    static boolean isEnabled(Configuration configuration) {
+        return configuration.getBoolean(ENABLED).orElse(false);
+    }
+
+    /**
+     * Creates the concurrent tool execution of an AI service.
+     *
+     * @param configuration   the configuration
+     * @param defaultExecutor supplies the executor used when <i>langchain4j.tools.parallel.executor</i> is not set
+     * @return the concurrent tool execution
+     */
+    static ParallelToolExecution create(Configuration configuration, Supplier<Executor> defaultExecutor) {
+        Executor executor = configuration.getString(EXECUTOR)
+                .map(name -> BeanResolver.resolve(Executor.class, BeanName.create(name)))
+                .orElseGet(defaultExecutor);
+        long timeout = configuration.getLong(TIMEOUT).orElse(0L);
+        if (timeout < 0) {
+            throw new IllegalArgumentException(TIMEOUT + " must not be negative");
+        }
+        return new ParallelToolExecution(executor, timeout);
+    }
+
+    /**
+     * Wraps the tool executors of the AI service.
+     *
+     * @param tools the tools of the AI service
+     * @return the tools whose executors wait for the concurrently executed requests
+     */
+    Map<ToolSpecification, ToolExecutor> tools(Map<ToolSpecification, ToolExecutor> tools) {
+        Map<ToolSpecification, ToolExecutor> result = new LinkedHashMap<>();
+        for (var entry : tools.entrySet()) {
+            var toolExecutor = entry.getValue();
+            if (toolExecutor instanceof ToolMethodExecutor && !((ToolMethodExecutor) toolExecutor).usesMemoryId()) {
+                executors.put(entry.getKey().name(), (ToolMethodExecutor) toolExecutor);
+                result.put(entry.getKey(), new ConcurrentToolExecutor(toolExecutor));
+            } else {
+                result.put(entry.getKey(), toolExecutor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Wraps the AI service, so the tool requests it did not execute are cancelled when a call returns.
+     *
+     * @param serviceInterface the AI service interface
+     * @param service          the implementation created by LangChain4J
+     * @param <T>              the type of the AI service
+     * @return the wrapped service
+     */
+    <T> T service(Class<T> serviceInterface, T service) {
+        InvocationHandler handler = (proxy, method, args) -> invokeService(service, method, args);
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+                                                            new Class<?>[] {serviceInterface},
+                                                            handler));
+    }
+
+    /**
+     * Wraps the chat model of the AI service.
+     *
+     * @param model the chat model, may be {@code null}
+     * @return the model starting the tool requests of its responses
+     */
+    ChatLanguageModel chatLanguageModel(ChatLanguageModel model) {
+        return model == null ? null : new ChatModel(model);
+    }
+
+    /**
+     * Wraps the streaming chat model of the AI service.
+     *
+     * @param model the streaming chat model, may be {@code null}
+     * @return the model starting the tool requests of its responses
+     */
+    StreamingChatLanguageModel streamingChatLanguageModel(StreamingChatLanguageModel model) {
+        return model == null ? null : new StreamingChatModel(model);
+    }
+
+    private Object invokeService(Object service, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invoke(service, method, args);
+        }
+        // A tool running on this thread may call an AI service, the requests of the outer call are kept
+        var outer = pending.get();
+        pending.remove();
+        try {
+            return invoke(service, method, args);
+        } finally {
+            cancelPending();
+            if (outer != null) {
+                pending.set(outer);
+            }
+        }
+    }
+
+    private static Object invoke(Object service, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void cancelPending() {
+        var tasks = pending.get();
+        if (tasks != null) {
+            pending.remove();
+            tasks.values().forEach(task -> task.cancel(true));
+        }
+    }
+
+    private void start(AiMessage aiMessage) {
+        cancelPending();
+        if (aiMessage == null || !aiMessage.hasToolExecutionRequests()) {
+            return;
+        }
+        List<ToolExecutionRequest> requests = aiMessage.toolExecutionRequests();
+        if ((requests.size() < 2 && timeout == 0) || RUNNING_TOOL.get() != null) {
+            return;
+        }
+        Map<ToolExecutionRequest, ToolTask> tasks = new IdentityHashMap<>();
+        for (var request : requests) {
+            var toolExecutor = executors.get(request.name());
+            if (toolExecutor != null) {
+                var task = new ToolTask(toolExecutor, request);
+                executor.execute(task);
+                if (timeout > 0) {
+                    task.result.orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((result, error) -> {
+                        if (error instanceof TimeoutException) {
+                            task.cancel(true);
+                        }
+                    });
+                }
+                tasks.put(request, task);
+            }
+        }
+        if (!tasks.isEmpty()) {
+            pending.set(tasks);
+        }
+    }
+
+    private String await(ToolExecutionRequest request, CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                LOGGER.warning("Tool " + request.name() + " did not finish within " + timeout + " ms");
+                return "Tool " + request.name() + " timed out after " + timeout + " ms";
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to execute tool " + request.name(), cause);
+        }
+    }
+
+    /**
+     * Tool request submitted to the executor. The task itself can be cancelled, interrupting the tool, while the
+     * result can also complete by a timeout.
+     */
+    private static final class ToolTask extends FutureTask<String> {
+
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private ToolTask(ToolMethodExecutor toolExecutor, ToolExecutionRequest request) {
+            super(() -> {
+                RUNNING_TOOL.set(Boolean.TRUE);
+                try {
+                    return toolExecutor.execute(request, null);
+                } finally {
+                    RUNNING_TOOL.remove();
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                result.cancel(false);
+                return;
+            }
+            try {
+                result.complete(get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (InterruptedException e) {
+                // Not reached, the task is done
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class ConcurrentToolExecutor implements ToolExecutor {
+
+        private final ToolExecutor delegate;
+
+        private ConcurrentToolExecutor(ToolExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String execute(ToolExecutionRequest request, Object memoryId) {
+            var tasks = pending.get();
+            var task = tasks == null ? null : tasks.remove(request);
+            if (task == null) {
+                return delegate.execute(request, memoryId);
+            }
+            if (tasks.isEmpty()) {
+                pending.remove();
+            }
+            return await(request, task.result);
+        }
+    }
+
+    private final class ChatModel extends ChatLanguageModelDecorator {
+
+        private ChatModel(ChatLanguageModel delegate) {
+            super(delegate);
+        }
+
+        @Override
+        <T> T invoke(List<ChatMessage> messages, Supplier<T> call) {
+            T response = call.get();
+            if (response instanceof Response) {
+                Object content = ((Response<?>) response).content();
+                start(content instanceof AiMessage ? (AiMessage) content : null);
+            } else if (response instanceof ChatResponse) {
+                start(((ChatResponse) response).aiMessage());
+            }
+            return response;
+        }
+    }
+
+    private final class StreamingChatModel extends StreamingChatLanguageModelDecorator {
+
+        private StreamingChatModel(StreamingChatLanguageModel delegate) {
+            super(delegate);
+        }
+
+        @Override
+        void invoke(List<ChatMessage> messages,
+                    StreamingResponseHandler<AiMessage> handler,
+                    Consumer<StreamingResponseHandler<AiMessage>> call) {
+            call.accept(new StreamingResponseHandler<>() {
+                @Override
+                public void onNext(String token) {
+                    handler.onNext(token);
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    // The AI service executes the tools from this callback
+                    start(response.content());
+                    try {
+                        handler.onComplete(response);
+                    } finally {
+                        cancelPending();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    handler.onError(error);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to a {@link ChatLanguageModel} through a {@link RateLimiter}.
+ */
+final class RateLimitedChatLanguageModel extends ChatLanguageModelDecorator {
+
+    private final RateLimiter rateLimiter;
+
+    RateLimitedChatLanguageModel(ChatLanguageModel delegate, RateLimiter rateLimiter) {
+        super(delegate);
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    <T> T invoke(List<ChatMessage> messages, Supplier<T> call) {
+        int estimate = rateLimiter.estimateMessages(delegate(), messages);
+        rateLimiter.acquire(estimate);
+        T result = call.get();
+        if (result instanceof Response) {
+            rateLimiter.record(estimate, ((Response<?>) result).tokenUsage());
+        } else if (result instanceof ChatResponse) {
+            rateLimiter.record(estimate, ((ChatResponse) result).tokenUsage());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to an {@link EmbeddingModel} through a {@link RateLimiter}.
+ */
+final class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final RateLimiter rateLimiter;
+
+    RateLimitedEmbeddingModel(EmbeddingModel delegate, RateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        int estimate = rateLimiter.estimateSegments(delegate, textSegments);
+        rateLimiter.acquire(estimate);
+        Response<List<Embedding>> response = delegate.embedAll(textSegments);
+        rateLimiter.record(estimate, response.tokenUsage());
+        return response;
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
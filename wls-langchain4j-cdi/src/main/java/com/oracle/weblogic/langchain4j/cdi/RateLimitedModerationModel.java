@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to a {@link ModerationModel} through a {@link RateLimiter}.
+ */
+final class RateLimitedModerationModel implements ModerationModel {
+
+    private final ModerationModel delegate;
+    private final RateLimiter rateLimiter;
+
+    RateLimitedModerationModel(ModerationModel delegate, RateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Response<Moderation> moderate(String text) {
+        int estimate = rateLimiter.estimateText(text);
+        rateLimiter.acquire(estimate);
+        Response<Moderation> response = delegate.moderate(text);
+        rateLimiter.record(estimate, response.tokenUsage());
+        return response;
+    }
+
+    @Override
+    public Response<Moderation> moderate(List<ChatMessage> messages) {
+        int estimate = rateLimiter.estimateMessages(delegate, messages);
+        rateLimiter.acquire(estimate);
+        Response<Moderation> response = delegate.moderate(messages);
+        rateLimiter.record(estimate, response.tokenUsage());
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
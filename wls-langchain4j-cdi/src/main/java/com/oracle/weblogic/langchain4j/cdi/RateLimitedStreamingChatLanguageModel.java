@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to a {@link StreamingChatLanguageModel} through a {@link RateLimiter}. The token usage is recorded
+ * when the response is complete.
+ */
+final class RateLimitedStreamingChatLanguageModel extends StreamingChatLanguageModelDecorator {
+
+    private final RateLimiter rateLimiter;
+
+    RateLimitedStreamingChatLanguageModel(StreamingChatLanguageModel delegate, RateLimiter rateLimiter) {
+        super(delegate);
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    void invoke(List<ChatMessage> messages,
+                StreamingResponseHandler<AiMessage> handler,
+                Consumer<StreamingResponseHandler<AiMessage>> call) {
+        int estimate = rateLimiter.estimateMessages(delegate(), messages);
+        rateLimiter.acquire(estimate);
+        call.accept(new StreamingResponseHandler<>() {
+            @Override
+            public void onNext(String token) {
+                handler.onNext(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                rateLimiter.record(estimate, response.tokenUsage());
+                handler.onComplete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+}
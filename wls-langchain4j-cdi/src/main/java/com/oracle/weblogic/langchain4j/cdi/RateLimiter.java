@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Client-side rate limiter of a model bean, limiting the requests and the tokens sent per minute.
+ *
+ * <p>A rate limiter is configured per model with the prefix of its {@link ConditionalProduce} key, for example:</p>
+ * <pre>
+ * langchain4j.open-ai.chat-model.rate-limit.requests-per-minute=500
+ * langchain4j.open-ai.chat-model.rate-limit.tokens-per-minute=30000
+ * </pre>
+ * <p>Either property enables the rate limiter. Calls exceeding the rate are delayed rather than rejected, so the
+ * provider does not answer with <i>429 Too Many Requests</i> and the client does not retry. Calls are spaced evenly,
+ * with a tolerance of <i>&lt;prefix&gt;.rate-limit.burst-seconds</i> (1 by default) worth of requests and tokens
+ * after an idle period.</p>
+ *
+ * <p>The tokens of a call are estimated before sending it with the {@link Tokenizer} bean named by
+ * <i>&lt;prefix&gt;.tokenizer</i>, or with the model itself if it estimates token counts, or else from the length of
+ * the text contents. When the response reports its token usage the difference with the estimate is charged or
+ * refunded.</p>
+ *
+ * <p>Each limit is a token bucket implemented with the generic cell rate algorithm: the state is the time at which
+ * the bucket is empty again, reserved with a single compare-and-set, so no lock is taken.</p>
+ */
+final class RateLimiter {
+
+    static final String REQUESTS_PER_MINUTE = ".rate-limit.requests-per-minute";
+    static final String TOKENS_PER_MINUTE = ".rate-limit.tokens-per-minute";
+    static final String BURST_SECONDS = ".rate-limit.burst-seconds";
+    static final String TOKENIZER = ".tokenizer";
+
+    private static final int CHARACTERS_PER_TOKEN = 4;
+    private static final long DEFAULT_BURST_SECONDS = 1;
+
+    private final String name;
+    private final Bucket requests;
+    private final Bucket tokens;
+    private final Tokenizer tokenizer;
+
+    private RateLimiter(String name, Bucket requests, Bucket tokens, Tokenizer tokenizer) {
+        this.name = name;
+        this.requests = requests;
+        this.tokens = tokens;
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Returns whether a rate limiter is configured for the given prefix.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return {@code true} if a request or token limit is set
+     */
+    static boolean isConfigured(String prefix, Configuration configuration) {
+        return configuration.getLong(prefix + REQUESTS_PER_MINUTE).isPresent()
+                || configuration.getLong(prefix + TOKENS_PER_MINUTE).isPresent();
+    }
+
+    /**
+     * Creates the rate limiter of a model.
+     *
+     * @param name          the bean name of the model
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return the rate limiter, or {@code null} if it is not configured
+     */
+    static RateLimiter create(String name, String prefix, Configuration configuration) {
+        if (!isConfigured(prefix, configuration)) {
+            return null;
+        }
+        long burstSeconds = configuration.getLong(prefix + BURST_SECONDS).orElse(DEFAULT_BURST_SECONDS);
+        if (burstSeconds < 0) {
+            throw new IllegalArgumentException(prefix + BURST_SECONDS + " must not be negative");
+        }
+        long burst = TimeUnit.SECONDS.toNanos(burstSeconds);
+        Bucket requests = bucket(prefix + REQUESTS_PER_MINUTE, burst, configuration);
+        Bucket tokens = bucket(prefix + TOKENS_PER_MINUTE, burst, configuration);
+        Tokenizer tokenizer = tokens == null
+                ? null
+                : configuration.getString(prefix + TOKENIZER)
+                        .map(t -> BeanResolver.resolve(Tokenizer.class, BeanName.create(t)))
+                        .orElse(null);
+        return new RateLimiter(name, requests, tokens, tokenizer);
+    }
+
+    /**
+     * Waits until a call of the given estimated size may be sent.
+     *
+     * @param estimatedTokens the estimated number of tokens of the call
+     */
+    void acquire(int estimatedTokens) {
+        long delay = 0;
+        if (requests != null) {
+            delay = requests.reserve(1);
+        }
+        if (tokens != null) {
+            delay = Math.max(delay, tokens.reserve(estimatedTokens));
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the rate limiter of " + name, e);
+            }
+        }
+    }
+
+    /**
+     * Corrects the estimate of a call with the token usage reported by the response.
+     *
+     * @param estimatedTokens the estimate passed to {@link #acquire(int)}
+     * @param usage           the token usage of the response, may be {@code null}
+     */
+    void record(int estimatedTokens, TokenUsage usage) {
+        if (tokens != null && usage != null && usage.totalTokenCount() != null) {
+            tokens.adjust(usage.totalTokenCount() - estimatedTokens);
+        }
+    }
+
+    /**
+     * Estimates the tokens of the messages sent to a chat model.
+     *
+     * @param model    the decorated model
+     * @param messages the messages
+     * @return the estimated number of tokens, 0 if tokens are not limited
+     */
+    int estimateMessages(Object model, List<ChatMessage> messages) {
+        if (tokens == null) {
+            return 0;
+        }
+        if (model instanceof TokenCountEstimator && tokenizer == null) {
+            return ((TokenCountEstimator) model).estimateTokenCount(messages);
+        }
+        int count = 0;
+        for (ChatMessage message : messages) {
+            count += tokenizer != null
+                    ? tokenizer.estimateTokenCountInMessage(message)
+                    : characters(message) / CHARACTERS_PER_TOKEN + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Estimates the tokens of the segments sent to an embedding model.
+     *
+     * @param model    the decorated model
+     * @param segments the text segments
+     * @return the estimated number of tokens, 0 if tokens are not limited
+     */
+    int estimateSegments(Object model, List<TextSegment> segments) {
+        if (tokens == null) {
+            return 0;
+        }
+        if (model instanceof dev.langchain4j.model.embedding.TokenCountEstimator) {
+            return ((dev.langchain4j.model.embedding.TokenCountEstimator) model).estimateTokenCount(segments);
+        }
+        int count = 0;
+        for (TextSegment segment : segments) {
+            count += estimateText(segment.text());
+        }
+        return count;
+    }
+
+    /**
+     * Estimates the tokens of a text.
+     *
+     * @param text the text
+     * @return the estimated number of tokens, 0 if tokens are not limited
+     */
+    int estimateText(String text) {
+        if (tokens == null) {
+            return 0;
+        }
+        return tokenizer != null ? tokenizer.estimateTokenCountInText(text) : text.length() / CHARACTERS_PER_TOKEN + 1;
+    }
+
+    // Length of the text contents of a message, other contents such as images are not counted
+    private static int characters(ChatMessage message) {
+        String text = null;
+        if (message instanceof UserMessage) {
+            int characters = 0;
+            for (Content content : ((UserMessage) message).contents()) {
+                if (content instanceof TextContent) {
+                    characters += ((TextContent) content).text().length();
+                }
+            }
+            return characters;
+        } else if (message instanceof SystemMessage) {
+            text = ((SystemMessage) message).text();
+        } else if (message instanceof AiMessage) {
+            text = ((AiMessage) message).text();
+        } else if (message instanceof ToolExecutionResultMessage) {
+            text = ((ToolExecutionResultMessage) message).text();
+        }
+        return text != null ? text.length() : 0;
+    }
+
+    private static Bucket bucket(String key, long burst, Configuration configuration) {
+        Optional<Long> perMinute = configuration.getLong(key);
+        if (perMinute.isEmpty()) {
+            return null;
+        }
+        if (perMinute.get() < 1) {
+            throw new IllegalArgumentException(key + " must be greater than 0");
+        }
+        return new Bucket(perMinute.get(), burst);
+    }
+
+    /**
+     * Token bucket refilled continuously at a rate of its capacity per minute, holding at most the burst tolerance.
+     */
+    private static final class Bucket {
+
+        private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
+
+        private final long interval;
+        private final long burst;
+        // Time at which the bucket is full again
+        private final AtomicLong full;
+
+        private Bucket(long perMinute, long burst) {
+            this.interval = Math.max(1, WINDOW / perMinute);
+            this.burst = burst;
+            this.full = new AtomicLong(System.nanoTime());
+        }
+
+        /**
+         * Reserves units from the bucket.
+         *
+         * @param units the number of units
+         * @return the time to wait in nanoseconds before the units are available
+         */
+        long reserve(long units) {
+            long cost = units * interval;
+            while (true) {
+                long now = System.nanoTime();
+                long current = full.get();
+                long start = current - now > 0 ? current : now;
+                if (full.compareAndSet(current, start + cost)) {
+                    return Math.max(0, start - now - burst);
+                }
+            }
+        }
+
+        /**
+         * Charges additional units, or refunds them if negative.
+         *
+         * @param units the number of units
+         */
+        void adjust(long units) {
+            full.addAndGet(units * interval);
+        }
+    }
+}
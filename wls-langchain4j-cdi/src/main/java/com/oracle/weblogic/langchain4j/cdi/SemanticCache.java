@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process vector index of the prompts answered by a model, returning the stored answer of the most similar prompt.
+ *
+ * <p>Entries are grouped in scopes, and a prompt only matches entries of its own scope. Embeddings are normalized
+ * when stored, so the similarity is the dot product of the vectors. The index holds at most a fixed number of entries,
+ * the oldest entry is evicted first, and entries older than the time to live are ignored and removed when found.
+ * Lookups run in parallel under a read lock.</p>
+ */
+final class SemanticCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final double minScore;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, List<Entry>> scopes = new HashMap<>();
+    // Insertion order, the first entry is evicted first
+    private final LinkedHashMap<Entry, String> entries = new LinkedHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    /**
+     * Creates an index.
+     *
+     * @param maxSize   the maximum number of entries
+     * @param ttlMillis the time to live of an entry in milliseconds, 0 or less for no expiration
+     * @param minScore  the minimum cosine similarity of a match
+     */
+    SemanticCache(int maxSize, long ttlMillis, double minScore) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : 0;
+        this.minScore = minScore;
+    }
+
+    /**
+     * Returns the answer of the most similar prompt of the scope.
+     *
+     * @param scope  the scope of the prompt
+     * @param vector the embedding of the prompt, normalized
+     * @param cost   nanoseconds already spent on the lookup, deducted from the saved latency on a hit
+     * @return the answer, or {@code null} if no prompt is similar enough
+     */
+    Object find(String scope, float[] vector, long cost) {
+        Entry best = null;
+        double bestScore = minScore;
+        boolean expired = false;
+        long now = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<Entry> candidates = scopes.get(scope);
+            if (candidates != null) {
+                for (Entry entry : candidates) {
+                    if (ttlNanos > 0 && now - entry.created > ttlNanos) {
+                        expired = true;
+                        continue;
+                    }
+                    double score = dot(entry.vector, vector);
+                    if (score >= bestScore) {
+                        best = entry;
+                        bestScore = score;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (expired) {
+            removeExpired(scope);
+        }
+        if (best == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        savedNanos.add(Math.max(0, best.latency - cost - (System.nanoTime() - now)));
+        return best.value;
+    }
+
+    /**
+     * Stores the answer to a prompt.
+     *
+     * @param scope   the scope of the prompt
+     * @param vector  the embedding of the prompt, normalized
+     * @param value   the answer
+     * @param latency nanoseconds the model took to answer
+     */
+    void put(String scope, float[] vector, Object value, long latency) {
+        Entry entry = new Entry(vector, value, latency, System.nanoTime());
+        lock.writeLock().lock();
+        try {
+            scopes.computeIfAbsent(scope, s -> new ArrayList<>()).add(entry);
+            entries.put(entry, scope);
+            if (entries.size() > maxSize) {
+                Iterator<Map.Entry<Entry, String>> eldest = entries.entrySet().iterator();
+                Map.Entry<Entry, String> evicted = eldest.next();
+                eldest.remove();
+                remove(evicted.getValue(), evicted.getKey());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of a vector normalized to unit length. The given vector is not modified, as it may be shared
+     * with the embedding model or other callers.
+     *
+     * @param vector the vector
+     * @return the normalized copy
+     */
+    static float[] normalize(float[] vector) {
+        float[] normalized = new float[vector.length];
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                normalized[i] = (float) (vector[i] / norm);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Returns the number of lookups that found an answer.
+     *
+     * @return the hit count
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find an answer.
+     *
+     * @return the miss count
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups that found an answer.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the time the model would have taken to answer the prompts found in the cache, minus the lookups.
+     *
+     * @return the saved latency in milliseconds
+     */
+    long savedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(savedNanos.sum());
+    }
+
+    private void removeExpired(String scope) {
+        long now = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            List<Entry> candidates = scopes.get(scope);
+            if (candidates != null) {
+                candidates.removeIf(entry -> {
+                    boolean expired = now - entry.created > ttlNanos;
+                    if (expired) {
+                        entries.remove(entry);
+                    }
+                    return expired;
+                });
+                if (candidates.isEmpty()) {
+                    scopes.remove(scope);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String scope, Entry entry) {
+        List<Entry> candidates = scopes.get(scope);
+        candidates.remove(entry);
+        if (candidates.isEmpty()) {
+            scopes.remove(scope);
+        }
+    }
+
+    private static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static final class Entry {
+        private final float[] vector;
+        private final Object value;
+        private final long latency;
+        private final long created;
+
+        private Entry(float[] vector, Object value, long latency, long created) {
+            this.vector = vector;
+            this.value = value;
+            this.latency = latency;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Returns the stored answer of an earlier prompt similar to the current one, such as a paraphrase of the same
+ * question.
+ *
+ * <p>The cache is enabled for the chat model of every AI service by setting <i>langchain4j.cache.semantic.enabled</i>
+ * to <i>true</i>. The following properties tune it:</p>
+ * <ul>
+ *     <li><i>langchain4j.cache.semantic.embedding-model</i> - name of the {@link EmbeddingModel} bean embedding the
+ *     prompts, discovered automatically by default.</li>
+ *     <li><i>langchain4j.cache.semantic.min-score</i> - minimum cosine similarity of a match, 0.95 by default.</li>
+ *     <li><i>langchain4j.cache.semantic.max-size</i> - maximum number of prompts stored per AI service, 1000 by
+ *     default.</li>
+ *     <li><i>langchain4j.cache.semantic.ttl</i> - time to live of an answer in milliseconds, 600000 by default.</li>
+ * </ul>
+ * <p>Only the last user message is compared. The scope of a prompt is the AI service, the system message and the
+ * earlier messages of the conversation, so an answer is only returned for the same instructions and history. Requests
+ * offering tools, and answers requesting tool executions, are never cached.</p>
+ */
+final class SemanticCachingChatLanguageModel implements ChatLanguageModel {
+
+    static final String ENABLED = "langchain4j.cache.semantic.enabled";
+    static final String EMBEDDING_MODEL = "langchain4j.cache.semantic.embedding-model";
+    static final String MIN_SCORE = "langchain4j.cache.semantic.min-score";
+    static final String MAX_SIZE = "langchain4j.cache.semantic.max-size";
+    static final String TTL = "langchain4j.cache.semantic.ttl";
+
+    private static final Logger LOGGER = Logger.getLogger(SemanticCachingChatLanguageModel.class.getName());
+
+    private final ChatLanguageModel delegate;
+    private final EmbeddingModel embeddingModel;
+    private final String service;
+    private final SemanticCache cache;
+
+    private SemanticCachingChatLanguageModel(ChatLanguageModel delegate,
+                                             EmbeddingModel embeddingModel,
+                                             String service,
+                                             SemanticCache cache) {
+        this.delegate = delegate;
+        this.embeddingModel = embeddingModel;
+        this.service = service;
+        this.cache = cache;
+    }
+
+    /**
+     * Wraps the chat model of an AI service.
+     *
+     * @param delegate      the chat model
+     * @param service       the AI service interface
+     * @param configuration the configuration
+     * @return the caching model
+     */
+    static SemanticCachingChatLanguageModel wrap(ChatLanguageModel delegate,
+                                                 Class<?> service,
+                                                 Configuration configuration) {
+        var embeddingModelName = configuration.getString(EMBEDDING_MODEL)
+                .map(BeanName::create)
+                .orElseGet(BeanName::create);
+        var cache = new SemanticCache(configuration.getInteger(MAX_SIZE).orElse(1000),
+                                      configuration.getLong(TTL).orElse(600000L),
+                                      configuration.getDouble(MIN_SCORE).orElse(0.95));
+        return new SemanticCachingChatLanguageModel(delegate,
+                                                    BeanResolver.resolve(EmbeddingModel.class, embeddingModelName),
+                                                    service.getName(),
+                                                    cache);
+    }
+
+    /**
+     * Logs the hit rate and the latency saved by the cache.
+     */
+    void logStatistics() {
+        LOGGER.info(String.format("Semantic cache of %s: %d hits, %d misses, hit rate %.1f%%, saved %d ms",
+                                  service, cache.hitCount(), cache.missCount(), cache.hitRate() * 100,
+                                  cache.savedMillis()));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return cached("generate", messages, null, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        if (toolSpecifications == null || toolSpecifications.isEmpty()) {
+            return generate(messages);
+        }
+        return delegate.generate(messages, toolSpecifications);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return delegate.generate(messages, toolSpecification);
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        if (chatRequest.toolSpecifications() != null && !chatRequest.toolSpecifications().isEmpty()) {
+            return delegate.chat(chatRequest);
+        }
+        return cached("chat", chatRequest.messages(), chatRequest.responseFormat(), () -> delegate.chat(chatRequest));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String method, List<ChatMessage> messages, Object responseFormat, Supplier<T> call) {
+        if (messages.isEmpty() || !(messages.get(messages.size() - 1) instanceof UserMessage)) {
+            return call.get();
+        }
+        UserMessage prompt = (UserMessage) messages.get(messages.size() - 1);
+        if (!prompt.hasSingleText()) {
+            return call.get();
+        }
+        long start = System.nanoTime();
+        String scope = scope(method, messages, responseFormat);
+        float[] vector = SemanticCache.normalize(embeddingModel.embed(prompt.singleText()).content().vector());
+        Object cached = cache.find(scope, vector, System.nanoTime() - start);
+        if (cached != null) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Semantic cache hit in " + service + ", hit rate " + cache.hitRate()
+                                    + ", saved " + cache.savedMillis() + " ms so far");
+            }
+            return (T) cached;
+        }
+        long callStart = System.nanoTime();
+        T result = call.get();
+        if (isCacheable(result)) {
+            cache.put(scope, vector, result, System.nanoTime() - callStart);
+        }
+        return result;
+    }
+
+    private String scope(String method, List<ChatMessage> messages, Object responseFormat) {
+        String systemMessage = null;
+        List<ChatMessage> history = messages.subList(0, messages.size() - 1);
+        if (!history.isEmpty() && history.get(0) instanceof SystemMessage) {
+            systemMessage = ((SystemMessage) history.get(0)).text();
+            history = history.subList(1, history.size());
+        }
+        return Hashing.sha256(service,
+                              method,
+                              systemMessage,
+                              history.isEmpty() ? null : ChatMessageSerializer.messagesToJson(history),
+                              responseFormat != null ? responseFormat.toString() : null);
+    }
+
+    private static boolean isCacheable(Object result) {
+        AiMessage message = null;
+        if (result instanceof Response && ((Response<?>) result).content() instanceof AiMessage) {
+            message = (AiMessage) ((Response<?>) result).content();
+        } else if (result instanceof ChatResponse) {
+            message = ((ChatResponse) result).aiMessage();
+        }
+        return message != null && !message.hasToolExecutionRequests() && message.text() != null;
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.service.AiServiceContext;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Chat memory provider keeping a message window per {@code @MemoryId}, so every user of an AI service has their own
+ * conversation.
+ *
+ * <p>The conversations are spread over shards by the hash of their memory id. Each shard has its own lock and its
+ * own LRU map, so users only contend with the few users of the same shard, and only while their messages are read or
+ * added, never during the model call. When a shard holds more than its share of <i>max-sessions</i>, its least
+ * recently used conversation is evicted. Conversations idle for longer than <i>idle-timeout</i> are evicted from the
+ * shard being accessed and from one other shard in turn, so no thread is needed to expire them. Messages are kept in
+ * the compact form of {@link CompactChatMessages}.</p>
+ *
+ * <p>The memory returned for an id holds no message, it looks the conversation up on every call. LangChain4J keeps
+ * the memory of every id it has seen, so {@link #unpinMemories(AiServices)} stops it from doing so for the memories
+ * of this provider, otherwise the number of conversations would not be bounded.</p>
+ *
+ * <p>Without a store, an evicted conversation is lost and starts empty. With a {@link ChatMemoryStore}, the store
+ * holds the conversations and none is kept in the shards, as another server, or another provider sharing the store,
+ * may have changed it since. Every read of the messages goes to the store, and a message is added by reading the
+ * conversation from the store and writing it back while the shard lock is held, so the changes made to a
+ * conversation through this provider are ordered and none is lost. The shards then only serve as locks, and
+ * <i>max-sessions</i> and <i>idle-timeout</i> do not apply. The store should return quickly, for example by caching
+ * its reads and writing behind.</p>
+ *
+ * <p>The bean is registered with the name <i>chatMemoryProvider</i> when <i>langchain4j.chat-memory.enabled</i> is
+ * set to <i>true</i>, and is configured with:</p>
+ * <ul>
+ *     <li><i>langchain4j.chat-memory.max-messages</i> - messages kept per conversation, 10 by default. The system
+ *     message is kept, and the results of an evicted tool request are evicted with it.</li>
+ *     <li><i>langchain4j.chat-memory.max-sessions</i> - conversations kept in memory without a store, 100000 by
+ *     default.</li>
+ *     <li><i>langchain4j.chat-memory.idle-timeout</i> - time in milliseconds after which an idle conversation is
+ *     evicted when there is no store, 1800000 by default, 0 to evict only the least recently used conversations.</li>
+ *     <li><i>langchain4j.chat-memory.shards</i> - number of shards, rounded up to a power of two, 64 by default.</li>
+ *     <li><i>langchain4j.chat-memory.store</i> - name of a {@link ChatMemoryStore} bean holding the conversations,
+ *     none by default.</li>
+ * </ul>
+ */
+final class ShardedChatMemoryProvider implements ChatMemoryProvider {
+
+    static final String PREFIX = "langchain4j.chat-memory";
+
+    private final int maxMessages;
+    private final long idleTimeoutNanos;
+    private final ChatMemoryStore store;
+    private final Shard[] shards;
+    private final int mask;
+    private final AtomicInteger sweep = new AtomicInteger();
+
+    private ShardedChatMemoryProvider(int maxMessages,
+                                      int maxSessions,
+                                      long idleTimeoutMillis,
+                                      int shardCount,
+                                      ChatMemoryStore store) {
+        if (maxMessages < 1 || maxSessions < 1 || shardCount < 1) {
+            throw new IllegalArgumentException(PREFIX + ".max-messages, " + PREFIX + ".max-sessions and " + PREFIX
+                    + ".shards must be greater than 0");
+        }
+        this.maxMessages = maxMessages;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, idleTimeoutMillis));
+        this.store = store;
+        int count = Integer.highestOneBit(Math.min(shardCount, 1 << 16) * 2 - 1);
+        int capacity = (maxSessions + count - 1) / count;
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(capacity);
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Creates a chat memory provider from the <i>langchain4j.chat-memory</i> properties.
+     *
+     * @param configuration the AI properties
+     * @return the chat memory provider
+     */
+    static ShardedChatMemoryProvider create(Configuration configuration) {
+        ChatMemoryStore store = configuration.getString(PREFIX + ".store")
+                .map(name -> BeanResolver.resolve(ChatMemoryStore.class, BeanName.create(name)))
+                .orElse(null);
+        return new ShardedChatMemoryProvider(configuration.getInteger(PREFIX + ".max-messages").orElse(10),
+                                             configuration.getInteger(PREFIX + ".max-sessions").orElse(100000),
+                                             configuration.getLong(PREFIX + ".idle-timeout").orElse(1800000L),
+                                             configuration.getInteger(PREFIX + ".shards").orElse(64),
+                                             store);
+    }
+
+    /**
+     * Stops the AI service being built from keeping the memories of this provider, see the class description. Must be
+     * invoked only when this provider is the chat memory provider of the service, after it is set.
+     *
+     * <p>This relies on the internals of LangChain4J 0.36, which keeps the memories in the {@code chatMemories} map of
+     * the {@code context} field of the builder. If they changed, the service would keep every conversation it has seen
+     * until the application is undeployed, so this fails instead.</p>
+     *
+     * @param builder the AI service builder
+     * @throws IllegalStateException if the memories of the service cannot be replaced
+     */
+    static void unpinMemories(AiServices<?> builder) {
+        try {
+            Field field = AiServices.class.getDeclaredField("context");
+            field.setAccessible(true);
+            ((AiServiceContext) field.get(builder)).chatMemories = new UnpinnedMemories();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Unable to unpin the chat memories of " + builder.getClass().getName()
+                    + ", " + PREFIX + " requires the AI services of LangChain4J 0.36", e);
+        }
+    }
+
+    @Override
+    public ChatMemory get(Object memoryId) {
+        return new SessionMemory(this, memoryId);
+    }
+
+    private Shard shard(Object memoryId) {
+        int h = memoryId.hashCode();
+        return shards[(h ^ (h >>> 16)) & mask];
+    }
+
+    private List<ChatMessage> messages(Object memoryId) {
+        if (store != null) {
+            return CompactChatMessages.expand(stored(load(memoryId)).messages);
+        }
+        Shard shard = shard(memoryId);
+        shard.lock.lock();
+        try {
+            return CompactChatMessages.expand(session(shard, memoryId).messages);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void add(Object memoryId, ChatMessage message) {
+        Shard shard = shard(memoryId);
+        shard.lock.lock();
+        try {
+            if (store != null) {
+                Session session = stored(load(memoryId));
+                if (session.add(message, maxMessages)) {
+                    store.updateMessages(memoryId, CompactChatMessages.expand(session.messages));
+                }
+            } else {
+                session(shard, memoryId).add(CompactChatMessages.compact(message), maxMessages);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void clear(Object memoryId) {
+        Shard shard = shard(memoryId);
+        shard.lock.lock();
+        try {
+            if (store != null) {
+                store.deleteMessages(memoryId);
+            } else {
+                shard.sessions.remove(memoryId);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the conversation kept in memory, creating it if needed, when there is no store. Holds the shard lock.
+     */
+    private Session session(Shard shard, Object memoryId) {
+        long now = System.nanoTime();
+        Session session = shard.sessions.get(memoryId);
+        if (session == null) {
+            session = new Session();
+            shard.sessions.put(memoryId, session);
+            shard.evictEldest();
+        }
+        session.lastAccess = now;
+        if (idleTimeoutNanos > 0) {
+            shard.expire(now, idleTimeoutNanos);
+            Shard other = shards[sweep.getAndIncrement() & mask];
+            if (other != shard && other.lock.tryLock()) {
+                try {
+                    other.expire(now, idleTimeoutNanos);
+                } finally {
+                    other.lock.unlock();
+                }
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Returns a conversation holding the messages read from the store, which are not compacted as the conversation is
+     * written back at once.
+     */
+    private Session stored(List<ChatMessage> stored) {
+        Session session = new Session();
+        for (ChatMessage message : stored) {
+            session.add(message, maxMessages);
+        }
+        return session;
+    }
+
+    private List<ChatMessage> load(Object memoryId) {
+        List<ChatMessage> stored = store.getMessages(memoryId);
+        return stored != null ? stored : List.of();
+    }
+
+    private static final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Object, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+
+        private Shard(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void evictEldest() {
+            Iterator<Session> iterator = sessions.values().iterator();
+            while (sessions.size() > capacity && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        private void expire(long now, long idleTimeoutNanos) {
+            // Access order, the idle conversations come first
+            Iterator<Session> iterator = sessions.values().iterator();
+            while (iterator.hasNext() && now - iterator.next().lastAccess > idleTimeoutNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Session {
+
+        private final ArrayList<Object> messages = new ArrayList<>(4);
+        private long lastAccess;
+
+        /**
+         * Adds a message the way {@link dev.langchain4j.memory.chat.MessageWindowChatMemory} does.
+         *
+         * @return {@code false} if the message is the current system message
+         */
+        private boolean add(Object message, int maxMessages) {
+            if (CompactChatMessages.isSystem(message)) {
+                for (int i = 0; i < messages.size(); i++) {
+                    Object current = messages.get(i);
+                    if (CompactChatMessages.isSystem(current)) {
+                        if (equal(current, message)) {
+                            return false;
+                        }
+                        messages.remove(i);
+                        break;
+                    }
+                }
+            }
+            messages.add(message);
+            while (messages.size() > maxMessages) {
+                int index = CompactChatMessages.isSystem(messages.get(0)) ? 1 : 0;
+                Object evicted = messages.remove(index);
+                if (evicted instanceof AiMessage && ((AiMessage) evicted).hasToolExecutionRequests()) {
+                    while (messages.size() > index && messages.get(index) instanceof ToolExecutionResultMessage) {
+                        messages.remove(index);
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean equal(Object a, Object b) {
+            return a instanceof byte[] && b instanceof byte[] ? Arrays.equals((byte[]) a, (byte[]) b) : a.equals(b);
+        }
+    }
+
+    private static final class SessionMemory implements ChatMemory {
+
+        private final ShardedChatMemoryProvider provider;
+        private final Object id;
+
+        private SessionMemory(ShardedChatMemoryProvider provider, Object id) {
+            this.provider = provider;
+            this.id = id;
+        }
+
+        @Override
+        public Object id() {
+            return id;
+        }
+
+        @Override
+        public void add(ChatMessage message) {
+            provider.add(id, message);
+        }
+
+        @Override
+        public List<ChatMessage> messages() {
+            return provider.messages(id);
+        }
+
+        @Override
+        public void clear() {
+            provider.clear(id);
+        }
+    }
+
+    /**
+     * Memories of an AI service, keeping those of other providers but not those of this provider, which are cheaper to
+     * create again than to keep for every id ever seen.
+     */
+    private static final class UnpinnedMemories extends ConcurrentHashMap<Object, ChatMemory> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ChatMemory computeIfAbsent(Object key, Function<? super Object, ? extends ChatMemory> function) {
+            ChatMemory memory = get(key);
+            if (memory != null) {
+                return memory;
+            }
+            memory = function.apply(key);
+            if (memory instanceof SessionMemory) {
+                return memory;
+            }
+            ChatMemory previous = putIfAbsent(key, memory);
+            return previous != null ? previous : memory;
+        }
+    }
+}
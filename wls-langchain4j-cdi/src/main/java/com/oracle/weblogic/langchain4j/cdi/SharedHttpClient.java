@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+/**
+ * HTTP client shared by the models using the native streaming transport, so they reuse the same connections instead
+ * of each opening its own.
+ *
+ * <p>The streaming chat model factories with <i>&lt;prefix&gt;.transport=native</i> build their model on the
+ * {@link HttpClient} of the JDK, and use the client of this bean when their <i>&lt;prefix&gt;.http-client</i> property
+ * names it, see {@link #of(Configuration, String)}. The other models of LangChain4J build their HTTP client
+ * internally and do not accept one, so they are not affected.</p>
+ *
+ * <p>The bean is registered with the name <i>httpClient</i> when <i>langchain4j.http-client.enabled</i> is set to
+ * <i>true</i>, and is configured with:</p>
+ * <ul>
+ *     <li><i>langchain4j.http-client.http2</i> - whether HTTP/2 is negotiated with the servers supporting it,
+ *     <i>true</i> by default. When <i>false</i> only HTTP/1.1 is used.</li>
+ *     <li><i>langchain4j.http-client.connect-timeout</i> - connect timeout in milliseconds, 10000 by default.</li>
+ *     <li><i>langchain4j.http-client.read-timeout</i> - time in milliseconds allowed for the response headers and
+ *     for every read of the streamed body. When set, it replaces the <i>timeout</i> of the models.</li>
+ * </ul>
+ * <p>The size and the keep-alive of the connection pool of the JDK client are set for the whole JVM by the
+ * <i>jdk.httpclient.connectionPoolSize</i> and <i>jdk.httpclient.keepalive.timeout</i> system properties.</p>
+ */
+public class SharedHttpClient {
+
+    static final String PREFIX = "langchain4j.http-client";
+
+    private HttpClient httpClient;
+    private Duration readTimeout;
+
+    // Required by CDI
+    protected SharedHttpClient() {
+    }
+
+    private SharedHttpClient(Configuration configuration) {
+        boolean http2 = configuration.getBoolean(PREFIX + ".http2").orElse(true);
+        long connectTimeout = configuration.getLong(PREFIX + ".connect-timeout").orElse(10000L);
+        this.httpClient = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+        this.readTimeout = configuration.getLong(PREFIX + ".read-timeout").map(Duration::ofMillis).orElse(null);
+    }
+
+    /**
+     * Creates a shared HTTP client from the <i>langchain4j.http-client</i> properties.
+     *
+     * @param configuration the AI properties
+     * @return the shared HTTP client
+     */
+    static SharedHttpClient create(Configuration configuration) {
+        return new SharedHttpClient(configuration);
+    }
+
+    /**
+     * Returns the shared HTTP client named by the <i>http-client</i> property of a model.
+     *
+     * @param configuration the AI properties
+     * @param prefix        the configuration prefix of the model, for example
+     *                      <i>langchain4j.open-ai.streaming-chat-model</i>
+     * @return the shared HTTP client, or empty if the model does not name one
+     */
+    public static Optional<SharedHttpClient> of(Configuration configuration, String prefix) {
+        return configuration.getString(prefix + ".http-client")
+                .map(name -> BeanResolver.resolve(SharedHttpClient.class, BeanName.create(name)));
+    }
+
+    /**
+     * Returns the HTTP client.
+     *
+     * @return the HTTP client
+     */
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns the timeout of a request, replacing the timeout of the models.
+     *
+     * @return the timeout, or empty if the models keep their own
+     */
+    public Optional<Duration> readTimeout() {
+        return Optional.ofNullable(readTimeout);
+    }
+}
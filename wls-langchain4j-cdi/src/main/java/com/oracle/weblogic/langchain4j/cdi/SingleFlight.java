@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+/**
+ * Shares the result of an in-flight call to a model with the identical calls made while it is running.
+ *
+ * <p>Single-flight is enabled per model with the prefix of its {@link ConditionalProduce} key, for example
+ * <i>langchain4j.open-ai.chat-model.single-flight.enabled=true</i>. It applies to chat, embedding and scoring models.
+ * A call whose request key matches a call in flight waits for it instead of calling the model, and receives the same
+ * result or exception. Immutable results, such as chat responses, are shared as is; mutable results, such as
+ * embeddings whose vectors can be normalized in place, are copied for each waiting call. Calls are not cached once
+ * they complete. The single-flight of a model is obtained by its bean
+ * name with {@link #of(String)}.</p>
+ */
+public final class SingleFlight {
+
+    static final String ENABLED = ".single-flight.enabled";
+
+    private static final Map<String, SingleFlight> SINGLE_FLIGHTS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    private SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns whether single-flight is enabled for the given prefix.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return {@code true} if <i>single-flight.enabled</i> is <i>true</i>
+     */
+    static boolean isConfigured(String prefix, Configuration configuration) {
+        return configuration.getBoolean(prefix + ENABLED).orElse(false);
+    }
+
+    /**
+     * Creates the single-flight of a model and registers it under the bean name, replacing the previous one.
+     *
+     * @param name the bean name of the model
+     * @return the single-flight
+     */
+    static SingleFlight create(String name) {
+        SingleFlight singleFlight = new SingleFlight(name);
+        SINGLE_FLIGHTS.put(name, singleFlight);
+        return singleFlight;
+    }
+
+    /**
+     * Returns the single-flight of a model.
+     *
+     * @param name the bean name of the model
+     * @return the single-flight, or empty if it is not enabled for the model
+     */
+    public static Optional<SingleFlight> of(String name) {
+        return Optional.ofNullable(SINGLE_FLIGHTS.get(name));
+    }
+
+    /**
+     * Removes all the registered single-flights. Invoked when the container shuts down.
+     */
+    static void clear() {
+        SINGLE_FLIGHTS.clear();
+    }
+
+    /**
+     * Returns the bean name of the model.
+     *
+     * @return the bean name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of calls made through the single-flight.
+     *
+     * @return the number of calls
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of calls that shared the result of a call in flight instead of calling the model.
+     *
+     * @return the number of collapsed calls
+     */
+    public long collapsedCalls() {
+        return collapsed.sum();
+    }
+
+    /**
+     * Returns the number of distinct calls in flight.
+     *
+     * @return the number of calls in flight
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Runs the call, or waits for the identical call in flight and shares its immutable result.
+     *
+     * @param key  the request key, identical for calls returning the same result
+     * @param call the call to the model
+     * @param <T>  the type of the result
+     * @return the result of the call
+     */
+    <T> T execute(String key, Supplier<T> call) {
+        return execute(key, call, UnaryOperator.identity());
+    }
+
+    /**
+     * Runs the call, or waits for the identical call in flight and returns a copy of its result.
+     *
+     * @param key  the request key, identical for calls returning the same result
+     * @param call the call to the model
+     * @param copy copies the result of the call in flight for a waiting call
+     * @param <T>  the type of the result
+     * @return the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Supplier<T> call, UnaryOperator<T> copy) {
+        calls.increment();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsed.increment();
+            try {
+                return copy.apply((T) existing.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight[" + name + ", calls=" + calls() + ", collapsed=" + collapsedCalls() + "]";
+    }
+}
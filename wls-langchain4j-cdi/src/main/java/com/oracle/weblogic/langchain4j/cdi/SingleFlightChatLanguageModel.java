@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.Set;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to a {@link ChatLanguageModel} through a {@link SingleFlight}, keyed by the messages, the tool
+ * specifications and the response format. The responses and AI messages of LangChain4J are immutable, so waiting
+ * calls share the response of the call in flight.
+ */
+final class SingleFlightChatLanguageModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final SingleFlight singleFlight;
+
+    SingleFlightChatLanguageModel(ChatLanguageModel delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return singleFlight.execute(key("generate", messages, null, null), () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return singleFlight.execute(key("tools", messages, toolSpecifications, null),
+                                    () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return singleFlight.execute(key("tool", messages, List.of(toolSpecification), null),
+                                    () -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return singleFlight.execute(key("chat",
+                                        chatRequest.messages(),
+                                        chatRequest.toolSpecifications(),
+                                        chatRequest.responseFormat()),
+                                    () -> delegate.chat(chatRequest));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    private static String key(String method,
+                              List<ChatMessage> messages,
+                              List<ToolSpecification> toolSpecifications,
+                              Object responseFormat) {
+        return Hashing.sha256(method,
+                              ChatMessageSerializer.messagesToJson(messages),
+                              toolSpecifications != null ? toolSpecifications.toString() : null,
+                              responseFormat != null ? responseFormat.toString() : null);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Sends the calls to an {@link EmbeddingModel} through a {@link SingleFlight}, keyed by the texts.
+ */
+final class SingleFlightEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final SingleFlight singleFlight;
+
+    SingleFlightEmbeddingModel(EmbeddingModel delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return singleFlight.execute(key(textSegments),
+                                    () -> delegate.embedAll(textSegments),
+                                    SingleFlightEmbeddingModel::copy);
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    /**
+     * Returns the request key of the given texts.
+     *
+     * @param textSegments the texts
+     * @return the hash of the texts
+     */
+    static String key(List<TextSegment> textSegments) {
+        String[] texts = new String[textSegments.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = textSegments.get(i).text();
+        }
+        return Hashing.sha256(texts);
+    }
+
+    // Embeddings are mutable, each waiting call gets its own vectors
+    private static Response<List<Embedding>> copy(Response<List<Embedding>> response) {
+        if (response == null || response.content() == null) {
+            return response;
+        }
+        List<Embedding> embeddings = new ArrayList<>(response.content().size());
+        for (Embedding embedding : response.content()) {
+            embeddings.add(new Embedding(embedding.vector().clone()));
+        }
+        return new Response<>(embeddings, response.tokenUsage(), response.finishReason(), response.metadata());
+    }
+}
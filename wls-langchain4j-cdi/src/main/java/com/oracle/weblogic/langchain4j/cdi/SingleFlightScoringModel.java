@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+/**
+ * Sends the calls to a {@link ScoringModel} through a {@link SingleFlight}, keyed by the query and the texts.
+ */
+final class SingleFlightScoringModel implements ScoringModel {
+
+    private final ScoringModel delegate;
+    private final SingleFlight singleFlight;
+
+    SingleFlightScoringModel(ScoringModel delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+        return singleFlight.execute(Hashing.sha256(query, SingleFlightEmbeddingModel.key(segments)),
+                                    () -> delegate.scoreAll(segments, query),
+                                    SingleFlightScoringModel::copy);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+
+    // The list of scores may be mutable, each waiting call gets its own
+    private static Response<List<Double>> copy(Response<List<Double>> response) {
+        if (response == null || response.content() == null) {
+            return response;
+        }
+        return new Response<>(new ArrayList<>(response.content()),
+                              response.tokenUsage(),
+                              response.finishReason(),
+                              response.metadata());
+    }
+}
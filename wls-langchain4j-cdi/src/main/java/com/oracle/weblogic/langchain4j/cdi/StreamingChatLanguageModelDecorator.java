@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+
+/**
+ * Base class of the decorators applied to a {@link StreamingChatLanguageModel} bean. Every call to the model goes
+ * through {@link #invoke(List, StreamingResponseHandler, Consumer)}.
+ */
+abstract class StreamingChatLanguageModelDecorator implements StreamingChatLanguageModel {
+
+    private final StreamingChatLanguageModel delegate;
+
+    StreamingChatLanguageModelDecorator(StreamingChatLanguageModel delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the decorated model.
+     *
+     * @return the decorated model
+     */
+    StreamingChatLanguageModel delegate() {
+        return delegate;
+    }
+
+    /**
+     * Invokes the decorated model. The call is complete when the handler receives the response or the error, which
+     * usually happens on another thread.
+     *
+     * @param messages the messages sent to the model
+     * @param handler  the handler given by the caller
+     * @param call     the call to the decorated model, accepting the handler to pass to it
+     */
+    abstract void invoke(List<ChatMessage> messages,
+                         StreamingResponseHandler<AiMessage> handler,
+                         Consumer<StreamingResponseHandler<AiMessage>> call);
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        invoke(messages, handler, h -> delegate.generate(messages, h));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        invoke(messages, handler, h -> delegate.generate(messages, toolSpecifications, h));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        invoke(messages, handler, h -> delegate.generate(messages, toolSpecification, h));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delegate + "]";
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.enterprise.inject.Instance;
+
+/**
+ * Stable delegate of a {@link ConditionalProduce} bean whose instance can be replaced when the configuration
+ * changes.
+ *
+ * <p>The bean is exposed as a dynamic proxy implementing the interfaces of the producer return type. Every call reads
+ * the current instance once, so calls already in flight complete on the instance they started with, while new calls
+ * go to the replacement. The configuration keys read by the producer are recorded, so only producers depending on a
+ * changed key are invoked again.</p>
+ *
+ * <p>A replaced instance that is {@link AutoCloseable}, and the closeable decorators created for it, are closed once
+ * the calls in flight on it returned. A streaming call returns when the stream is started, so the stream may still be
+ * running on the instance when it is closed.</p>
+ */
+final class SwappableProducer implements InvocationHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(SwappableProducer.class.getName());
+
+    private final Method producerMethod;
+    private final Function<Instance<Object>, Object> producer;
+    private final BiFunction<Object, List<AutoCloseable>, Object> decorator;
+    private final String enabledKey;
+    private final Set<Type> types;
+    private final Object proxy;
+    private final AtomicReference<Delegate> delegate = new AtomicReference<>();
+    private volatile Set<String> keys = Collections.emptySet();
+
+    private SwappableProducer(Method producerMethod,
+                              Function<Instance<Object>, Object> producer,
+                              BiFunction<Object, List<AutoCloseable>, Object> decorator,
+                              Set<Type> types,
+                              Class<?>[] interfaces) {
+        this.producerMethod = producerMethod;
+        this.producer = producer;
+        this.decorator = decorator;
+        this.enabledKey = producerMethod.getAnnotation(ConditionalProduce.class).key();
+        this.types = types;
+        this.proxy = Proxy.newProxyInstance(producerMethod.getReturnType().getClassLoader(), interfaces, this);
+    }
+
+    /**
+     * Creates a swappable producer if the bean types contain at least one interface.
+     *
+     * @param producerMethod the method annotated with {@link ConditionalProduce}
+     * @param types          the bean types, see {@link #interfaceTypes(Class)}
+     * @param producer       produces a new instance, invoking the producer method
+     * @param decorator      decorates a new instance, adding the decorators to close with it to the list
+     * @return the swappable producer, or {@code null} if the bean cannot be exposed through interfaces
+     */
+    static SwappableProducer create(Method producerMethod,
+                                    Set<Type> types,
+                                    Function<Instance<Object>, Object> producer,
+                                    BiFunction<Object, List<AutoCloseable>, Object> decorator) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Type type : types) {
+            Class<?> rawType = rawType(type);
+            if (rawType.isInterface()) {
+                interfaces.add(rawType);
+            }
+        }
+        if (interfaces.isEmpty()) {
+            return null;
+        }
+        return new SwappableProducer(producerMethod, producer, decorator, types, interfaces.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Returns the interfaces implemented by a producer return type and {@link Object}. A return type that is itself an
+     * interface is included.
+     *
+     * @param returnType the return type of the producer method
+     * @return the bean types of a swappable bean
+     */
+    static Set<Type> interfaceTypes(Class<?> returnType) {
+        Set<Type> types = new LinkedHashSet<>();
+        if (returnType.isInterface()) {
+            types.add(returnType);
+        }
+        collectInterfaces(returnType, types);
+        types.add(Object.class);
+        return types;
+    }
+
+    /**
+     * Returns the bean types, the interfaces exposed by the delegate and {@link Object}.
+     *
+     * @return the bean types
+     */
+    Set<Type> types() {
+        return types;
+    }
+
+    /**
+     * Invokes the producer method and returns the stable delegate.
+     *
+     * @param lookup used to obtain the factory declaring the producer method
+     * @return the delegate to register as the bean instance
+     */
+    Object produce(Instance<Object> lookup) {
+        delegate.set(invoke(lookup));
+        return proxy;
+    }
+
+    /**
+     * Invokes the producer method again if it depends on any of the changed keys and swaps the instance.
+     *
+     * @param lookup  used to obtain the factory declaring the producer method
+     * @param changed the configuration keys that changed
+     */
+    void reload(Instance<Object> lookup, Set<String> changed) {
+        if (changed.contains(enabledKey)) {
+            LOGGER.warning("Changing " + enabledKey + " requires a redeployment");
+        }
+        if (delegate.get() == null || Collections.disjoint(keys, changed)) {
+            return;
+        }
+        try {
+            delegate.getAndSet(invoke(lookup)).retire();
+            LOGGER.info("Reloaded bean produced by " + producerMethod.getDeclaringClass().getName()
+                                + "." + producerMethod.getName());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to reload bean produced by " + producerMethod.getName()
+                    + ", the previous instance is kept", e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Delegate target = acquire();
+        try {
+            return invoke(target.instance, proxy, method, args);
+        } finally {
+            target.release();
+        }
+    }
+
+    private Delegate acquire() {
+        while (true) {
+            Delegate target = delegate.get();
+            target.calls.incrementAndGet();
+            if (!target.retired) {
+                return target;
+            }
+            // Replaced meanwhile, and possibly closed already
+            target.release();
+        }
+    }
+
+    private static Object invoke(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+            }
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Delegate invoke(Instance<Object> lookup) {
+        Set<String> recorded = new HashSet<>();
+        try {
+            List<AutoCloseable> resources = new ArrayList<>();
+            Object instance = Configuration.recordKeys(recorded, () -> {
+                Object produced = producer.apply(lookup);
+                if (produced instanceof AutoCloseable) {
+                    resources.add((AutoCloseable) produced);
+                }
+                return decorator.apply(produced, resources);
+            });
+            keys = Set.copyOf(recorded);
+            return new Delegate(instance, resources);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to invoke producer method: " + producerMethod.getName(), e);
+        }
+    }
+
+    /**
+     * An instance with the calls in flight on it.
+     */
+    private static final class Delegate {
+
+        private final Object instance;
+        private final List<AutoCloseable> resources;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        private Delegate(Object instance, List<AutoCloseable> resources) {
+            this.instance = instance;
+            this.resources = resources;
+        }
+
+        private void retire() {
+            retired = true;
+            if (calls.get() == 0) {
+                close();
+            }
+        }
+
+        private void release() {
+            if (calls.decrementAndGet() == 0 && retired) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            // Outermost first
+            for (int i = resources.size() - 1; i >= 0; i--) {
+                try {
+                    resources.get(i).close();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Failed to close replaced " + resources.get(i), e);
+                }
+            }
+        }
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Type> result) {
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Type iface : cls.getGenericInterfaces()) {
+                if (iface instanceof ParameterizedType && hasTypeVariable((ParameterizedType) iface)) {
+                    // Type variables are not legal in bean types, fall back to the raw type
+                    iface = rawType(iface);
+                }
+                if (result.add(iface)) {
+                    collectInterfaces(rawType(iface), result);
+                }
+            }
+        }
+    }
+
+    private static boolean hasTypeVariable(ParameterizedType type) {
+        for (Type argument : type.getActualTypeArguments()) {
+            if (argument instanceof TypeVariable || argument instanceof WildcardType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> rawType(Type type) {
+        return type instanceof ParameterizedType
+                ? (Class<?>) ((ParameterizedType) type).getRawType()
+                : (Class<?>) type;
+    }
+}
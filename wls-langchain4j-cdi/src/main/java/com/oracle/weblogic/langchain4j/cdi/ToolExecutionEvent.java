@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of the execution of a {@code Tool} method requested by a model.
+ */
+@Name("wls.langchain4j.ToolExecution")
+@Label("Tool Execution")
+@Category({"WebLogic", "LangChain4j"})
+@Description("Execution of a tool method requested by a model")
+@StackTrace(false)
+final class ToolExecutionEvent extends Event {
+
+    @Label("Tool Class")
+    Class<?> toolClass;
+
+    @Label("Method")
+    String method;
+
+    @Label("Result Size")
+    @Description("Length of the result returned to the model")
+    @DataAmount(DataAmount.BYTES)
+    int resultSize;
+
+    @Label("Error")
+    @Description("Class of the exception if the tool failed")
+    String error;
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolMemoryId;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+/**
+ * {@link ToolExecutor} that invokes a {@code Tool} method through a {@link MethodHandle} resolved once
+ * when the tool is registered.
+ *
+ * <p>Argument binding follows the same rules as LangChain4J's {@code DefaultToolExecutor}: arguments are matched by
+ * parameter name, a parameter annotated with {@link ToolMemoryId} receives the memory id, and values are coerced to
+ * the declared parameter types. Everything that depends only on the method signature is computed in the
+ * constructor, so that an execution only parses the arguments and invokes the handle. Every execution emits a
+ * {@link ToolExecutionEvent}.</p>
+ */
+final class ToolMethodExecutor implements ToolExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(ToolMethodExecutor.class.getName());
+    // Same output and date handling as the tool executor of LangChain4J
+    private static final Gson GSON = new GsonBuilder()
+            .setPrettyPrinting()
+            .registerTypeAdapter(LocalDate.class, (JsonSerializer<LocalDate>) (date, type, context)
+                    -> new JsonPrimitive(date.toString()))
+            .registerTypeAdapter(LocalDate.class, (JsonDeserializer<LocalDate>) (json, type, context) -> {
+                if (json.isJsonObject()) {
+                    JsonObject date = json.getAsJsonObject();
+                    return LocalDate.of(date.get("year").getAsInt(), date.get("month").getAsInt(),
+                                        date.get("day").getAsInt());
+                }
+                return LocalDate.parse(json.getAsString());
+            })
+            .registerTypeAdapter(LocalDateTime.class, (JsonSerializer<LocalDateTime>) (dateTime, type, context)
+                    -> new JsonPrimitive(dateTime.toString()))
+            .registerTypeAdapter(LocalDateTime.class, (JsonDeserializer<LocalDateTime>) (json, type, context)
+                    -> LocalDateTime.parse(json.getAsString()))
+            .registerTypeAdapter(LocalTime.class, (JsonSerializer<LocalTime>) (time, type, context)
+                    -> new JsonPrimitive(time.toString()))
+            .registerTypeAdapter(LocalTime.class, (JsonDeserializer<LocalTime>) (json, type, context)
+                    -> LocalTime.parse(json.getAsString()))
+            .create();
+
+    private final String name;
+    private final Class<?> toolClass;
+    private final String methodName;
+    private final MethodHandle handle;
+    private final String[] parameterNames;
+    private final Class<?>[] parameterTypes;
+    private final Type[] genericParameterTypes;
+    private final int memoryIdIndex;
+    private final boolean returnsVoid;
+    private final boolean returnsString;
+
+    /**
+     * Creates an executor for the given tool method.
+     *
+     * @param target the object to invoke the method on, ignored for static methods
+     * @param method the method annotated with {@code Tool}
+     */
+    ToolMethodExecutor(Object target, Method method) {
+        this.name = method.getDeclaringClass().getName() + "." + method.getName();
+        this.toolClass = method.getDeclaringClass();
+        this.methodName = method.getName();
+        Parameter[] parameters = method.getParameters();
+        this.parameterNames = new String[parameters.length];
+        this.parameterTypes = new Class<?>[parameters.length];
+        this.genericParameterTypes = new Type[parameters.length];
+        int memoryId = -1;
+        for (int i = 0; i < parameters.length; i++) {
+            parameterNames[i] = parameters[i].getName();
+            parameterTypes[i] = parameters[i].getType();
+            genericParameterTypes[i] = parameters[i].getParameterizedType();
+            if (parameters[i].isAnnotationPresent(ToolMemoryId.class)) {
+                memoryId = i;
+            }
+        }
+        this.memoryIdIndex = memoryId;
+        this.returnsVoid = method.getReturnType() == void.class;
+        this.returnsString = method.getReturnType() == String.class;
+
+        try {
+            if (!Modifier.isPublic(method.getModifiers())
+                    || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            MethodHandle mh = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                mh = mh.bindTo(target);
+            }
+            this.handle = mh.asSpreader(Object[].class, parameters.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access tool method " + name, e);
+        }
+    }
+
+    /**
+     * Returns whether the method declares a parameter annotated with {@link ToolMemoryId}.
+     *
+     * @return {@code true} if the method receives the memory id
+     */
+    boolean usesMemoryId() {
+        return memoryIdIndex >= 0;
+    }
+
+    @Override
+    public String execute(ToolExecutionRequest request, Object memoryId) {
+        ToolExecutionEvent event = new ToolExecutionEvent();
+        event.begin();
+        String result = null;
+        Throwable error = null;
+        try {
+            Object[] args = prepareArguments(argumentsAsMap(request.arguments()), memoryId);
+            try {
+                result = invoke(args);
+            } catch (Throwable t) {
+                if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                LOGGER.log(Level.SEVERE, "Error while executing tool " + name, t);
+                error = t;
+                result = t.getMessage();
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.toolClass = toolClass;
+                event.method = methodName;
+                event.resultSize = result == null ? 0 : result.length();
+                event.error = error == null ? null : JfrEvents.error(error);
+                event.commit();
+            }
+        }
+    }
+
+    private String invoke(Object[] args) throws Throwable {
+        Object result = (Object) handle.invokeExact(args);
+        if (returnsVoid) {
+            return "Success";
+        } else if (returnsString) {
+            return (String) result;
+        }
+        return GSON.toJson(result);
+    }
+
+    private Object[] prepareArguments(Map<?, ?> arguments, Object memoryId) {
+        Object[] args = new Object[parameterNames.length];
+        for (int i = 0; i < args.length; i++) {
+            if (i == memoryIdIndex) {
+                args[i] = memoryId;
+            } else if (arguments.containsKey(parameterNames[i])) {
+                args[i] = coerceArgument(arguments.get(parameterNames[i]), parameterNames[i],
+                                         parameterTypes[i], genericParameterTypes[i]);
+            }
+        }
+        return args;
+    }
+
+    private static Map<?, ?> argumentsAsMap(String arguments) {
+        if (arguments == null || arguments.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<?, ?> map = GSON.fromJson(arguments, Map.class);
+        return map != null ? map : Collections.emptyMap();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object coerceArgument(Object argument, String parameterName, Class<?> type, Type genericType) {
+        if (argument == null) {
+            return null;
+        }
+        if (type == String.class) {
+            return argument.toString();
+        }
+        if (type.isEnum()) {
+            try {
+                return Enum.valueOf((Class<Enum>) type, argument.toString());
+            } catch (IllegalArgumentException e) {
+                try {
+                    return Enum.valueOf((Class<Enum>) type, argument.toString().toUpperCase());
+                } catch (IllegalArgumentException e2) {
+                    throw new IllegalArgumentException(String.format("Argument \"%s\" is not a valid enum value for %s: <%s>",
+                                                                     parameterName, type.getName(), argument), e2);
+                }
+            }
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            if (argument instanceof Boolean) {
+                return argument;
+            }
+            throw notConvertible(argument, parameterName, type);
+        }
+        if (type == Double.class || type == double.class) {
+            return doubleValue(argument, parameterName, type);
+        }
+        if (type == Float.class || type == float.class) {
+            double value = doubleValue(argument, parameterName, type);
+            checkBounds(value, parameterName, type, -Float.MAX_VALUE, Float.MAX_VALUE);
+            return (float) value;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(doubleValue(argument, parameterName, type));
+        }
+        if (type == Integer.class || type == int.class) {
+            return (int) boundedLongValue(argument, parameterName, type, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (type == Long.class || type == long.class) {
+            return boundedLongValue(argument, parameterName, type, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (type == Short.class || type == short.class) {
+            return (short) boundedLongValue(argument, parameterName, type, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (type == Byte.class || type == byte.class) {
+            return (byte) boundedLongValue(argument, parameterName, type, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (type == BigInteger.class) {
+            return BigDecimal.valueOf(nonFractionalDoubleValue(argument, parameterName, type)).toBigInteger();
+        }
+        return GSON.fromJson(GSON.toJson(argument), genericType);
+    }
+
+    private static double doubleValue(Object argument, String parameterName, Class<?> type) {
+        if (argument instanceof String) {
+            try {
+                return Double.parseDouble((String) argument);
+            } catch (NumberFormatException e) {
+                throw notConvertible(argument, parameterName, type);
+            }
+        }
+        if (argument instanceof Number) {
+            return ((Number) argument).doubleValue();
+        }
+        throw notConvertible(argument, parameterName, type);
+    }
+
+    private static double nonFractionalDoubleValue(Object argument, String parameterName, Class<?> type) {
+        double value = doubleValue(argument, parameterName, type);
+        if (value != Math.floor(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(String.format("Argument \"%s\" has non-integer value for %s: <%s>",
+                                                             parameterName, type.getName(), argument));
+        }
+        return value;
+    }
+
+    private static long boundedLongValue(Object argument, String parameterName, Class<?> type, long min, long max) {
+        double value = nonFractionalDoubleValue(argument, parameterName, type);
+        checkBounds(value, parameterName, type, min, max);
+        return (long) value;
+    }
+
+    private static void checkBounds(double value, String parameterName, Class<?> type, double min, double max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(String.format("Argument \"%s\" is out of range for %s: <%s>",
+                                                             parameterName, type.getName(), value));
+        }
+    }
+
+    private static IllegalArgumentException notConvertible(Object argument, String parameterName, Class<?> type) {
+        return new IllegalArgumentException(String.format("Argument \"%s\" is not convertable to %s, got %s: <%s>",
+                                                          parameterName, type.getName(),
+                                                          argument.getClass().getName(), argument));
+    }
+}
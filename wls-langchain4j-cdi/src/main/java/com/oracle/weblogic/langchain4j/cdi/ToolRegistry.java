@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.agent.tool.ToolSpecifications;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+/**
+ * Registry of the {@link Tool} methods found during bean discovery.
+ *
+ * <p>The {@link AiServiceExtension} registers every class declaring tool methods while the container scans the
+ * deployment. The first AI service that needs tools triggers the creation of the {@link ToolSpecification}s and
+ * {@link ToolMethodExecutor}s for all registered classes, which are then shared by every AI service, so the bean
+ * registry is never scanned for tools at runtime.</p>
+ */
+final class ToolRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(ToolRegistry.class.getName());
+
+    private final Map<Class<?>, List<Method>> toolMethods = new LinkedHashMap<>();
+    private volatile Map<Class<?>, Map<ToolSpecification, ToolExecutor>> tools;
+
+    ToolRegistry() {
+    }
+
+    /**
+     * Registers the tool methods declared by the given class. Used by the extension during bean discovery.
+     *
+     * @param toolClass the class declaring the methods
+     * @param methods   methods annotated with {@link Tool}
+     */
+    synchronized void register(Class<?> toolClass, List<Method> methods) {
+        if (!methods.isEmpty() && !toolClass.isInterface() && !Modifier.isAbstract(toolClass.getModifiers())) {
+            toolMethods.put(toolClass, List.copyOf(methods));
+        }
+    }
+
+    /**
+     * Returns the tools of every registered bean.
+     *
+     * @return map of tool specifications and their executors
+     */
+    Map<ToolSpecification, ToolExecutor> tools() {
+        Map<ToolSpecification, ToolExecutor> result = new LinkedHashMap<>();
+        resolved().values().forEach(result::putAll);
+        return result;
+    }
+
+    /**
+     * Returns the tools of the given classes. Classes that were not registered during bean discovery are resolved
+     * on demand.
+     *
+     * @param classes classes containing tool methods
+     * @return map of tool specifications and their executors
+     */
+    Map<ToolSpecification, ToolExecutor> tools(Class<?>[] classes) {
+        var resolved = resolved();
+        Map<ToolSpecification, ToolExecutor> result = new LinkedHashMap<>();
+        for (var cls : classes) {
+            var classTools = resolved.get(cls);
+            if (classTools == null) {
+                classTools = createTools(CDI.current().select(cls).get(), toolMethodsOf(cls));
+            }
+            result.putAll(classTools);
+        }
+        return result;
+    }
+
+    private Map<Class<?>, Map<ToolSpecification, ToolExecutor>> resolved() {
+        var result = tools;
+        if (result == null) {
+            synchronized (this) {
+                result = tools;
+                if (result == null) {
+                    result = resolve();
+                    tools = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<Class<?>, Map<ToolSpecification, ToolExecutor>> resolve() {
+        var cdi = CDI.current();
+        Map<Class<?>, Map<ToolSpecification, ToolExecutor>> result = new LinkedHashMap<>();
+        for (var entry : toolMethods.entrySet()) {
+            var instance = cdi.select(entry.getKey());
+            if (!instance.isResolvable()) {
+                LOGGER.fine("Skipping tools of " + entry.getKey().getName() + " because it is not a resolvable bean");
+                continue;
+            }
+            result.put(entry.getKey(), createTools(instance.get(), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<ToolSpecification, ToolExecutor> createTools(Object target, List<Method> methods) {
+        Map<ToolSpecification, ToolExecutor> result = new LinkedHashMap<>();
+        for (var method : methods) {
+            result.put(ToolSpecifications.toolSpecificationFrom(method), new ToolMethodExecutor(target, method));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static List<Method> toolMethodsOf(Class<?> cls) {
+        var methods = new ArrayList<Method>();
+        for (var method : cls.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Tool.class)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+}
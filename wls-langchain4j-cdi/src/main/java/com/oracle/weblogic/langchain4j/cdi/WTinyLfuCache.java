@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache with Window TinyLFU eviction and a time to live.
+ *
+ * <p>New entries are admitted to a small LRU window holding 1% of the capacity. Entries leaving the window compete
+ * with the least recently used entry of the main space, and the one estimated to be accessed less often by a
+ * count-min sketch is evicted. The main space is a segmented LRU, where entries accessed again are promoted from the
+ * probation segment to the protected segment, holding 80% of the main space. This keeps popular entries cached while
+ * one-off entries do not flush them.</p>
+ *
+ * <p>Expired entries are removed when they are looked up. All operations hold the cache lock, which is short compared
+ * to the model calls the cache avoids.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class WTinyLfuCache<K, V> {
+
+    private final int maxSize;
+    private final int windowMax;
+    private final int protectedMax;
+    private final long ttlNanos;
+    private final Map<K, Node<K, V>> data;
+    private final FrequencySketch sketch;
+    private final Queue<K, V> window = new Queue<>();
+    private final Queue<K, V> probation = new Queue<>();
+    private final Queue<K, V> protectedQueue = new Queue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize    the maximum number of entries
+     * @param ttlMillis  the time to live of an entry in milliseconds, 0 or less for no expiration
+     */
+    WTinyLfuCache(int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.windowMax = Math.max(1, maxSize / 100);
+        this.protectedMax = (int) ((maxSize - windowMax) * 0.8);
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000 : 0;
+        this.data = new HashMap<>();
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    /**
+     * Returns the cached value.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if it is not cached or expired
+     */
+    V get(K key) {
+        synchronized (this) {
+            sketch.increment(key);
+            Node<K, V> node = data.get(key);
+            if (node != null && ttlNanos > 0 && System.nanoTime() - node.expiresAt > 0) {
+                remove(node);
+                node = null;
+            }
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            onAccess(node);
+            hits.increment();
+            return node.value;
+        }
+    }
+
+    /**
+     * Caches a value, replacing the previous value of the key.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    void put(K key, V value) {
+        synchronized (this) {
+            long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expiresAt = expiresAt;
+                onAccess(node);
+                return;
+            }
+            sketch.increment(key);
+            node = new Node<>(key, value, expiresAt);
+            data.put(key, node);
+            window.addLast(node);
+            evict();
+        }
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    synchronized void clear() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+    }
+
+    /**
+     * Returns the number of entries, including expired entries not removed yet.
+     *
+     * @return the number of entries
+     */
+    synchronized int size() {
+        return data.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     *
+     * @return the hit count
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a value.
+     *
+     * @return the miss count
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == window) {
+            window.moveToLast(node);
+        } else if (node.queue == probation) {
+            probation.remove(node);
+            protectedQueue.addLast(node);
+            while (protectedQueue.size > protectedMax) {
+                Node<K, V> demoted = protectedQueue.first;
+                protectedQueue.remove(demoted);
+                probation.addLast(demoted);
+            }
+        } else {
+            protectedQueue.moveToLast(node);
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMax) {
+            Node<K, V> candidate = window.first;
+            window.remove(candidate);
+            probation.addLast(candidate);
+        }
+        while (data.size() > maxSize) {
+            Node<K, V> candidate = probation.last;
+            Node<K, V> victim = probation.first;
+            if (victim == null) {
+                victim = protectedQueue.first != null ? protectedQueue.first : window.first;
+                remove(victim);
+            } else if (candidate == victim || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                remove(candidate);
+            } else {
+                remove(victim);
+            }
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        node.queue.remove(node);
+        data.remove(node.key);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private long expiresAt;
+        private Queue<K, V> queue;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Doubly linked list in access order, the first node is the least recently used.
+     */
+    private static final class Queue<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        private void addLast(Node<K, V> node) {
+            node.queue = this;
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void clear() {
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 rows with counters saturating at 15. All counters are halved once the number of
+     * increments reaches ten times the cache size, so the frequencies follow recent history.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0xb5ad4ece, 0x6c8e9cf5, 0x2a1c59b7};
+
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(maxSize, 1 << 24)) * 2 - 1);
+            this.table = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * maxSize;
+        }
+
+        private int frequency(Object key) {
+            int hash = key.hashCode();
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, table[i][index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (table[i][index] < MAX_COUNT) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
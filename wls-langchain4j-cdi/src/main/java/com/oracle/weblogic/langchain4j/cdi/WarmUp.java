@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+/**
+ * Builds AI services and model beans in parallel when the application is deployed, so the first request does not pay
+ * for their creation.
+ *
+ * <p>Warm-up is enabled by setting <i>langchain4j.warmup.enabled</i> to <i>true</i>. The following properties tune
+ * it:</p>
+ * <ul>
+ *     <li><i>langchain4j.warmup.timeout</i> - time budget in milliseconds for the whole warm-up, 30000 by default.
+ *     Components that are not ready when it elapses are cancelled and created on first use.</li>
+ *     <li><i>langchain4j.warmup.threads</i> - number of threads, the number of processors by default.</li>
+ *     <li><i>langchain4j.warmup.probe</i> - whether a cheap call is sent to each model to open its connections,
+ *     <i>true</i> by default.</li>
+ * </ul>
+ */
+final class WarmUp {
+
+    static final String ENABLED = "langchain4j.warmup.enabled";
+    static final String TIMEOUT = "langchain4j.warmup.timeout";
+    static final String THREADS = "langchain4j.warmup.threads";
+    static final String PROBE = "langchain4j.warmup.probe";
+
+    private static final Logger LOGGER = Logger.getLogger(WarmUp.class.getName());
+    private static final String PROBE_TEXT = "ping";
+
+    private final long timeout;
+    private final int threads;
+    private final boolean probe;
+    private final List<String> components = new ArrayList<>();
+    private final List<Callable<Long>> tasks = new ArrayList<>();
+
+    WarmUp(Configuration configuration) {
+        this.timeout = configuration.getLong(TIMEOUT).orElse(30000L);
+        this.threads = configuration.getInteger(THREADS).orElse(Runtime.getRuntime().availableProcessors());
+        this.probe = configuration.getBoolean(PROBE).orElse(true);
+    }
+
+    /**
+     * Adds a component to warm up.
+     *
+     * @param component name of the component used in the log
+     * @param bean      supplies the bean, creating it if needed
+     * @param probe     whether a probe call may be sent if the bean is a model
+     */
+    void add(String component, Callable<Object> bean, boolean probe) {
+        components.add(component);
+        tasks.add(() -> {
+            long start = System.nanoTime();
+            Object instance = bean.call();
+            // Client proxies create the contextual instance on first invocation
+            instance.toString();
+            if (probe && this.probe) {
+                probe(instance);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Runs all the tasks and waits at most for the configured time budget.
+     */
+    void run() {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())), r -> {
+            Thread thread = new Thread(r, "wls-langchain4j-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+        long start = System.nanoTime();
+        int failed = 0;
+        int timedOut = 0;
+        try {
+            List<Future<Long>> futures = executor.invokeAll(tasks, timeout, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    LOGGER.info("Warm-up of " + components.get(i) + " took " + futures.get(i).get() + " ms");
+                } catch (CancellationException e) {
+                    timedOut++;
+                    LOGGER.warning("Warm-up of " + components.get(i) + " did not finish within " + timeout + " ms");
+                } catch (ExecutionException e) {
+                    failed++;
+                    LOGGER.log(Level.WARNING, "Warm-up of " + components.get(i) + " failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info("Warm-up of " + tasks.size() + " components finished in "
+                            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms, "
+                            + failed + " failed, " + timedOut + " timed out");
+    }
+
+    private static void probe(Object model) throws Exception {
+        if (model instanceof ChatLanguageModel) {
+            ((ChatLanguageModel) model).generate(PROBE_TEXT);
+        } else if (model instanceof StreamingChatLanguageModel) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            ((StreamingChatLanguageModel) model).generate(PROBE_TEXT, new StreamingResponseHandler<AiMessage>() {
+                @Override
+                public void onNext(String token) {
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    done.complete(null);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    done.completeExceptionally(error);
+                }
+            });
+            done.get();
+        } else if (model instanceof EmbeddingModel) {
+            ((EmbeddingModel) model).embed(PROBE_TEXT);
+        } else if (model instanceof ScoringModel) {
+            ((ScoringModel) model).score(PROBE_TEXT, PROBE_TEXT);
+        } else if (model instanceof ModerationModel) {
+            ((ModerationModel) model).moderate(PROBE_TEXT);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.jaxrs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+/**
+ * Sends the tokens of a {@link Flow.Publisher} as server-sent events.
+ *
+ * <p>The resource method returns as soon as the stream is started, so the request thread is not held while the model
+ * generates. The next token is requested when the previous event has been written, so a slow client slows down the
+ * stream instead of buffering it. Example:</p>
+ * <pre>
+ * &#64;GET
+ * &#64;Produces(MediaType.SERVER_SENT_EVENTS)
+ * public void chat(&#64;QueryParam("question") String question, &#64;Context SseEventSink sink, &#64;Context Sse sse) {
+ *     TokenEvents.send(assistant.chat(question), sink, sse);
+ * }
+ * </pre>
+ *
+ * <p>Every token is sent as an unnamed event. The sink is closed when the stream completes. If the stream fails, the
+ * failure is logged and an event named <i>error</i> holding {@value #ERROR_MESSAGE} is sent before closing the sink,
+ * so the details of the failure do not reach the client. If the client goes away, the subscription is cancelled.</p>
+ */
+public final class TokenEvents {
+
+    /**
+     * Name of the event sent when the stream fails.
+     */
+    public static final String ERROR_EVENT = "error";
+
+    /**
+     * Data of the event sent when the stream fails.
+     */
+    public static final String ERROR_MESSAGE = "The token stream failed";
+
+    private static final Logger LOGGER = Logger.getLogger(TokenEvents.class.getName());
+
+    private TokenEvents() {
+    }
+
+    /**
+     * Subscribes to the tokens and sends them to the sink.
+     *
+     * @param tokens the tokens, for example returned by an AI service method
+     * @param sink   the sink injected in the resource method
+     * @param sse    the event factory injected in the resource method
+     */
+    public static void send(Flow.Publisher<String> tokens, SseEventSink sink, Sse sse) {
+        tokens.subscribe(new EventSubscriber(sink, sse));
+    }
+
+    private static final class EventSubscriber implements Flow.Subscriber<String> {
+
+        private final SseEventSink sink;
+        private final Sse sse;
+        private Flow.Subscription subscription;
+        // The event being written, the stream may end before it is
+        private volatile CompletionStage<?> pending = CompletableFuture.completedFuture(null);
+
+        private EventSubscriber(SseEventSink sink, Sse sse) {
+            this.sink = sink;
+            this.sse = sse;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(String token) {
+            if (sink.isClosed()) {
+                subscription.cancel();
+                return;
+            }
+            pending = sink.send(sse.newEvent(token));
+            pending.whenComplete((result, error) -> {
+                if (error != null || sink.isClosed()) {
+                    // The client went away
+                    subscription.cancel();
+                    close();
+                } else {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            LOGGER.log(Level.WARNING, "Token stream failed", throwable);
+            pending.whenComplete((result, error) -> {
+                if (sink.isClosed()) {
+                    return;
+                }
+                sink.send(sse.newEvent(ERROR_EVENT, ERROR_MESSAGE)).whenComplete((sent, sendError) -> close());
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            pending.whenComplete((result, error) -> close());
+        }
+
+        private void close() {
+            try {
+                sink.close();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, "Failed to close the event sink", e);
+            }
+        }
+    }
+}
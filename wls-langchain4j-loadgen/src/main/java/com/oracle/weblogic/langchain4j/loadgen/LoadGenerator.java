@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drives an endpoint of the samples at a given concurrency and request rate, and reports the throughput and the
+ * latency percentiles, and the time to first byte of streaming endpoints.
+ *
+ * <p>Every request runs on its own virtual thread when the JVM supports them, on a platform thread otherwise, so the
+ * concurrency is not limited by a thread pool of the generator. With <i>--rate</i> requests are started on a fixed
+ * schedule and their latency is measured from the time they were scheduled, so a slow server is not hidden by the
+ * generator waiting for it. Requests completing during the warm-up are not recorded.</p>
+ *
+ * <p>The requests are spread over <i>--users</i> {@link VirtualUser virtual users} in turn. Every one sends back the
+ * session cookie it was given, so the load is spread over as many conversations as there are users, as it is with
+ * real clients, rather than all the requests continuing a single conversation.</p>
+ *
+ * <p>Deploy the samples packaged with <i>-Dstub-models</i> to run against the stub models of wls-langchain4j-stub
+ * instead of a model provider.</p>
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(LoadGenerator.class.getName());
+
+    private final LoadOptions options;
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Samples latencies = new Samples();
+    private final Samples timesToFirstByte = new Samples();
+    private volatile long measureStart;
+
+    private LoadGenerator(LoadOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the load generator.
+     *
+     * @param args the command line options, see {@link LoadOptions#USAGE}
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadOptions.USAGE);
+            System.exit(1);
+            return;
+        }
+        LoadReport report = new LoadGenerator(options).run();
+        report.print(System.out);
+        report.write(options.json());
+        System.out.println("Results written to " + options.json().toAbsolutePath());
+    }
+
+    private LoadReport run() throws InterruptedException {
+        boolean virtual = true;
+        ExecutorService executor = virtualThreadExecutor();
+        if (executor == null) {
+            virtual = false;
+            LOGGER.warning("Virtual threads are not available on Java " + Runtime.version().feature()
+                                   + ", every request holds a platform thread");
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "wls-langchain4j-loadgen-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(options.timeoutMillis()))
+                .build();
+        URI uri = options.uri();
+        VirtualUser[] users = new VirtualUser[options.users()];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new VirtualUser();
+        }
+        AtomicLong sent = new AtomicLong();
+
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        long start = System.nanoTime();
+        measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        long interval = options.rate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / options.rate()) : 0;
+        System.out.println("Driving " + options.uri() + " for " + options.warmupSeconds() + " + "
+                                   + options.durationSeconds() + " s");
+        try {
+            long scheduled = start;
+            while (scheduled < end) {
+                if (interval > 0) {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+                inFlight.acquire();
+                // Closed loop requests are measured from the time they can be sent
+                long requestStart = interval > 0 ? scheduled : System.nanoTime();
+                executor.execute(() -> {
+                    try {
+                        send(client, uri, users[(int) (sent.getAndIncrement() % users.length)], requestStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                scheduled = interval > 0 ? scheduled + interval : System.nanoTime();
+            }
+            // Wait for the requests in flight
+            if (!inFlight.tryAcquire(options.concurrency(), options.timeoutMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Requests still in flight after " + options.timeoutMillis() + " ms are not reported");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsed = (System.nanoTime() - measureStart) / 1e9;
+        return new LoadReport(options, virtual ? "virtual" : "platform", elapsed,
+                              succeeded.sum(), failed.sum(), latencies, timesToFirstByte);
+    }
+
+    private void send(HttpClient client, URI uri, VirtualUser user, long start) {
+        long firstByte = 0;
+        boolean success;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofMillis(options.timeoutMillis()))
+                    .GET();
+            String cookies = user.cookieHeader();
+            if (cookies != null) {
+                request.header("Cookie", cookies);
+            }
+            HttpResponse<InputStream> response = client.send(request.build(),
+                                                             HttpResponse.BodyHandlers.ofInputStream());
+            user.update(response.headers());
+            try (InputStream body = response.body()) {
+                byte[] buffer = new byte[8192];
+                int read = body.read(buffer);
+                firstByte = System.nanoTime();
+                while (read != -1) {
+                    read = body.read(buffer);
+                }
+            }
+            success = response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            success = false;
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Request failed", e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long end = System.nanoTime();
+        if (end < measureStart) {
+            return;
+        }
+        if (success) {
+            succeeded.increment();
+            latencies.add(end - start);
+            timesToFirstByte.add(firstByte - start);
+        } else {
+            failed.increment();
+        }
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            // Looked up reflectively, so the generator also runs on Java 17
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Command line options of the {@link LoadGenerator}.
+ */
+final class LoadOptions {
+
+    static final String USAGE = """
+            Usage: java -jar loadgen.jar [options]
+              --target <url>        address of the server, http://localhost:7001 by default
+              --scenario <id>       endpoint to drive, coffee-chat by default, one of %s
+              --url <url>           endpoint to drive instead of a scenario
+              --streaming           report the time to first byte of --url
+              --question <text>     question sent to the scenarios taking one
+              --concurrency <n>     maximum number of requests in flight, 16 by default
+              --users <n>           number of simulated clients, each keeping its own session cookie and so its own
+                                    conversation, the concurrency by default
+              --rate <n>            requests started per second, 0 (default) sends a new request as soon as one
+                                    completes
+              --duration <s>        measured time in seconds, 30 by default
+              --warmup <s>          time in seconds before the measurement starts, 5 by default
+              --timeout <ms>        timeout of a request in milliseconds, 60000 by default
+              --json <file>         file the results are written to, loadgen-result.json by default
+            """.formatted(Scenario.ids());
+
+    private String target = "http://localhost:7001";
+    private Scenario scenario = Scenario.COFFEE_CHAT;
+    private String url;
+    private boolean streaming;
+    private String question = "Hello, I want a coffee";
+    private int concurrency = 16;
+    private int users;
+    private double rate;
+    private long durationSeconds = 30;
+    private long warmupSeconds = 5;
+    private long timeoutMillis = 60000;
+    private Path json = Path.of("loadgen-result.json");
+
+    private LoadOptions() {
+    }
+
+    /**
+     * Parses the command line.
+     *
+     * @param args the arguments of the main method
+     * @return the options
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--streaming".equals(option)) {
+                options.streaming = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of " + option);
+            }
+            String value = args[++i];
+            try {
+                switch (option) {
+                case "--target" -> options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "--scenario" -> options.scenario = Scenario.of(value);
+                case "--url" -> options.url = value;
+                case "--question" -> options.question = value;
+                case "--concurrency" -> options.concurrency = positive(option, Integer.parseInt(value));
+                case "--users" -> options.users = positive(option, Integer.parseInt(value));
+                case "--rate" -> options.rate = Double.parseDouble(value);
+                case "--duration" -> options.durationSeconds = positive(option, Long.parseLong(value));
+                case "--warmup" -> options.warmupSeconds = Long.parseLong(value);
+                case "--timeout" -> options.timeoutMillis = positive(option, Long.parseLong(value));
+                case "--json" -> options.json = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value of " + option + ": " + value);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Returns the endpoint to drive.
+     *
+     * @return the URI of the requests
+     */
+    URI uri() {
+        if (url != null) {
+            return URI.create(url);
+        }
+        String path = scenario.path();
+        if (scenario.hasQuestion()) {
+            path += URLEncoder.encode(question, StandardCharsets.UTF_8);
+        }
+        return URI.create(target + path);
+    }
+
+    /**
+     * Returns the name of the run in the reports, the scenario or the URL.
+     *
+     * @return the name
+     */
+    String name() {
+        return url != null ? url : scenario.id();
+    }
+
+    boolean streaming() {
+        return url != null ? streaming : scenario.streaming();
+    }
+
+    int concurrency() {
+        return concurrency;
+    }
+
+    int users() {
+        return users > 0 ? users : concurrency;
+    }
+
+    double rate() {
+        return rate;
+    }
+
+    long durationSeconds() {
+        return durationSeconds;
+    }
+
+    long warmupSeconds() {
+        return warmupSeconds;
+    }
+
+    long timeoutMillis() {
+        return timeoutMillis;
+    }
+
+    Path json() {
+        return json;
+    }
+
+    private static <T extends Number> T positive(String option, T value) {
+        if (value.doubleValue() <= 0) {
+            throw new IllegalArgumentException(option + " must be positive: " + value);
+        }
+        return value;
+    }
+}
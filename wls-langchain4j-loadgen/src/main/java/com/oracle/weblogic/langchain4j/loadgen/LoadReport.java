@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Results of a run, printed as a console summary and written as JSON.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadOptions options;
+    private final String threads;
+    private final double elapsedSeconds;
+    private final long succeeded;
+    private final long failed;
+    private final long[] latencies;
+    private final long[] timesToFirstByte;
+
+    LoadReport(LoadOptions options,
+               String threads,
+               double elapsedSeconds,
+               long succeeded,
+               long failed,
+               Samples latencies,
+               Samples timesToFirstByte) {
+        this.options = options;
+        this.threads = threads;
+        this.elapsedSeconds = elapsedSeconds;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.latencies = latencies.sorted();
+        this.timesToFirstByte = timesToFirstByte.sorted();
+    }
+
+    /**
+     * Prints the summary of the run.
+     *
+     * @param out the console
+     */
+    void print(PrintStream out) {
+        out.println();
+        out.println("Scenario:      " + options.name() + " (" + options.uri() + ")");
+        out.println("Load:          " + options.concurrency() + " concurrent, " + options.users() + " users, "
+                            + (options.rate() > 0 ? format(options.rate()) + " req/s" : "closed loop")
+                            + ", " + threads + " threads");
+        out.println("Requests:      " + succeeded + " succeeded, " + failed + " failed in "
+                            + format(elapsedSeconds) + " s");
+        out.println("Throughput:    " + format(throughput()) + " req/s");
+        out.println("Latency (ms):  " + percentiles(latencies));
+        if (options.streaming()) {
+            out.println("TTFB (ms):     " + percentiles(timesToFirstByte));
+        }
+    }
+
+    /**
+     * Writes the results as JSON.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path file) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"scenario\": \"").append(escape(options.name())).append("\",\n");
+        json.append("  \"uri\": \"").append(escape(options.uri().toString())).append("\",\n");
+        json.append("  \"concurrency\": ").append(options.concurrency()).append(",\n");
+        json.append("  \"users\": ").append(options.users()).append(",\n");
+        json.append("  \"rate\": ").append(format(options.rate())).append(",\n");
+        json.append("  \"threads\": \"").append(threads).append("\",\n");
+        json.append("  \"durationSeconds\": ").append(format(elapsedSeconds)).append(",\n");
+        json.append("  \"succeeded\": ").append(succeeded).append(",\n");
+        json.append("  \"failed\": ").append(failed).append(",\n");
+        json.append("  \"throughput\": ").append(format(throughput())).append(",\n");
+        json.append("  \"latencyMillis\": ").append(percentilesJson(latencies));
+        if (options.streaming()) {
+            json.append(",\n  \"timeToFirstByteMillis\": ").append(percentilesJson(timesToFirstByte));
+        }
+        json.append("\n}\n");
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+
+    private double throughput() {
+        return elapsedSeconds > 0 ? succeeded / elapsedSeconds : 0;
+    }
+
+    private static String percentiles(long[] sorted) {
+        StringBuilder result = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            result.append("p").append(label(percentile)).append("=")
+                    .append(format(Samples.percentileMillis(sorted, percentile))).append("  ");
+        }
+        return result.append("max=").append(format(max(sorted))).toString();
+    }
+
+    private static String percentilesJson(long[] sorted) {
+        StringBuilder result = new StringBuilder("{");
+        for (double percentile : PERCENTILES) {
+            result.append("\"p").append(label(percentile)).append("\": ")
+                    .append(format(Samples.percentileMillis(sorted, percentile))).append(", ");
+        }
+        return result.append("\"max\": ").append(format(max(sorted))).append("}").toString();
+    }
+
+    private static double max(long[] sorted) {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6;
+    }
+
+    private static String label(double percentile) {
+        // 99.9 is reported as p999
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace(".", "");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
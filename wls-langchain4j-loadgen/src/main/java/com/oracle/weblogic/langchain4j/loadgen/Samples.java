@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+import java.util.Arrays;
+
+/**
+ * Latencies recorded by concurrent requests, kept in full so the percentiles are exact.
+ */
+final class Samples {
+
+    private long[] values = new long[1024];
+    private int size;
+
+    synchronized void add(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    /**
+     * Returns the recorded latencies in ascending order.
+     *
+     * @return the sorted latencies in nanoseconds
+     */
+    synchronized long[] sorted() {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Returns a percentile of sorted latencies using the nearest-rank method.
+     *
+     * @param sorted     the latencies returned by {@link #sorted()}
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds, or 0 if there are no latencies
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1e6;
+    }
+}
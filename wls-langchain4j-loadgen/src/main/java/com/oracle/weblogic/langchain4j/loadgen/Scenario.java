@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+/**
+ * Endpoints of the samples, relative to the address of the server. The question of the scenarios taking one is
+ * appended URL-encoded.
+ */
+enum Scenario {
+
+    COFFEE_CHAT("coffee-chat", "/coffee-shop-assistant/chat?question=", false),
+    TRADER_CHAT("trader-chat", "/crypto-trader/trader/chat?text=", false),
+    OPEN_AI_CHAT("open-ai-chat", "/integration/open-ai/chat", false),
+    OPEN_AI_STREAM("open-ai-stream", "/integration/open-ai/stream", true),
+    OLLAMA_CHAT("ollama-chat", "/integration/ollama/chat", false),
+    OLLAMA_STREAM("ollama-stream", "/integration/ollama/stream", true);
+
+    private final String id;
+    private final String path;
+    private final boolean streaming;
+
+    Scenario(String id, String path, boolean streaming) {
+        this.id = id;
+        this.path = path;
+        this.streaming = streaming;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String path() {
+        return path;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    boolean hasQuestion() {
+        return path.endsWith("=");
+    }
+
+    static Scenario of(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + id + ", expected one of " + ids());
+    }
+
+    static String ids() {
+        StringBuilder ids = new StringBuilder();
+        for (Scenario scenario : values()) {
+            if (ids.length() > 0) {
+                ids.append(", ");
+            }
+            ids.append(scenario.id);
+        }
+        return ids.toString();
+    }
+}
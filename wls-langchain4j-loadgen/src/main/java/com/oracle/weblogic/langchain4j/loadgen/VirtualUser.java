@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.loadgen;
+
+import java.net.http.HttpHeaders;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cookies of a simulated client. The samples key the conversation by the HTTP session, so every virtual user sends
+ * back the session cookie it was given and keeps its own conversation, instead of every request starting a new one.
+ *
+ * <p>The cookies are kept by name, without their attributes, as the generator only talks to a single server.</p>
+ */
+final class VirtualUser {
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    /**
+     * Returns the value of the <i>Cookie</i> header of the next request.
+     *
+     * @return the cookies, or {@code null} if the server did not set any yet
+     */
+    synchronized String cookieHeader() {
+        if (cookies.isEmpty()) {
+            return null;
+        }
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, String> cookie : cookies.entrySet()) {
+            if (header.length() > 0) {
+                header.append("; ");
+            }
+            header.append(cookie.getKey()).append('=').append(cookie.getValue());
+        }
+        return header.toString();
+    }
+
+    /**
+     * Keeps the cookies set by a response.
+     *
+     * @param headers the headers of the response
+     */
+    void update(HttpHeaders headers) {
+        for (String setCookie : headers.allValues("set-cookie")) {
+            int end = setCookie.indexOf(';');
+            String pair = end < 0 ? setCookie : setCookie.substring(0, end);
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                synchronized (this) {
+                    cookies.put(pair.substring(0, equals).trim(), pair.substring(equals + 1).trim());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.ollama;
+
+import java.time.Duration;
+
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+import com.oracle.weblogic.langchain4j.cdi.SharedHttpClient;
+import com.oracle.weblogic.langchain4j.streaming.Dialect;
+import com.oracle.weblogic.langchain4j.streaming.HttpStreamingChatModel;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Factory class for creating a {@link HttpStreamingChatModel} that talks to Ollama.
+ *
+ * <p>This factory registers the <i>ollamaStreamingChatModel</i> bean in place of
+ * {@link OllamaStreamingChatModelFactory} when <i>langchain4j.ollama.streaming-chat-model.transport</i> is set to
+ * <i>native</i>. The model streams with the HTTP client of the JDK and decodes the lines in place. It reads the same
+ * properties, except the request and response logging, and uses the {@link SharedHttpClient} named by
+ * <i>langchain4j.ollama.streaming-chat-model.http-client</i>, if any.</p>
+ *
+ * <p>The native transport needs the optional <i>wls-langchain4j-streaming</i> module on the class path.</p>
+ *
+ * @see HttpStreamingChatModel
+ * @see OllamaStreamingChatModelFactory
+ */
+@ApplicationScoped
+public class OllamaNativeStreamingChatModelFactory {
+
+    private Configuration configuration;
+
+    // Required by CDI
+    protected OllamaNativeStreamingChatModelFactory() {
+    }
+
+    /**
+     * Creates OllamaNativeStreamingChatModelFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public OllamaNativeStreamingChatModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link HttpStreamingChatModel} bean in the CDI registry with the name
+     * <i>ollamaStreamingChatModel</i> if the configuration property
+     * <i>langchain4j.ollama.streaming-chat-model.enabled</i> is set to <i>true</i> and
+     * <i>langchain4j.ollama.streaming-chat-model.transport</i> is set to <i>native</i>.
+     *
+     * @return a configured instance of {@link HttpStreamingChatModel}
+     */
+    @ConditionalProduce(key = "langchain4j.ollama.streaming-chat-model.enabled", value = "true",
+                        andKey = "langchain4j.ollama.streaming-chat-model.transport", andValue = "native")
+    @Named("ollamaStreamingChatModel")
+    public HttpStreamingChatModel create() {
+        HttpStreamingChatModel.Builder builder = HttpStreamingChatModel.builder().dialect(Dialect.OLLAMA);
+        configuration.getString("langchain4j.ollama.streaming-chat-model.base-url").ifPresent(builder::baseUrl);
+        configuration.getString("langchain4j.ollama.streaming-chat-model.model-name").ifPresent(builder::modelName);
+        configuration.getDouble("langchain4j.ollama.streaming-chat-model.temperature").ifPresent(builder::temperature);
+        configuration.getDouble("langchain4j.ollama.streaming-chat-model.top-p").ifPresent(builder::topP);
+        configuration.getInteger("langchain4j.ollama.streaming-chat-model.top-k").ifPresent(builder::topK);
+        configuration.getInteger("langchain4j.ollama.streaming-chat-model.seed").ifPresent(builder::seed);
+        configuration.getDouble("langchain4j.ollama.streaming-chat-model.repeat-penalty").ifPresent(builder::repeatPenalty);
+        configuration.getInteger("langchain4j.ollama.streaming-chat-model.num-predict").ifPresent(builder::maxTokens);
+        builder.stop(configuration.getList("langchain4j.ollama.streaming-chat-model.stop"));
+        configuration.getString("langchain4j.ollama.streaming-chat-model.format").ifPresent(builder::responseFormat);
+        configuration.getLong("langchain4j.ollama.streaming-chat-model.timeout").ifPresent(timeout -> builder.timeout(Duration.ofMillis(timeout)));
+        SharedHttpClient.of(configuration, "langchain4j.ollama.streaming-chat-model").ifPresent(client -> {
+            builder.httpClient(client.httpClient());
+            client.readTimeout().ifPresent(builder::timeout);
+        });
+        builder.customHeaders(configuration.getMapString("langchain4j.ollama.streaming-chat-model.custom-headers"));
+        return builder.build();
+    }
+
+}
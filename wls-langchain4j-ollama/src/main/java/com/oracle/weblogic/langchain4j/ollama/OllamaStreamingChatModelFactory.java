@@ -33,6 +33,9 @@ import dev.langchain4j.model.ollama.OllamaStreamingChatModel.OllamaStreamingChat
 /**
  * Factory class for creating a configured {@link dev.langchain4j.model.ollama.OllamaStreamingChatModel}.
  *
+ * <p>No bean is produced here when <i>langchain4j.ollama.streaming-chat-model.transport</i> is set to <i>native</i>,
+ * see {@link OllamaNativeStreamingChatModelFactory}.</p>
+ *
  * @see dev.langchain4j.model.ollama.OllamaStreamingChatModel
  */
 @ApplicationScoped
@@ -57,11 +60,14 @@ public class OllamaStreamingChatModelFactory {
     /**
      * Registers and produces a configured {@link dev.langchain4j.model.ollama.OllamaStreamingChatModel} bean in the CDI
      * registry  with the name <i>ollamaStreamingChatModel</i> if the configuration property
-     * <i>langchain4j.ollama.streaming-chat-model.chat-model.enabled</i> is set to <i>true</i>.
+     * <i>langchain4j.ollama.streaming-chat-model.chat-model.enabled</i> is set to <i>true</i> and
+     * <i>langchain4j.ollama.streaming-chat-model.transport</i> is unset or <i>okhttp</i>.
      *
      * @return a configured instance of {@link dev.langchain4j.model.ollama.OllamaStreamingChatModel}
      */
-    @ConditionalProduce(key = "langchain4j.ollama.streaming-chat-model.enabled", value = "true")
+    @ConditionalProduce(key = "langchain4j.ollama.streaming-chat-model.enabled", value = "true",
+                        andKey = "langchain4j.ollama.streaming-chat-model.transport", andValue = "okhttp",
+                        andMatchIfMissing = true)
     @Named("ollamaStreamingChatModel")
     public OllamaStreamingChatModel create() {
         OllamaStreamingChatModelBuilder builder = OllamaStreamingChatModel.builder();
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.openai;
+
+import java.time.Duration;
+
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+import com.oracle.weblogic.langchain4j.cdi.SharedHttpClient;
+import com.oracle.weblogic.langchain4j.streaming.Dialect;
+import com.oracle.weblogic.langchain4j.streaming.HttpStreamingChatModel;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Factory class for creating a {@link HttpStreamingChatModel} that talks to OpenAI.
+ *
+ * <p>This factory registers the <i>openAiStreamingChatModel</i> bean in place of
+ * {@link OpenAiStreamingChatModelFactory} when <i>langchain4j.open-ai.streaming-chat-model.transport</i> is set to
+ * <i>native</i>. The model streams with the HTTP client of the JDK and decodes the events in place. It reads the same
+ * properties, except the tokenizer, the proxy, the logit bias, strict tools, the request and response logging, and
+ * uses the {@link SharedHttpClient} named by <i>langchain4j.open-ai.streaming-chat-model.http-client</i>, if any.</p>
+ *
+ * <p>The native transport needs the optional <i>wls-langchain4j-streaming</i> module on the class path.</p>
+ *
+ * @see HttpStreamingChatModel
+ * @see OpenAiStreamingChatModelFactory
+ */
+@ApplicationScoped
+public class OpenAiNativeStreamingChatModelFactory {
+
+    private Configuration configuration;
+
+    // CDI required
+    OpenAiNativeStreamingChatModelFactory() {
+    }
+
+    /**
+     * Creates OpenAiNativeStreamingChatModelFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public OpenAiNativeStreamingChatModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link HttpStreamingChatModel} bean in the CDI registry with the name
+     * <i>openAiStreamingChatModel</i> if the configuration property <i>langchain4j.open-ai.streaming-chat-model.enabled</i> is
+     * set to <i>true</i> and <i>langchain4j.open-ai.streaming-chat-model.transport</i> is set to <i>native</i>.
+     *
+     * @return a configured instance of {@link HttpStreamingChatModel}
+     */
+    @ConditionalProduce(key = "langchain4j.open-ai.streaming-chat-model.enabled", value = "true",
+                        andKey = "langchain4j.open-ai.streaming-chat-model.transport", andValue = "native")
+    @Named("openAiStreamingChatModel")
+    public HttpStreamingChatModel create() {
+        HttpStreamingChatModel.Builder builder = HttpStreamingChatModel.builder().dialect(Dialect.OPEN_AI);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.base-url").ifPresent(builder::baseUrl);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.api-key").ifPresent(builder::apiKey);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.organization-id").ifPresent(builder::organizationId);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.model-name").ifPresent(builder::modelName);
+        configuration.getDouble("langchain4j.open-ai.streaming-chat-model.temperature").ifPresent(builder::temperature);
+        configuration.getDouble("langchain4j.open-ai.streaming-chat-model.top-p").ifPresent(builder::topP);
+        builder.stop(configuration.getList("langchain4j.open-ai.streaming-chat-model.stop"));
+        configuration.getInteger("langchain4j.open-ai.streaming-chat-model.max-tokens").ifPresent(builder::maxTokens);
+        configuration.getInteger("langchain4j.open-ai.streaming-chat-model.max-completion-tokens").ifPresent(builder::maxCompletionTokens);
+        configuration.getDouble("langchain4j.open-ai.streaming-chat-model.presence-penalty").ifPresent(builder::presencePenalty);
+        configuration.getDouble("langchain4j.open-ai.streaming-chat-model.frequency-penalty").ifPresent(builder::frequencyPenalty);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.response-format").ifPresent(builder::responseFormat);
+        configuration.getInteger("langchain4j.open-ai.streaming-chat-model.seed").ifPresent(builder::seed);
+        configuration.getString("langchain4j.open-ai.streaming-chat-model.user").ifPresent(builder::user);
+        configuration.getBoolean("langchain4j.open-ai.streaming-chat-model.parallel-tool-calls").ifPresent(builder::parallelToolCalls);
+        configuration.getLong("langchain4j.open-ai.streaming-chat-model.timeout").ifPresent(timeout -> builder.timeout(Duration.ofMillis(timeout)));
+        SharedHttpClient.of(configuration, "langchain4j.open-ai.streaming-chat-model").ifPresent(client -> {
+            builder.httpClient(client.httpClient());
+            client.readTimeout().ifPresent(builder::timeout);
+        });
+        builder.customHeaders(configuration.getMapString("langchain4j.open-ai.streaming-chat-model.custom-headers"));
+        return builder.build();
+    }
+
+}
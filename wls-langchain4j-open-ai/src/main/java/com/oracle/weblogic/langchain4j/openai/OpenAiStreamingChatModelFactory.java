@@ -40,6 +40,9 @@ import dev.langchain4j.model.openai.OpenAiStreamingChatModel.OpenAiStreamingChat
  * <p>This factory automatically registers a bean in the CDI registry if the configuration property
  * <i>langchain4j.open-ai.streaming-chat-model.streaming-chat-model.enabled</i> is set to <i>true</i>.</p>
  *
+ * <p>No bean is produced here when <i>langchain4j.open-ai.streaming-chat-model.transport</i> is set to
+ * <i>native</i>, see {@link OpenAiNativeStreamingChatModelFactory}.</p>
+ *
  * @see OpenAiStreamingChatModel
  * @see OpenAiStreamingChatModelConfig
  */
@@ -65,11 +68,13 @@ public class OpenAiStreamingChatModelFactory {
     /**
      * Registers and produces a configured {@link OpenAiStreamingChatModel} bean in the CDI registry with the name
      * <i>openAiStreamingChatModel</i> if the configuration property <i>langchain4j.open-ai.streaming-chat-model.streaming-chat-model.enabled</i> is
-     * set to <i>true</i>.
+     * set to <i>true</i> and <i>langchain4j.open-ai.streaming-chat-model.transport</i> is unset or <i>okhttp</i>.
      *
      * @return a configured instance of {@link OpenAiStreamingChatModel}
      */
-    @ConditionalProduce(key = "langchain4j.open-ai.streaming-chat-model.enabled", value = "true")
+    @ConditionalProduce(key = "langchain4j.open-ai.streaming-chat-model.enabled", value = "true",
+                        andKey = "langchain4j.open-ai.streaming-chat-model.transport", andValue = "okhttp",
+                        andMatchIfMissing = true)
     @Named("openAiStreamingChatModel")
     public OpenAiStreamingChatModel create() {
         OpenAiStreamingChatModelBuilder builder = OpenAiStreamingChatModel.builder();
@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.oracle;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.store.embedding.oracle.CreateOption;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Chat memory store keeping the conversations in an Oracle Database table, so they survive the restart of a node and
+ * follow a session failing over to another node of the cluster.
+ *
+ * <p>The table has one row per memory id, holding the messages as JSON and a version:</p>
+ * <pre>
+ * CREATE TABLE CHAT_MEMORY (ID VARCHAR2(512) PRIMARY KEY, VERSION NUMBER(19) NOT NULL, MESSAGES CLOB NOT NULL)
+ * </pre>
+ *
+ * <p>Writes are behind: {@link #updateMessages(Object, List)} and {@link #deleteMessages(Object)} only record the
+ * latest change of the conversation, and a writer thread sends the recorded changes every <i>flush-interval</i>, or as
+ * soon as <i>batch-size</i> conversations changed, as JDBC batches of one transaction each. A conversation changing
+ * several times between two flushes is written once. The changes of the last interval are lost if the node crashes.
+ * The update counts of the batches tell the rows to insert, which requires an Oracle JDBC driver 12.1 or later.</p>
+ *
+ * <p>When a write fails, the changes are kept and written again after a delay doubling up to
+ * {@value #MAX_RETRY_DELAY_MILLIS} milliseconds. Once <i>max-pending</i> conversations wait to be written, the change
+ * of another conversation fails at once with an {@link IllegalStateException}, so the changes cannot pile up while the
+ * database is unavailable, and the caller, which may hold a lock, is never blocked waiting for the writer.</p>
+ *
+ * <p>Reads return the recorded change of a conversation not written yet, and are otherwise served from a local LRU
+ * cache. A cached conversation older than <i>cache-ttl</i>, or any if it is 0,
+ * is revalidated by a query returning the messages only if the version of the row differs from the cached one.
+ * Versions are based on the wall clock, so an update only replaces a row with an older version, and a node writing
+ * late does not overwrite the conversation continued on another node. A conversation with changes not yet written is
+ * never revalidated.</p>
+ */
+final class OracleChatMemoryStore implements ChatMemoryStore, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(OracleChatMemoryStore.class.getName());
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*(\\.[A-Za-z][A-Za-z0-9_$#]*)?");
+    // ORA-00955: name is already used by an existing object
+    private static final int NAME_ALREADY_USED = 955;
+    // ORA-00942: table or view does not exist
+    private static final int TABLE_DOES_NOT_EXIST = 942;
+    private static final int MAX_ID_LENGTH = 512;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+    private final DataSource dataSource;
+    private final String table;
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalNanos;
+    private final long cacheTtlNanos;
+    private final Map<String, Entry> cache;
+    private final Map<String, Write> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Guarded by this, the writes are retried after a failure only once the delay elapsed
+    private long retryDelayNanos;
+    private volatile long retryAt = System.nanoTime();
+    private final ScheduledExecutorService writer;
+    private final String selectSql;
+    private final String updateSql;
+    private final String insertSql;
+    private final String deleteSql;
+
+    private OracleChatMemoryStore(Builder builder) {
+        if (builder.dataSource == null) {
+            throw new IllegalArgumentException("A data source is required");
+        }
+        if (!IDENTIFIER.matcher(builder.table).matches()) {
+            throw new IllegalArgumentException("Invalid table name " + builder.table);
+        }
+        if (builder.batchSize < 1 || builder.flushIntervalMillis < 1 || builder.cacheSize < 1 || builder.maxPending < 1) {
+            throw new IllegalArgumentException("batch-size, flush-interval, cache-size and max-pending must be greater"
+                                                       + " than 0");
+        }
+        this.dataSource = builder.dataSource;
+        this.table = builder.table;
+        this.batchSize = builder.batchSize;
+        this.maxPending = builder.maxPending;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.flushIntervalMillis);
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, builder.cacheTtlMillis));
+        int cacheSize = builder.cacheSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.selectSql = "SELECT VERSION, CASE WHEN VERSION = ? THEN NULL ELSE MESSAGES END FROM " + table
+                + " WHERE ID = ?";
+        this.updateSql = "UPDATE " + table + " SET VERSION = ?, MESSAGES = ? WHERE ID = ? AND VERSION < ?";
+        this.insertSql = "INSERT INTO " + table + " (ID, VERSION, MESSAGES) VALUES (?, ?, ?)";
+        this.deleteSql = "DELETE FROM " + table + " WHERE ID = ? AND VERSION < ?";
+        createTable(builder.createOption);
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wls-langchain4j-chat-memory-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(() -> flush(false), builder.flushIntervalMillis, builder.flushIntervalMillis,
+                                      TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String id = String.valueOf(memoryId);
+        Write write = pending.get(id);
+        if (write != null) {
+            // Newer than the row, and the cache may have evicted it
+            return write.messages;
+        }
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(id);
+        }
+        if (entry != null && now - entry.validatedAt < cacheTtlNanos) {
+            return entry.messages;
+        }
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            statement.setLong(1, entry != null ? entry.version : -1);
+            statement.setString(2, id);
+            Entry loaded;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    loaded = new Entry(0, List.of(), now);
+                } else if (entry != null && resultSet.getLong(1) == entry.version) {
+                    loaded = new Entry(entry.version, entry.messages, now);
+                } else {
+                    loaded = new Entry(resultSet.getLong(1),
+                                       List.copyOf(ChatMessageDeserializer.messagesFromJson(resultSet.getString(2))),
+                                       now);
+                }
+            }
+            synchronized (cache) {
+                // A change recorded meanwhile is newer than the row
+                Entry current = cache.get(id);
+                if (current != null && current != entry) {
+                    return current.messages;
+                }
+                cache.put(id, loaded);
+            }
+            return loaded.messages;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read the chat memory " + id + " from " + table, e);
+        }
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        record(String.valueOf(memoryId), List.copyOf(messages), false);
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        record(String.valueOf(memoryId), List.of(), true);
+    }
+
+    /**
+     * Writes the recorded changes and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warning("Timed out waiting for the chat memory writer of " + table);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush(true);
+        if (!pending.isEmpty()) {
+            LOGGER.warning(pending.size() + " chat memories could not be written to " + table);
+        }
+    }
+
+    private void record(String id, List<ChatMessage> messages, boolean delete) {
+        if (id.length() > MAX_ID_LENGTH) {
+            // Would fail every flush
+            throw new IllegalArgumentException("Chat memory id is longer than " + MAX_ID_LENGTH + " characters");
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(id)) {
+            requestFlush();
+            throw new IllegalStateException(pending.size() + " chat memories are waiting to be written to " + table);
+        }
+        long now = System.nanoTime();
+        synchronized (cache) {
+            Entry entry = cache.get(id);
+            // Ordered by time across the nodes, and increasing on this node
+            long version = Math.max(entry != null ? entry.version + 1 : 0, System.currentTimeMillis());
+            cache.put(id, new Entry(version, messages, now));
+            pending.put(id, new Write(id, version, messages, delete));
+        }
+        if (pending.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        // After a failure, the scheduled flush retries once the delay elapsed
+        if (System.nanoTime() - retryAt >= 0 && flushRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(() -> flush(false));
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private synchronized void flush(boolean force) {
+        flushRequested.set(false);
+        if (pending.isEmpty() || (!force && System.nanoTime() - retryAt < 0)) {
+            return;
+        }
+        List<Write> writes = new ArrayList<>(pending.values());
+        for (int from = 0; from < writes.size(); from += batchSize) {
+            List<Write> batch = writes.subList(from, Math.min(writes.size(), from + batchSize));
+            try {
+                write(batch);
+            } catch (SQLException | RuntimeException e) {
+                // Kept in pending, retried once the delay elapsed
+                retryDelayNanos = Math.min(Math.max(flushIntervalNanos, retryDelayNanos * 2),
+                                           TimeUnit.MILLISECONDS.toNanos(MAX_RETRY_DELAY_MILLIS));
+                retryAt = System.nanoTime() + retryDelayNanos;
+                LOGGER.log(Level.WARNING, "Failed to write " + batch.size() + " chat memories to " + table
+                        + ", retrying in " + TimeUnit.NANOSECONDS.toMillis(retryDelayNanos) + " ms", e);
+                return;
+            }
+            retryDelayNanos = 0;
+            for (Write write : batch) {
+                // Unless changed again meanwhile
+                pending.remove(write.id, write);
+            }
+        }
+    }
+
+    private void write(List<Write> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<Write> missing = update(connection, batch);
+                insert(connection, missing);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Updates and deletes the rows, and returns the updates of the rows not found or newer.
+     */
+    private List<Write> update(Connection connection, List<Write> batch) throws SQLException {
+        List<Write> updates = new ArrayList<>(batch.size());
+        try (PreparedStatement update = connection.prepareStatement(updateSql);
+                PreparedStatement delete = connection.prepareStatement(deleteSql)) {
+            boolean deletes = false;
+            for (Write write : batch) {
+                if (write.delete) {
+                    // Unless the conversation was continued on another node
+                    delete.setString(1, write.id);
+                    delete.setLong(2, write.version);
+                    delete.addBatch();
+                    deletes = true;
+                } else {
+                    update.setLong(1, write.version);
+                    update.setString(2, ChatMessageSerializer.messagesToJson(write.messages));
+                    update.setString(3, write.id);
+                    update.setLong(4, write.version);
+                    update.addBatch();
+                    updates.add(write);
+                }
+            }
+            if (deletes) {
+                delete.executeBatch();
+            }
+            if (updates.isEmpty()) {
+                return updates;
+            }
+            int[] counts = update.executeBatch();
+            List<Write> missing = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    missing.add(updates.get(i));
+                }
+            }
+            return missing;
+        }
+    }
+
+    private void insert(Connection connection, List<Write> missing) throws SQLException {
+        if (missing.isEmpty()) {
+            return;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            for (Write write : missing) {
+                bindInsert(insert, write);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            return;
+        } catch (BatchUpdateException e) {
+            // Another node wrote some of the rows meanwhile, insert the others one by one
+            connection.rollback(savepoint);
+        }
+        try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            for (Write write : missing) {
+                bindInsert(insert, write);
+                savepoint = connection.setSavepoint();
+                try {
+                    insert.executeUpdate();
+                } catch (SQLIntegrityConstraintViolationException e) {
+                    connection.rollback(savepoint);
+                    // The row is newer, the next read loads it
+                    synchronized (cache) {
+                        cache.remove(write.id);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void bindInsert(PreparedStatement insert, Write write) throws SQLException {
+        insert.setString(1, write.id);
+        insert.setLong(2, write.version);
+        insert.setString(3, ChatMessageSerializer.messagesToJson(write.messages));
+    }
+
+    private void createTable(CreateOption createOption) {
+        if (createOption == CreateOption.CREATE_NONE) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            if (createOption == CreateOption.CREATE_OR_REPLACE) {
+                try {
+                    statement.execute("DROP TABLE " + table + " PURGE");
+                } catch (SQLException e) {
+                    if (e.getErrorCode() != TABLE_DOES_NOT_EXIST) {
+                        throw e;
+                    }
+                }
+            }
+            try {
+                statement.execute("CREATE TABLE " + table + " (ID VARCHAR2(512) PRIMARY KEY,"
+                                          + " VERSION NUMBER(19) NOT NULL, MESSAGES CLOB NOT NULL)");
+            } catch (SQLException e) {
+                if (e.getErrorCode() != NAME_ALREADY_USED) {
+                    throw e;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to create the chat memory table " + table, e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long version;
+        private final List<ChatMessage> messages;
+        private final long validatedAt;
+
+        private Entry(long version, List<ChatMessage> messages, long validatedAt) {
+            this.version = version;
+            this.messages = messages;
+            this.validatedAt = validatedAt;
+        }
+    }
+
+    private static final class Write {
+
+        private final String id;
+        private final long version;
+        private final List<ChatMessage> messages;
+        private final boolean delete;
+
+        private Write(String id, long version, List<ChatMessage> messages, boolean delete) {
+            this.id = id;
+            this.version = version;
+            this.messages = messages;
+            this.delete = delete;
+        }
+    }
+
+    /**
+     * Builder of {@link OracleChatMemoryStore}.
+     */
+    static final class Builder {
+
+        private DataSource dataSource;
+        private String table = "CHAT_MEMORY";
+        private CreateOption createOption = CreateOption.CREATE_NONE;
+        private int batchSize = 500;
+        private long flushIntervalMillis = 100;
+        private int cacheSize = 10000;
+        private long cacheTtlMillis = 5000;
+        private int maxPending = 10000;
+
+        private Builder() {
+        }
+
+        Builder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        Builder table(String table) {
+            this.table = table;
+            return this;
+        }
+
+        Builder createOption(CreateOption createOption) {
+            this.createOption = createOption;
+            return this;
+        }
+
+        Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        Builder flushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        Builder cacheTtlMillis(long cacheTtlMillis) {
+            this.cacheTtlMillis = cacheTtlMillis;
+            return this;
+        }
+
+        Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        OracleChatMemoryStore build() {
+            return new OracleChatMemoryStore(this);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.oracle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oracle.weblogic.langchain4j.cdi.BeanResolver;
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import javax.sql.DataSource;
+
+import dev.langchain4j.store.embedding.oracle.CreateOption;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Factory class for creating a configured Oracle Database {@link ChatMemoryStore}.
+ *
+ * <p>The store is configured with:</p>
+ * <ul>
+ *     <li><i>langchain4j.oracle.chat-memory-store.data-source</i> - name of the {@link DataSource} bean.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.table</i> - table name, <i>CHAT_MEMORY</i> by default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.create-option</i> - whether the table is created, one of
+ *     {@link CreateOption}, <i>CREATE_NONE</i> by default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.batch-size</i> - maximum number of conversations written in one
+ *     batch, 500 by default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.flush-interval</i> - time in milliseconds between two writes, 100
+ *     by default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.cache-size</i> - conversations cached locally, 10000 by
+ *     default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.cache-ttl</i> - time in milliseconds a cached conversation is read
+ *     without checking its version, 5000 by default.</li>
+ *     <li><i>langchain4j.oracle.chat-memory-store.max-pending</i> - conversations waiting to be written before the
+ *     changes of other conversations fail, 10000 by default.</li>
+ * </ul>
+ *
+ * <p>Set <i>langchain4j.chat-memory.store</i> to <i>oracleChatMemoryStore</i> to keep the conversations of the chat
+ * memory provider in the store.</p>
+ *
+ * @see OracleChatMemoryStore
+ */
+@ApplicationScoped
+public class OracleChatMemoryStoreFactory {
+
+    private static final String PREFIX = "langchain4j.oracle.chat-memory-store";
+
+    private Configuration configuration;
+    private final List<OracleChatMemoryStore> stores = new ArrayList<>();
+
+    // CDI required
+    OracleChatMemoryStoreFactory() {
+    }
+
+    /**
+     * Creates OracleChatMemoryStoreFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public OracleChatMemoryStoreFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link ChatMemoryStore} bean in the CDI registry with the name
+     * <i>oracleChatMemoryStore</i> if the configuration property
+     * <i>langchain4j.oracle.chat-memory-store.enabled</i> is set to <i>true</i>.
+     *
+     * @return a configured instance of {@link ChatMemoryStore}
+     */
+    @ConditionalProduce(key = "langchain4j.oracle.chat-memory-store.enabled", value = "true")
+    @Named("oracleChatMemoryStore")
+    public ChatMemoryStore create() {
+        OracleChatMemoryStore.Builder builder = OracleChatMemoryStore.builder();
+        configuration.getString(PREFIX + ".data-source").ifPresent(bn -> builder.dataSource(BeanResolver.resolve(DataSource.class, bn)));
+        configuration.getString(PREFIX + ".table").ifPresent(builder::table);
+        configuration.getString(PREFIX + ".create-option").ifPresent(v -> builder.createOption(CreateOption.valueOf(v)));
+        configuration.getInteger(PREFIX + ".batch-size").ifPresent(builder::batchSize);
+        configuration.getLong(PREFIX + ".flush-interval").ifPresent(builder::flushIntervalMillis);
+        configuration.getInteger(PREFIX + ".cache-size").ifPresent(builder::cacheSize);
+        configuration.getLong(PREFIX + ".cache-ttl").ifPresent(builder::cacheTtlMillis);
+        configuration.getInteger(PREFIX + ".max-pending").ifPresent(builder::maxPending);
+
+        OracleChatMemoryStore store = builder.build();
+        synchronized (stores) {
+            stores.add(store);
+        }
+        return store;
+    }
+
+    /**
+     * Writes the pending changes of the created stores and stops their writer threads.
+     */
+    @PreDestroy
+    void close() {
+        synchronized (stores) {
+            for (OracleChatMemoryStore store : stores) {
+                store.close();
+            }
+            stores.clear();
+        }
+    }
+}
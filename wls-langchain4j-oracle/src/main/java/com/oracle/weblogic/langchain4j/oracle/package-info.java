@@ -15,6 +15,6 @@
  */
 
 /**
- * Provides integration with Oracle embedding store.
+ * Provides integration with Oracle Database, as an embedding store and as a chat memory store.
  */
 package com.oracle.weblogic.langchain4j.oracle;
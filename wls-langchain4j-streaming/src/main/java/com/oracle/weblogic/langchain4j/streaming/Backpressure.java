@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+/**
+ * Demand of the consumer of a stream, telling the transport when to stop reading the response.
+ *
+ * <p>The demand cannot travel with the {@link dev.langchain4j.model.StreamingResponseHandler}, which LangChain4J
+ * wraps. It is bound to the thread starting a stream, and to the thread completing a stream, so the streams started to
+ * answer a tool execution request see the same demand.</p>
+ */
+abstract class Backpressure {
+
+    private static final ThreadLocal<Backpressure> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Returns the demand bound to the current thread.
+     *
+     * @return the demand, or {@code null} if the consumer reads at any rate
+     */
+    static Backpressure current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an action with the given demand bound to the current thread.
+     *
+     * @param backpressure the demand, may be {@code null}
+     * @param action       the action
+     */
+    static void run(Backpressure backpressure, Runnable action) {
+        Backpressure previous = CURRENT.get();
+        CURRENT.set(backpressure);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the consumer cancelled, in which case the transport closes the stream.
+     *
+     * @return {@code true} if cancelled
+     */
+    abstract boolean cancelled();
+
+    /**
+     * Returns whether the transport may read more of the response now. Otherwise {@code resume} is invoked once when
+     * the consumer catches up or cancels.
+     *
+     * @param resume invoked once when reading may go on
+     * @return {@code true} if reading may go on now
+     */
+    abstract boolean request(Runnable resume);
+}
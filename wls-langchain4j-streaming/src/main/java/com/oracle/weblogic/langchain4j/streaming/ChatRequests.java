@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.image.Image;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.data.message.ImageContent;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.request.json.JsonSchemaElementHelper;
+
+/**
+ * Writes the bodies of the streamed chat requests of the OpenAI and Ollama APIs.
+ */
+final class ChatRequests {
+
+    private ChatRequests() {
+    }
+
+    /**
+     * Writes an OpenAI chat completion request.
+     *
+     * @param model    the model holding the options
+     * @param messages the messages
+     * @param tools    the tools, may be empty
+     * @return the JSON body
+     */
+    static byte[] openAi(HttpStreamingChatModel model, List<ChatMessage> messages, List<ToolSpecification> tools) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("model", model.modelName());
+        List<Object> openAiMessages = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            openAiMessages.add(openAiMessage(message));
+        }
+        request.put("messages", openAiMessages);
+        request.put("stream", true);
+        request.put("stream_options", Map.of("include_usage", true));
+        request.put("temperature", model.temperature());
+        request.put("top_p", model.topP());
+        request.put("max_tokens", model.maxTokens());
+        request.put("max_completion_tokens", model.maxCompletionTokens());
+        request.put("presence_penalty", model.presencePenalty());
+        request.put("frequency_penalty", model.frequencyPenalty());
+        request.put("stop", model.stop().isEmpty() ? null : model.stop());
+        request.put("seed", model.seed());
+        request.put("user", model.user());
+        if (model.responseFormat() != null) {
+            request.put("response_format", Map.of("type", model.responseFormat()));
+        }
+        if (!tools.isEmpty()) {
+            request.put("tools", tools(tools));
+            request.put("parallel_tool_calls", model.parallelToolCalls());
+        }
+        return JsonWriter.write(request);
+    }
+
+    /**
+     * Writes an Ollama chat request.
+     *
+     * @param model    the model holding the options
+     * @param messages the messages
+     * @param tools    the tools, may be empty
+     * @return the JSON body
+     */
+    static byte[] ollama(HttpStreamingChatModel model, List<ChatMessage> messages, List<ToolSpecification> tools) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("model", model.modelName());
+        List<Object> ollamaMessages = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            ollamaMessages.add(ollamaMessage(message));
+        }
+        request.put("messages", ollamaMessages);
+        request.put("stream", true);
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("temperature", model.temperature());
+        options.put("top_p", model.topP());
+        options.put("top_k", model.topK());
+        options.put("num_predict", model.maxTokens());
+        options.put("repeat_penalty", model.repeatPenalty());
+        options.put("seed", model.seed());
+        options.put("stop", model.stop().isEmpty() ? null : model.stop());
+        request.put("options", options);
+        request.put("format", model.responseFormat());
+        if (!tools.isEmpty()) {
+            request.put("tools", tools(tools));
+        }
+        return JsonWriter.write(request);
+    }
+
+    private static Map<String, Object> openAiMessage(ChatMessage message) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (message instanceof SystemMessage) {
+            result.put("role", "system");
+            result.put("content", ((SystemMessage) message).text());
+        } else if (message instanceof UserMessage) {
+            UserMessage userMessage = (UserMessage) message;
+            result.put("role", "user");
+            result.put("name", userMessage.name());
+            if (userMessage.hasSingleText()) {
+                result.put("content", userMessage.singleText());
+            } else {
+                List<Object> parts = new ArrayList<>();
+                for (Content content : userMessage.contents()) {
+                    if (content instanceof TextContent) {
+                        parts.add(Map.of("type", "text", "text", ((TextContent) content).text()));
+                    } else if (content instanceof ImageContent) {
+                        Image image = ((ImageContent) content).image();
+                        String url = image.url() != null
+                                ? image.url().toString()
+                                : "data:" + image.mimeType() + ";base64," + image.base64Data();
+                        parts.add(Map.of("type", "image_url", "image_url", Map.of("url", url)));
+                    } else {
+                        throw new IllegalArgumentException("Unsupported content " + content.type());
+                    }
+                }
+                result.put("content", parts);
+            }
+        } else if (message instanceof AiMessage) {
+            AiMessage aiMessage = (AiMessage) message;
+            result.put("role", "assistant");
+            result.put("content", aiMessage.text());
+            if (aiMessage.hasToolExecutionRequests()) {
+                List<Object> toolCalls = new ArrayList<>();
+                for (ToolExecutionRequest request : aiMessage.toolExecutionRequests()) {
+                    toolCalls.add(Map.of("id", request.id(),
+                                         "type", "function",
+                                         "function", Map.of("name", request.name(),
+                                                            "arguments", request.arguments())));
+                }
+                result.put("tool_calls", toolCalls);
+            }
+        } else if (message instanceof ToolExecutionResultMessage) {
+            ToolExecutionResultMessage resultMessage = (ToolExecutionResultMessage) message;
+            result.put("role", "tool");
+            result.put("tool_call_id", resultMessage.id());
+            result.put("content", resultMessage.text());
+        } else {
+            throw new IllegalArgumentException("Unsupported message " + message.type());
+        }
+        return result;
+    }
+
+    private static Map<String, Object> ollamaMessage(ChatMessage message) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (message instanceof SystemMessage) {
+            result.put("role", "system");
+            result.put("content", ((SystemMessage) message).text());
+        } else if (message instanceof UserMessage) {
+            result.put("role", "user");
+            StringBuilder text = new StringBuilder();
+            List<String> images = new ArrayList<>();
+            for (Content content : ((UserMessage) message).contents()) {
+                if (content instanceof TextContent) {
+                    text.append(((TextContent) content).text());
+                } else if (content instanceof ImageContent && ((ImageContent) content).image().base64Data() != null) {
+                    images.add(((ImageContent) content).image().base64Data());
+                } else {
+                    throw new IllegalArgumentException("Unsupported content " + content.type()
+                                                               + ", Ollama accepts text and base64 images");
+                }
+            }
+            result.put("content", text.toString());
+            result.put("images", images.isEmpty() ? null : images);
+        } else if (message instanceof AiMessage) {
+            AiMessage aiMessage = (AiMessage) message;
+            result.put("role", "assistant");
+            result.put("content", aiMessage.text() == null ? "" : aiMessage.text());
+            if (aiMessage.hasToolExecutionRequests()) {
+                List<Object> toolCalls = new ArrayList<>();
+                for (ToolExecutionRequest request : aiMessage.toolExecutionRequests()) {
+                    // Ollama expects the arguments as an object
+                    toolCalls.add(Map.of("function", Map.of("name", request.name(),
+                                                            "arguments", new JsonWriter.Raw(request.arguments()))));
+                }
+                result.put("tool_calls", toolCalls);
+            }
+        } else if (message instanceof ToolExecutionResultMessage) {
+            result.put("role", "tool");
+            result.put("content", ((ToolExecutionResultMessage) message).text());
+        } else {
+            throw new IllegalArgumentException("Unsupported message " + message.type());
+        }
+        return result;
+    }
+
+    private static List<Object> tools(List<ToolSpecification> tools) {
+        List<Object> result = new ArrayList<>(tools.size());
+        for (ToolSpecification tool : tools) {
+            Map<String, Object> function = new LinkedHashMap<>();
+            function.put("name", tool.name());
+            function.put("description", tool.description());
+            function.put("parameters", parameters(tool));
+            result.add(Map.of("type", "function", "function", function));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> parameters(ToolSpecification tool) {
+        if (tool.parameters() != null) {
+            return JsonSchemaElementHelper.toMap(tool.parameters());
+        }
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("type", "object");
+        parameters.put("properties", Map.of());
+        parameters.put("required", List.of());
+        return parameters;
+    }
+}
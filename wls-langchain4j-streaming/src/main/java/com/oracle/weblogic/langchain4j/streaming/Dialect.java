@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+
+/**
+ * Wire format of a streamed chat completion.
+ */
+public enum Dialect {
+
+    /**
+     * The OpenAI chat completions API, streamed as server-sent events. Also spoken by the OpenAI compatible servers.
+     */
+    OPEN_AI("/chat/completions", true) {
+        @Override
+        byte[] request(HttpStreamingChatModel model, List<ChatMessage> messages, List<ToolSpecification> tools) {
+            return ChatRequests.openAi(model, messages, tools);
+        }
+
+        @Override
+        StreamDecoder decoder(StreamingResponseHandler<AiMessage> handler) {
+            return new OpenAiStreamDecoder(handler);
+        }
+    },
+
+    /**
+     * The Ollama chat API, streamed as newline delimited JSON.
+     */
+    OLLAMA("/api/chat", false) {
+        @Override
+        byte[] request(HttpStreamingChatModel model, List<ChatMessage> messages, List<ToolSpecification> tools) {
+            return ChatRequests.ollama(model, messages, tools);
+        }
+
+        @Override
+        StreamDecoder decoder(StreamingResponseHandler<AiMessage> handler) {
+            return new OllamaStreamDecoder(handler);
+        }
+    };
+
+    private final String path;
+    private final boolean sse;
+
+    Dialect(String path, boolean sse) {
+        this.path = path;
+        this.sse = sse;
+    }
+
+    /**
+     * Returns the path of the chat endpoint, relative to the base URL.
+     *
+     * @return the path
+     */
+    String path() {
+        return path;
+    }
+
+    /**
+     * Returns whether the response is streamed as server-sent events rather than newline delimited JSON.
+     *
+     * @return {@code true} for server-sent events
+     */
+    boolean sse() {
+        return sse;
+    }
+
+    abstract byte[] request(HttpStreamingChatModel model, List<ChatMessage> messages, List<ToolSpecification> tools);
+
+    abstract StreamDecoder decoder(StreamingResponseHandler<AiMessage> handler);
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+
+/**
+ * Splits the body of a streamed response in lines and passes the frames they hold to a {@link StreamDecoder}.
+ *
+ * <p>The bytes received are copied in a pooled line buffer and each frame is decoded from that buffer, so no string
+ * is created for the lines. With server-sent events a frame is the payload of a <i>data:</i> line, and
+ * <i>[DONE]</i> ends the stream. With newline delimited JSON every line is a frame.</p>
+ *
+ * <p>When the stream was started with a {@link Backpressure}, more of the body is only requested while the consumer
+ * keeps up with the tokens, so a slow consumer holds the response in the network buffers.</p>
+ *
+ * <p>The stream fails with a {@link HttpTimeoutException} when no data arrives within the idle timeout of a request
+ * for more of the body. The time the consumer holds the body back does not count.</p>
+ */
+final class FrameSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private static final byte[] DATA = {'d', 'a', 't', 'a', ':'};
+    private static final byte[] DONE = {'[', 'D', 'O', 'N', 'E', ']'};
+
+    private final boolean sse;
+    private final StreamDecoder decoder;
+    private final StreamingResponseHandler<AiMessage> handler;
+    private final Backpressure backpressure;
+    private final long idleTimeoutNanos;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final Runnable resume = this::resume;
+    private volatile Flow.Subscription subscription;
+    private byte[] line = LineBuffers.take();
+    private int length;
+    // Set when more of the body is requested and cleared when it arrives, read by the idle timer
+    private volatile long requestedAt;
+    private volatile boolean reading;
+    private volatile ScheduledFuture<?> timer;
+
+    FrameSubscriber(boolean sse,
+                    StreamDecoder decoder,
+                    StreamingResponseHandler<AiMessage> handler,
+                    Backpressure backpressure,
+                    long idleTimeoutNanos) {
+        this.sse = sse;
+        this.decoder = decoder;
+        this.handler = handler;
+        this.backpressure = backpressure;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        request();
+        schedule(idleTimeoutNanos);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        reading = false;
+        try {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining() && !finished.get()) {
+                    byte b = buffer.get();
+                    if (b == '\n') {
+                        frame();
+                        length = 0;
+                    } else {
+                        append(b);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            failed(e);
+            return;
+        }
+        if (finished.get()) {
+            subscription.cancel();
+        } else if (backpressure == null || backpressure.request(resume)) {
+            resume();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failed(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            if (length > 0 && !finished.get()) {
+                frame();
+            }
+            complete();
+        } catch (RuntimeException e) {
+            failed(e);
+        }
+    }
+
+    /**
+     * Reports a failure that occurred outside of the body, such as a connection failure, to the handler unless the
+     * stream already completed. The line buffer may still be in use by the body and is not returned to the pool.
+     *
+     * @param throwable the failure
+     */
+    void fail(Throwable throwable) {
+        if (finished.compareAndSet(false, true)) {
+            cancelTimer();
+            handler.onError(throwable);
+        }
+    }
+
+    private void resume() {
+        if (backpressure != null && backpressure.cancelled()) {
+            subscription.cancel();
+            if (finished.compareAndSet(false, true)) {
+                cancelTimer();
+                release();
+            }
+        } else {
+            request();
+        }
+    }
+
+    private void request() {
+        requestedAt = System.nanoTime();
+        reading = true;
+        subscription.request(1);
+    }
+
+    private void schedule(long delayNanos) {
+        if (!finished.get()) {
+            timer = IdleTimer.INSTANCE.schedule(this::checkIdle, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void checkIdle() {
+        if (finished.get()) {
+            return;
+        }
+        if (!reading) {
+            // Nothing requested, the consumer holds the body back
+            schedule(idleTimeoutNanos);
+            return;
+        }
+        long idle = System.nanoTime() - requestedAt;
+        if (idle < idleTimeoutNanos) {
+            schedule(idleTimeoutNanos - idle);
+            return;
+        }
+        subscription.cancel();
+        // The body may be read meanwhile, so the line buffer is not returned to the pool
+        fail(new HttpTimeoutException("No data received for " + TimeUnit.NANOSECONDS.toMillis(idle) + " ms"));
+    }
+
+    private void cancelTimer() {
+        ScheduledFuture<?> current = timer;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    private void failed(Throwable throwable) {
+        if (finished.compareAndSet(false, true)) {
+            cancelTimer();
+            release();
+            handler.onError(throwable);
+        }
+    }
+
+    private void frame() {
+        int end = length;
+        if (end > 0 && line[end - 1] == '\r') {
+            end--;
+        }
+        int start = 0;
+        if (sse) {
+            if (!startsWith(DATA, end)) {
+                // Blank line, comment, event or id
+                return;
+            }
+            start = DATA.length;
+            if (start < end && line[start] == ' ') {
+                start++;
+            }
+            if (end - start == DONE.length && regionMatches(start, DONE)) {
+                complete();
+                return;
+            }
+        }
+        if (end == start) {
+            return;
+        }
+        decoder.decode(line, start, end - start);
+        if (decoder.isDone()) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (finished.compareAndSet(false, true)) {
+            cancelTimer();
+            release();
+            if (decoder.error() != null) {
+                handler.onError(new StreamingException(200, decoder.error()));
+            } else {
+                // A tool execution request is answered from the handler, by a stream subject to the same demand
+                Backpressure.run(backpressure, () -> handler.onComplete(decoder.response()));
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (length == line.length) {
+            byte[] larger = new byte[line.length * 2];
+            System.arraycopy(line, 0, larger, 0, length);
+            LineBuffers.release(line);
+            line = larger;
+        }
+        line[length++] = b;
+    }
+
+    private boolean startsWith(byte[] prefix, int end) {
+        return end >= prefix.length && regionMatches(0, prefix);
+    }
+
+    private boolean regionMatches(int start, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (line[start + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void release() {
+        LineBuffers.release(line);
+        line = null;
+    }
+
+    /**
+     * The scheduler of the idle timeouts of all the streams. A stream reschedules its timeout at most once per
+     * timeout period, not on every read.
+     */
+    private static final class IdleTimer {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            var scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "wls-langchain4j-stream-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Most timeouts are cancelled because the stream ended first
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+
+/**
+ * {@link StreamingChatLanguageModel} reading the streamed completions with the {@link HttpClient} of the JDK.
+ *
+ * <p>The response body is not turned into strings and JSON trees as it arrives. The bytes are split in lines in a
+ * pooled buffer and every frame is scanned in place, materializing only the values the {@link Dialect} needs: the
+ * token deltas, the tool call fragments, the finish reason and the token usage. Streams are multiplexed over a few
+ * HTTP/2 connections when the server supports it, and no thread is blocked while a stream is open.</p>
+ *
+ * <p>When an AI service method returning {@link java.util.concurrent.Flow.Publisher} is backed by this model, the
+ * response is read at the pace the subscriber requests the tokens, see {@link TokenStreamPublisherAdapter}.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * StreamingChatLanguageModel model = HttpStreamingChatModel.builder()
+ *         .dialect(Dialect.OPEN_AI)
+ *         .baseUrl("https://api.openai.com/v1")
+ *         .apiKey(apiKey)
+ *         .modelName("gpt-4o-mini")
+ *         .build();
+ * </pre>
+ */
+public final class HttpStreamingChatModel implements StreamingChatLanguageModel {
+
+    private static final String OPEN_AI_URL = "https://api.openai.com/v1";
+    private static final String OLLAMA_URL = "http://localhost:11434";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Dialect dialect;
+    private final URI uri;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Map<String, String> headers;
+    private final String modelName;
+    private final Double temperature;
+    private final Double topP;
+    private final Integer topK;
+    private final Integer maxTokens;
+    private final Integer maxCompletionTokens;
+    private final Double presencePenalty;
+    private final Double frequencyPenalty;
+    private final Double repeatPenalty;
+    private final List<String> stop;
+    private final Integer seed;
+    private final String user;
+    private final String responseFormat;
+    private final Boolean parallelToolCalls;
+
+    private HttpStreamingChatModel(Builder builder) {
+        this.dialect = Objects.requireNonNull(builder.dialect, "dialect");
+        String baseUrl = builder.baseUrl != null ? builder.baseUrl : dialect == Dialect.OLLAMA ? OLLAMA_URL : OPEN_AI_URL;
+        this.uri = URI.create(baseUrl.endsWith("/")
+                                      ? baseUrl.substring(0, baseUrl.length() - 1) + dialect.path()
+                                      : baseUrl + dialect.path());
+        this.httpClient = builder.httpClient != null ? builder.httpClient : DefaultClient.INSTANCE;
+        this.timeout = builder.timeout != null ? builder.timeout : DEFAULT_TIMEOUT;
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (builder.apiKey != null) {
+            headers.put("Authorization", "Bearer " + builder.apiKey);
+        }
+        if (builder.organizationId != null) {
+            headers.put("OpenAI-Organization", builder.organizationId);
+        }
+        headers.putAll(builder.customHeaders);
+        this.headers = Map.copyOf(headers);
+        this.modelName = Objects.requireNonNull(builder.modelName, "modelName");
+        this.temperature = builder.temperature;
+        this.topP = builder.topP;
+        this.topK = builder.topK;
+        this.maxTokens = builder.maxTokens;
+        this.maxCompletionTokens = builder.maxCompletionTokens;
+        this.presencePenalty = builder.presencePenalty;
+        this.frequencyPenalty = builder.frequencyPenalty;
+        this.repeatPenalty = builder.repeatPenalty;
+        this.stop = List.copyOf(builder.stop);
+        this.seed = builder.seed;
+        this.user = builder.user;
+        this.responseFormat = builder.responseFormat;
+        this.parallelToolCalls = builder.parallelToolCalls;
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        send(messages, List.of(), handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        send(messages, toolSpecifications, handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        send(messages, List.of(toolSpecification), handler);
+    }
+
+    private void send(List<ChatMessage> messages,
+                      List<ToolSpecification> tools,
+                      StreamingResponseHandler<AiMessage> handler) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", dialect.sse() ? "text/event-stream" : "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(dialect.request(this, messages, tools)));
+        headers.forEach(request::header);
+        FrameSubscriber subscriber = new FrameSubscriber(dialect.sse(),
+                                                         dialect.decoder(handler),
+                                                         handler,
+                                                         Backpressure.current(),
+                                                         timeout.toNanos());
+        httpClient.sendAsync(request.build(), info -> bodySubscriber(info, subscriber))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        subscriber.fail(error);
+                    }
+                });
+    }
+
+    private static HttpResponse.BodySubscriber<Void> bodySubscriber(HttpResponse.ResponseInfo info,
+                                                                    FrameSubscriber subscriber) {
+        if (info.statusCode() / 100 == 2) {
+            return BodySubscribers.fromSubscriber(subscriber);
+        }
+        // Error responses are small, read them whole to report them
+        return BodySubscribers.mapping(BodySubscribers.ofString(StandardCharsets.UTF_8), body -> {
+            subscriber.fail(new StreamingException(info.statusCode(), body));
+            return null;
+        });
+    }
+
+    String modelName() {
+        return modelName;
+    }
+
+    Double temperature() {
+        return temperature;
+    }
+
+    Double topP() {
+        return topP;
+    }
+
+    Integer topK() {
+        return topK;
+    }
+
+    Integer maxTokens() {
+        return maxTokens;
+    }
+
+    Integer maxCompletionTokens() {
+        return maxCompletionTokens;
+    }
+
+    Double presencePenalty() {
+        return presencePenalty;
+    }
+
+    Double frequencyPenalty() {
+        return frequencyPenalty;
+    }
+
+    Double repeatPenalty() {
+        return repeatPenalty;
+    }
+
+    List<String> stop() {
+        return stop;
+    }
+
+    Integer seed() {
+        return seed;
+    }
+
+    String user() {
+        return user;
+    }
+
+    String responseFormat() {
+        return responseFormat;
+    }
+
+    Boolean parallelToolCalls() {
+        return parallelToolCalls;
+    }
+
+    /**
+     * The client used by the models that are not given one. It is created on first use and shared, so all the streams
+     * of the application share its connections.
+     */
+    private static final class DefaultClient {
+        private static final HttpClient INSTANCE = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Builder of {@link HttpStreamingChatModel}. The dialect and the model name are required.
+     */
+    public static final class Builder {
+        private Dialect dialect;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String modelName;
+        private Double temperature;
+        private Double topP;
+        private Integer topK;
+        private Integer maxTokens;
+        private Integer maxCompletionTokens;
+        private Double presencePenalty;
+        private Double frequencyPenalty;
+        private Double repeatPenalty;
+        private List<String> stop = List.of();
+        private Integer seed;
+        private String user;
+        private String responseFormat;
+        private Boolean parallelToolCalls;
+        private Duration timeout;
+        private Map<String, String> customHeaders = Map.of();
+        private HttpClient httpClient;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the wire format.
+         *
+         * @param dialect the dialect
+         * @return this builder
+         */
+        public Builder dialect(Dialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        /**
+         * Sets the base URL, by default the OpenAI API or a local Ollama server depending on the dialect.
+         *
+         * @param baseUrl the base URL
+         * @return this builder
+         */
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Sets the API key sent as a bearer token.
+         *
+         * @param apiKey the API key
+         * @return this builder
+         */
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        /**
+         * Sets the OpenAI organization.
+         *
+         * @param organizationId the organization
+         * @return this builder
+         */
+        public Builder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        /**
+         * Sets the model name.
+         *
+         * @param modelName the model name
+         * @return this builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * Sets the sampling temperature.
+         *
+         * @param temperature the temperature
+         * @return this builder
+         */
+        public Builder temperature(Double temperature) {
+            this.temperature = temperature;
+            return this;
+        }
+
+        /**
+         * Sets the nucleus sampling probability.
+         *
+         * @param topP the probability
+         * @return this builder
+         */
+        public Builder topP(Double topP) {
+            this.topP = topP;
+            return this;
+        }
+
+        /**
+         * Sets the number of most likely tokens sampled from, Ollama only.
+         *
+         * @param topK the number of tokens
+         * @return this builder
+         */
+        public Builder topK(Integer topK) {
+            this.topK = topK;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens to generate.
+         *
+         * @param maxTokens the maximum
+         * @return this builder
+         */
+        public Builder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of completion tokens, including reasoning tokens, OpenAI only.
+         *
+         * @param maxCompletionTokens the maximum
+         * @return this builder
+         */
+        public Builder maxCompletionTokens(Integer maxCompletionTokens) {
+            this.maxCompletionTokens = maxCompletionTokens;
+            return this;
+        }
+
+        /**
+         * Sets the presence penalty, OpenAI only.
+         *
+         * @param presencePenalty the penalty
+         * @return this builder
+         */
+        public Builder presencePenalty(Double presencePenalty) {
+            this.presencePenalty = presencePenalty;
+            return this;
+        }
+
+        /**
+         * Sets the frequency penalty, OpenAI only.
+         *
+         * @param frequencyPenalty the penalty
+         * @return this builder
+         */
+        public Builder frequencyPenalty(Double frequencyPenalty) {
+            this.frequencyPenalty = frequencyPenalty;
+            return this;
+        }
+
+        /**
+         * Sets the repeat penalty, Ollama only.
+         *
+         * @param repeatPenalty the penalty
+         * @return this builder
+         */
+        public Builder repeatPenalty(Double repeatPenalty) {
+            this.repeatPenalty = repeatPenalty;
+            return this;
+        }
+
+        /**
+         * Sets the stop sequences.
+         *
+         * @param stop the stop sequences
+         * @return this builder
+         */
+        public Builder stop(List<String> stop) {
+            this.stop = stop;
+            return this;
+        }
+
+        /**
+         * Sets the sampling seed.
+         *
+         * @param seed the seed
+         * @return this builder
+         */
+        public Builder seed(Integer seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the end user identifier, OpenAI only.
+         *
+         * @param user the user
+         * @return this builder
+         */
+        public Builder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        /**
+         * Sets the response format, for example <i>json_object</i> with OpenAI or <i>json</i> with Ollama.
+         *
+         * @param responseFormat the format
+         * @return this builder
+         */
+        public Builder responseFormat(String responseFormat) {
+            this.responseFormat = responseFormat;
+            return this;
+        }
+
+        /**
+         * Sets whether the model may call several tools in one turn, OpenAI only.
+         *
+         * @param parallelToolCalls whether parallel tool calls are allowed
+         * @return this builder
+         */
+        public Builder parallelToolCalls(Boolean parallelToolCalls) {
+            this.parallelToolCalls = parallelToolCalls;
+            return this;
+        }
+
+        /**
+         * Sets the time allowed for the response headers, and for every read of the body, 60 seconds by default. The
+         * time the consumer holds the body back, see {@link TokenStreamPublisherAdapter}, does not count.
+         *
+         * @param timeout the timeout
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets headers added to every request.
+         *
+         * @param customHeaders the headers
+         * @return this builder
+         */
+        public Builder customHeaders(Map<String, String> customHeaders) {
+            this.customHeaders = customHeaders;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP client. By default, all the models share a client preferring HTTP/2.
+         *
+         * @param httpClient the client
+         * @return this builder
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Builds the model.
+         *
+         * @return the model
+         */
+        public HttpStreamingChatModel build() {
+            return new HttpStreamingChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans a JSON document in place, without building a tree, and hands the values of the members a {@link Handler}
+ * asks for to it.
+ *
+ * <p>Member names are matched against a fixed set of keys, so the path of a value is an array of key indexes and no
+ * string is created for the names. Members whose name is not one of the keys are skipped with their content. Arrays
+ * do not add to the path, their elements are scanned with the path of the array.</p>
+ */
+final class JsonScanner {
+
+    /**
+     * Index of a member name that is not one of the keys.
+     */
+    static final int UNKNOWN = -1;
+
+    private static final int MAX_DEPTH = 16;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private final byte[][] keys;
+    private final int[] path = new int[MAX_DEPTH];
+    private byte[] escaped = new byte[256];
+    private byte[] buf;
+    private int offset;
+    private int pos;
+    private int end;
+
+    /**
+     * Receives the values of a scanned document.
+     */
+    interface Handler {
+
+        /**
+         * Returns whether the value at the given path is read by {@link #value(int[], int, JsonScanner)}. Objects and
+         * arrays that are not wanted are scanned, other values are skipped.
+         *
+         * @param path  the key indexes of the path, valid up to {@code depth}
+         * @param depth the length of the path
+         * @return {@code true} to read the value
+         */
+        boolean wants(int[] path, int depth);
+
+        /**
+         * Reads a wanted value with one of the {@code read} methods of the scanner. A value that is not read is
+         * skipped.
+         *
+         * @param path    the key indexes of the path, valid up to {@code depth}
+         * @param depth   the length of the path
+         * @param scanner the scanner positioned on the value
+         */
+        void value(int[] path, int depth, JsonScanner scanner);
+    }
+
+    /**
+     * Creates a scanner matching the given member names.
+     *
+     * @param keys the member names, their index is used in the paths
+     */
+    JsonScanner(String... keys) {
+        this.keys = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            this.keys[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Scans a document.
+     *
+     * @param buf     the bytes holding the document
+     * @param offset  the start of the document
+     * @param length  the length of the document
+     * @param handler receives the wanted values
+     * @throws IllegalArgumentException if the document is malformed
+     */
+    void scan(byte[] buf, int offset, int length, Handler handler) {
+        this.buf = buf;
+        this.offset = offset;
+        this.pos = offset;
+        this.end = offset + length;
+        try {
+            skipWhitespace();
+            value(0, handler);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated JSON: " + document());
+        } finally {
+            this.buf = null;
+        }
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @return the string, or {@code null} for a JSON null
+     */
+    String readString() {
+        if (isNull()) {
+            return null;
+        }
+        expect('"');
+        int start = pos;
+        boolean ascii = true;
+        while (true) {
+            byte b = byteAt(pos);
+            if (b == '"') {
+                String value = new String(buf, start, pos - start,
+                                          ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                pos++;
+                return value;
+            }
+            if (b == '\\') {
+                return readEscaped(start);
+            }
+            if (b < 0) {
+                ascii = false;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Reads an integer value.
+     *
+     * @return the value, or {@code null} for a JSON null
+     */
+    Long readLong() {
+        if (isNull()) {
+            return null;
+        }
+        boolean negative = byteAt(pos) == '-';
+        if (negative) {
+            pos++;
+        }
+        long value = 0;
+        while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+            value = value * 10 + (buf[pos++] - '0');
+        }
+        // Ignore a fraction or exponent
+        skipPrimitive();
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @return the value, {@code false} for a JSON null
+     */
+    boolean readBoolean() {
+        boolean value = matches(TRUE);
+        skipPrimitive();
+        return value;
+    }
+
+    /**
+     * Reads a value of any type as JSON text.
+     *
+     * @return the JSON text of the value
+     */
+    String readRaw() {
+        int start = pos;
+        skipValue();
+        return new String(buf, start, pos - start, StandardCharsets.UTF_8);
+    }
+
+    private void value(int depth, Handler handler) {
+        switch (byteAt(pos)) {
+        case '{':
+            object(depth, handler);
+            break;
+        case '[':
+            array(depth, handler);
+            break;
+        default:
+            skipValue();
+            break;
+        }
+    }
+
+    private void object(int depth, Handler handler) {
+        pos++;
+        skipWhitespace();
+        if (byteAt(pos) == '}') {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            int key = key();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            if (key == UNKNOWN || depth == MAX_DEPTH) {
+                skipValue();
+            } else {
+                path[depth] = key;
+                if (handler.wants(path, depth + 1)) {
+                    int start = pos;
+                    handler.value(path, depth + 1, this);
+                    if (pos == start) {
+                        skipValue();
+                    }
+                } else {
+                    value(depth + 1, handler);
+                }
+            }
+            skipWhitespace();
+            if (byteAt(pos) == ',') {
+                pos++;
+                continue;
+            }
+            expect('}');
+            return;
+        }
+    }
+
+    private void array(int depth, Handler handler) {
+        pos++;
+        skipWhitespace();
+        if (byteAt(pos) == ']') {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            value(depth, handler);
+            skipWhitespace();
+            if (byteAt(pos) == ',') {
+                pos++;
+                continue;
+            }
+            expect(']');
+            return;
+        }
+    }
+
+    private int key() {
+        expect('"');
+        int start = pos;
+        while (byteAt(pos) != '"') {
+            if (buf[pos] == '\\') {
+                // None of the keys contains an escape
+                skipString(start - 1);
+                return UNKNOWN;
+            }
+            pos++;
+        }
+        int length = pos - start;
+        pos++;
+        for (int i = 0; i < keys.length; i++) {
+            byte[] key = keys[i];
+            if (key.length == length && regionMatches(start, key)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private boolean regionMatches(int start, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (buf[start + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readEscaped(int start) {
+        int length = 0;
+        for (int i = start; i < pos; i++) {
+            length = put(length, buf[i]);
+        }
+        while (true) {
+            byte b = byteAt(pos++);
+            if (b == '"') {
+                return new String(escaped, 0, length, StandardCharsets.UTF_8);
+            }
+            if (b != '\\') {
+                length = put(length, b);
+                continue;
+            }
+            byte e = byteAt(pos++);
+            switch (e) {
+            case 'n':
+                length = put(length, (byte) '\n');
+                break;
+            case 't':
+                length = put(length, (byte) '\t');
+                break;
+            case 'r':
+                length = put(length, (byte) '\r');
+                break;
+            case 'b':
+                length = put(length, (byte) '\b');
+                break;
+            case 'f':
+                length = put(length, (byte) '\f');
+                break;
+            case 'u':
+                int codePoint = hex();
+                if (Character.isHighSurrogate((char) codePoint) && byteAt(pos) == '\\' && byteAt(pos + 1) == 'u') {
+                    pos += 2;
+                    int low = hex();
+                    if (Character.isLowSurrogate((char) low)) {
+                        codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                    } else {
+                        // not a pair, read the second escape on its own
+                        pos -= 6;
+                    }
+                }
+                length = putCodePoint(length, codePoint);
+                break;
+            default:
+                // \" \\ \/
+                length = put(length, e);
+                break;
+            }
+        }
+    }
+
+    private int hex() {
+        int value = Integer.parseInt(new String(buf, pos, 4, StandardCharsets.ISO_8859_1), 16);
+        pos += 4;
+        return value;
+    }
+
+    private int putCodePoint(int length, int codePoint) {
+        if (codePoint < 0x80) {
+            return put(length, (byte) codePoint);
+        }
+        if (codePoint < 0x800) {
+            length = put(length, (byte) (0xC0 | codePoint >> 6));
+        } else if (codePoint < 0x10000) {
+            length = put(length, (byte) (0xE0 | codePoint >> 12));
+            length = put(length, (byte) (0x80 | codePoint >> 6 & 0x3F));
+        } else {
+            length = put(length, (byte) (0xF0 | codePoint >> 18));
+            length = put(length, (byte) (0x80 | codePoint >> 12 & 0x3F));
+            length = put(length, (byte) (0x80 | codePoint >> 6 & 0x3F));
+        }
+        return put(length, (byte) (0x80 | codePoint & 0x3F));
+    }
+
+    private int put(int length, byte b) {
+        if (length == escaped.length) {
+            byte[] larger = new byte[length * 2];
+            System.arraycopy(escaped, 0, larger, 0, length);
+            escaped = larger;
+        }
+        escaped[length] = b;
+        return length + 1;
+    }
+
+    private void skipValue() {
+        switch (byteAt(pos)) {
+        case '"':
+            skipString(pos);
+            break;
+        case '{':
+        case '[':
+            int nesting = 0;
+            do {
+                byte b = byteAt(pos);
+                if (b == '"') {
+                    skipString(pos);
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    nesting++;
+                } else if (b == '}' || b == ']') {
+                    nesting--;
+                }
+                pos++;
+            } while (nesting > 0);
+            break;
+        default:
+            skipPrimitive();
+            break;
+        }
+    }
+
+    private void skipString(int start) {
+        pos = start + 1;
+        while (true) {
+            byte b = byteAt(pos++);
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                pos++;
+            }
+        }
+    }
+
+    private void skipPrimitive() {
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private boolean isNull() {
+        if (matches(NULL)) {
+            pos += NULL.length;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean matches(byte[] literal) {
+        return end - pos >= literal.length && regionMatches(pos, literal);
+    }
+
+    private void expect(char c) {
+        if (byteAt(pos) != c) {
+            throw new IllegalArgumentException("Expected '" + c + "' at " + (pos - offset) + ": " + document());
+        }
+        pos++;
+    }
+
+    private String document() {
+        return new String(buf, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private byte byteAt(int index) {
+        if (index >= end) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return buf[index];
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes the request bodies. Values are maps, collections, strings, numbers, booleans, {@code null} and
+ * {@link Raw} JSON text.
+ */
+final class JsonWriter {
+
+    private final StringBuilder json = new StringBuilder(1024);
+
+    /**
+     * JSON text written as is.
+     *
+     * @param json the JSON text
+     */
+    record Raw(String json) {
+    }
+
+    /**
+     * Writes a value and returns the UTF-8 bytes of the document.
+     *
+     * @param value the value
+     * @return the JSON document
+     */
+    static byte[] write(Object value) {
+        JsonWriter writer = new JsonWriter();
+        writer.value(value);
+        return writer.json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void value(Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof String) {
+            string((String) value);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof Raw) {
+            json.append(((Raw) value).json());
+        } else if (value instanceof Map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                string(String.valueOf(entry.getKey()));
+                json.append(':');
+                value(entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection) {
+            json.append('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) value) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                value(element);
+            }
+            json.append(']');
+        } else {
+            throw new IllegalArgumentException("Cannot write " + value.getClass().getName() + " as JSON");
+        }
+    }
+
+    private void string(String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+                break;
+            }
+        }
+        json.append('"');
+    }
+}
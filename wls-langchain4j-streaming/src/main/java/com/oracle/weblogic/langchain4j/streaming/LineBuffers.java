@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of the buffers in which the lines of the streams are assembled, so a stream does not allocate its own.
+ */
+final class LineBuffers {
+
+    static final int SIZE = 8192;
+
+    private static final ArrayBlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(256);
+
+    private LineBuffers() {
+    }
+
+    /**
+     * Takes a buffer of {@link #SIZE} bytes from the pool, or allocates one if the pool is empty.
+     *
+     * @return the buffer
+     */
+    static byte[] take() {
+        byte[] buffer = POOL.poll();
+        return buffer != null ? buffer : new byte[SIZE];
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that were grown for a long line, and buffers exceeding the capacity of
+     * the pool, are left to the garbage collector.
+     *
+     * @param buffer the buffer
+     */
+    static void release(byte[] buffer) {
+        if (buffer.length == SIZE) {
+            POOL.offer(buffer);
+        }
+    }
+}
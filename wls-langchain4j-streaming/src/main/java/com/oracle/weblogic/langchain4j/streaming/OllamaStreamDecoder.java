@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.FinishReason;
+
+/**
+ * Decodes the lines of an Ollama chat stream. Only the message content and tool calls, the completion flag and the
+ * token counts are read.
+ */
+final class OllamaStreamDecoder extends StreamDecoder {
+
+    private static final int MESSAGE = 0;
+    private static final int CONTENT = 1;
+    private static final int TOOL_CALLS = 2;
+    private static final int FUNCTION = 3;
+    private static final int NAME = 4;
+    private static final int ARGUMENTS = 5;
+    private static final int DONE = 6;
+    private static final int DONE_REASON = 7;
+    private static final int PROMPT_EVAL_COUNT = 8;
+    private static final int EVAL_COUNT = 9;
+    private static final int ERROR = 10;
+
+    OllamaStreamDecoder(StreamingResponseHandler<AiMessage> handler) {
+        super(new JsonScanner("message", "content", "tool_calls", "function", "name", "arguments", "done",
+                              "done_reason", "prompt_eval_count", "eval_count", "error"),
+              handler);
+    }
+
+    @Override
+    public boolean wants(int[] path, int depth) {
+        switch (depth) {
+        case 1:
+            return path[0] == DONE || path[0] == DONE_REASON || path[0] == PROMPT_EVAL_COUNT
+                    || path[0] == EVAL_COUNT || path[0] == ERROR;
+        case 2:
+            return path[0] == MESSAGE && path[1] == CONTENT;
+        case 4:
+            return path[0] == MESSAGE && path[1] == TOOL_CALLS && path[2] == FUNCTION
+                    && (path[3] == NAME || path[3] == ARGUMENTS);
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public void value(int[] path, int depth, JsonScanner scanner) {
+        switch (path[depth - 1]) {
+        case CONTENT:
+            token(scanner.readString());
+            break;
+        case NAME:
+            // Ollama sends complete tool calls, each starting with its name
+            toolCall(toolCallCount()).name(scanner.readString());
+            break;
+        case ARGUMENTS:
+            toolCall(Math.max(0, toolCallCount() - 1)).arguments(scanner.readRaw());
+            break;
+        case DONE:
+            if (scanner.readBoolean()) {
+                done();
+            }
+            break;
+        case DONE_REASON:
+            String reason = scanner.readString();
+            if (reason != null) {
+                finishReason("length".equals(reason) ? FinishReason.LENGTH : FinishReason.STOP);
+            }
+            break;
+        case PROMPT_EVAL_COUNT:
+            inputTokens(scanner.readLong());
+            break;
+        case EVAL_COUNT:
+            outputTokens(scanner.readLong());
+            break;
+        case ERROR:
+            error(scanner.readString());
+            break;
+        default:
+            break;
+        }
+    }
+}
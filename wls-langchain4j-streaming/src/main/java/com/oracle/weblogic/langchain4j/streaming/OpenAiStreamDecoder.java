@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.FinishReason;
+
+/**
+ * Decodes the chunks of an OpenAI compatible chat completion stream. Only the content and tool call deltas, the finish
+ * reason and the usage are read.
+ */
+final class OpenAiStreamDecoder extends StreamDecoder {
+
+    private static final int CHOICES = 0;
+    private static final int DELTA = 1;
+    private static final int CONTENT = 2;
+    private static final int TOOL_CALLS = 3;
+    private static final int INDEX = 4;
+    private static final int ID = 5;
+    private static final int FUNCTION = 6;
+    private static final int NAME = 7;
+    private static final int ARGUMENTS = 8;
+    private static final int FINISH_REASON = 9;
+    private static final int USAGE = 10;
+    private static final int PROMPT_TOKENS = 11;
+    private static final int COMPLETION_TOKENS = 12;
+    private static final int ERROR = 13;
+    private static final int MESSAGE = 14;
+
+    private int toolCallIndex;
+
+    OpenAiStreamDecoder(StreamingResponseHandler<AiMessage> handler) {
+        super(new JsonScanner("choices", "delta", "content", "tool_calls", "index", "id", "function", "name",
+                              "arguments", "finish_reason", "usage", "prompt_tokens", "completion_tokens", "error",
+                              "message"),
+              handler);
+    }
+
+    @Override
+    public boolean wants(int[] path, int depth) {
+        switch (depth) {
+        case 2:
+            return path[0] == CHOICES && path[1] == FINISH_REASON
+                    || path[0] == USAGE && (path[1] == PROMPT_TOKENS || path[1] == COMPLETION_TOKENS)
+                    || path[0] == ERROR && path[1] == MESSAGE;
+        case 3:
+            return path[0] == CHOICES && path[1] == DELTA && path[2] == CONTENT;
+        case 4:
+            return path[0] == CHOICES && path[1] == DELTA && path[2] == TOOL_CALLS
+                    && (path[3] == INDEX || path[3] == ID);
+        case 5:
+            return path[0] == CHOICES && path[1] == DELTA && path[2] == TOOL_CALLS && path[3] == FUNCTION
+                    && (path[4] == NAME || path[4] == ARGUMENTS);
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public void value(int[] path, int depth, JsonScanner scanner) {
+        switch (path[depth - 1]) {
+        case CONTENT:
+            token(scanner.readString());
+            break;
+        case INDEX:
+            Long index = scanner.readLong();
+            toolCallIndex = index == null ? toolCallCount() : index.intValue();
+            break;
+        case ID:
+            toolCall(toolCallIndex).id(scanner.readString());
+            break;
+        case NAME:
+            toolCall(toolCallIndex).name(scanner.readString());
+            break;
+        case ARGUMENTS:
+            toolCall(toolCallIndex).arguments(scanner.readString());
+            break;
+        case FINISH_REASON:
+            String reason = scanner.readString();
+            if (reason != null) {
+                finishReason(finishReason(reason));
+            }
+            break;
+        case PROMPT_TOKENS:
+            inputTokens(scanner.readLong());
+            break;
+        case COMPLETION_TOKENS:
+            outputTokens(scanner.readLong());
+            break;
+        case MESSAGE:
+            error(scanner.readString());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static FinishReason finishReason(String reason) {
+        switch (reason) {
+        case "stop":
+            return FinishReason.STOP;
+        case "length":
+            return FinishReason.LENGTH;
+        case "tool_calls":
+        case "function_call":
+            return FinishReason.TOOL_EXECUTION;
+        case "content_filter":
+            return FinishReason.CONTENT_FILTER;
+        default:
+            return FinishReason.OTHER;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Decodes the frames of one streamed response, passing the tokens to the handler as they arrive and accumulating the
+ * complete response.
+ */
+abstract class StreamDecoder implements JsonScanner.Handler {
+
+    private final JsonScanner scanner;
+    private final StreamingResponseHandler<AiMessage> handler;
+    private final StringBuilder text = new StringBuilder();
+    private final List<ToolCall> toolCalls = new ArrayList<>();
+    private Integer inputTokens;
+    private Integer outputTokens;
+    private FinishReason finishReason;
+    private String error;
+    private boolean done;
+
+    StreamDecoder(JsonScanner scanner, StreamingResponseHandler<AiMessage> handler) {
+        this.scanner = scanner;
+        this.handler = handler;
+    }
+
+    /**
+     * Decodes a frame.
+     *
+     * @param buf    the bytes holding the frame
+     * @param offset the start of the frame
+     * @param length the length of the frame
+     */
+    final void decode(byte[] buf, int offset, int length) {
+        scanner.scan(buf, offset, length, this);
+    }
+
+    /**
+     * Returns whether the last frame was decoded.
+     *
+     * @return {@code true} if the response is complete
+     */
+    final boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Returns the error reported in the stream.
+     *
+     * @return the error message, or {@code null}
+     */
+    final String error() {
+        return error;
+    }
+
+    /**
+     * Returns the complete response.
+     *
+     * @return the response
+     */
+    final Response<AiMessage> response() {
+        TokenUsage tokenUsage = inputTokens == null && outputTokens == null
+                ? null
+                : new TokenUsage(inputTokens, outputTokens);
+        String content = text.length() == 0 ? null : text.toString();
+        if (toolCalls.isEmpty()) {
+            return Response.from(AiMessage.from(content == null ? "" : content), tokenUsage, finishReason);
+        }
+        List<ToolExecutionRequest> requests = new ArrayList<>(toolCalls.size());
+        for (ToolCall toolCall : toolCalls) {
+            requests.add(toolCall.request());
+        }
+        AiMessage message = content == null ? AiMessage.from(requests) : AiMessage.from(content, requests);
+        return Response.from(message, tokenUsage, finishReason == null ? FinishReason.TOOL_EXECUTION : finishReason);
+    }
+
+    void token(String token) {
+        if (token != null && !token.isEmpty()) {
+            text.append(token);
+            handler.onNext(token);
+        }
+    }
+
+    ToolCall toolCall(int index) {
+        while (toolCalls.size() <= index) {
+            toolCalls.add(new ToolCall());
+        }
+        return toolCalls.get(index);
+    }
+
+    int toolCallCount() {
+        return toolCalls.size();
+    }
+
+    void inputTokens(Long tokens) {
+        if (tokens != null) {
+            inputTokens = tokens.intValue();
+        }
+    }
+
+    void outputTokens(Long tokens) {
+        if (tokens != null) {
+            outputTokens = tokens.intValue();
+        }
+    }
+
+    void finishReason(FinishReason finishReason) {
+        this.finishReason = finishReason;
+    }
+
+    void error(String error) {
+        this.error = error;
+        this.done = true;
+    }
+
+    void done() {
+        this.done = true;
+    }
+
+    /**
+     * Tool call assembled from the fragments of several frames.
+     */
+    static final class ToolCall {
+
+        private final StringBuilder arguments = new StringBuilder();
+        private String id;
+        private String name;
+
+        void id(String id) {
+            if (id != null) {
+                this.id = id;
+            }
+        }
+
+        void name(String name) {
+            if (name != null) {
+                this.name = name;
+            }
+        }
+
+        void arguments(String fragment) {
+            if (fragment != null) {
+                arguments.append(fragment);
+            }
+        }
+
+        private ToolExecutionRequest request() {
+            return ToolExecutionRequest.builder()
+                    .id(id)
+                    .name(name)
+                    .arguments(arguments.length() == 0 ? "{}" : arguments.toString())
+                    .build();
+        }
+    }
+}
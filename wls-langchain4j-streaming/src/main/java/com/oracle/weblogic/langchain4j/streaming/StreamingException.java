@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+/**
+ * Failure of a streamed chat completion, either an HTTP error status or an error reported in the stream.
+ */
+public class StreamingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    /**
+     * Creates an exception.
+     *
+     * @param statusCode the HTTP status code of the response
+     * @param message    the body of the response or the error reported in the stream
+     */
+    public StreamingException(int statusCode, String message) {
+        super("Status " + statusCode + ": " + message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the status code
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+}
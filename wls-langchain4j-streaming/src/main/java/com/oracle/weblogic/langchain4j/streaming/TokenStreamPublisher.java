@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.service.TokenStream;
+
+/**
+ * {@link Flow.Publisher} of the tokens of a {@link TokenStream}.
+ *
+ * <p>The stream is started when the subscriber first requests tokens, and tokens are delivered as requested. Tokens
+ * received ahead of the demand are buffered. With the {@link HttpStreamingChatModel} the response is no longer read
+ * once {@value #HIGH_WATER} tokens are buffered, and reading resumes when the subscriber brings the buffer down to
+ * {@value #LOW_WATER} tokens. Other models push the tokens as they come, and the buffer holds the rest of the
+ * response. Cancelling the subscription closes the response of the {@link HttpStreamingChatModel}; other models
+ * complete the call, and the tokens are dropped.</p>
+ *
+ * <p>A token stream runs once, so the publisher accepts a single subscriber.</p>
+ */
+final class TokenStreamPublisher implements Flow.Publisher<String> {
+
+    static final int HIGH_WATER = 256;
+    static final int LOW_WATER = 64;
+
+    private final TokenStream tokenStream;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    TokenStreamPublisher(TokenStream tokenStream) {
+        this.tokenStream = tokenStream;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new TokenSubscription(subscriber));
+        } else {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A token stream can be subscribed to only once"));
+        }
+    }
+
+    private final class TokenSubscription extends Backpressure implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super String> subscriber;
+        private final Queue<String> tokens = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Runnable> resume = new AtomicReference<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private volatile Throwable error;
+        // Signalled instead of the stream when the subscriber broke the rules
+        private volatile Throwable rejected;
+        private boolean terminated;
+
+        private TokenSubscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                rejected = new IllegalArgumentException("Requested " + n + " tokens, the demand must be positive");
+                cancelled = true;
+                wake();
+                tokens.clear();
+                buffered.set(0);
+                drain();
+                return;
+            }
+            requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            if (started.compareAndSet(false, true)) {
+                start();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            wake();
+            drain();
+        }
+
+        @Override
+        boolean cancelled() {
+            return cancelled;
+        }
+
+        @Override
+        boolean request(Runnable resume) {
+            if (cancelled || buffered.get() < HIGH_WATER) {
+                return true;
+            }
+            this.resume.set(resume);
+            // The subscriber may have caught up meanwhile
+            return buffered.get() < HIGH_WATER && this.resume.compareAndSet(resume, null);
+        }
+
+        private void start() {
+            try {
+                tokenStream.onNext(this::onToken)
+                        .onComplete(this::onComplete)
+                        .onError(this::onError);
+                Backpressure.run(this, tokenStream::start);
+            } catch (RuntimeException e) {
+                onError(e);
+            }
+        }
+
+        private void onToken(String token) {
+            if (!cancelled) {
+                tokens.offer(token);
+                buffered.incrementAndGet();
+                drain();
+            }
+        }
+
+        private void onComplete(Response<AiMessage> response) {
+            done = true;
+            drain();
+        }
+
+        private void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        private void wake() {
+            Runnable runnable = resume.getAndSet(null);
+            if (runnable != null) {
+                runnable.run();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (terminated) {
+                    return;
+                }
+                if (cancelled) {
+                    tokens.clear();
+                    buffered.set(0);
+                    Throwable throwable = rejected;
+                    if (throwable != null) {
+                        terminated = true;
+                        subscriber.onError(throwable);
+                    }
+                    return;
+                }
+                long emitted = 0;
+                long demand = requested.get();
+                while (emitted < demand && !cancelled) {
+                    String token = tokens.poll();
+                    if (token == null) {
+                        break;
+                    }
+                    buffered.decrementAndGet();
+                    subscriber.onNext(token);
+                    emitted++;
+                }
+                if (emitted > 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (buffered.get() <= LOW_WATER) {
+                    wake();
+                }
+                if (done && tokens.isEmpty() && !cancelled) {
+                    terminated = true;
+                    Throwable throwable = error;
+                    if (throwable == null) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(throwable);
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.streaming;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.Flow;
+
+import dev.langchain4j.service.TokenStream;
+import dev.langchain4j.spi.services.TokenStreamAdapter;
+
+/**
+ * Lets the methods of an AI service return {@code Flow.Publisher<String>} instead of {@link TokenStream}.
+ *
+ * <p>LangChain4J discovers this adapter with the {@link java.util.ServiceLoader}. Example:</p>
+ * <pre>
+ * &#64;Ai.Service
+ * public interface Assistant {
+ *     Flow.Publisher&lt;String&gt; chat(String question);
+ * }
+ * </pre>
+ *
+ * <p>The publisher starts the stream when the subscriber first requests tokens, and delivers them as requested. See
+ * {@link HttpStreamingChatModel} to stop reading the response while the subscriber is behind.</p>
+ */
+public class TokenStreamPublisherAdapter implements TokenStreamAdapter {
+
+    /**
+     * Public no-arg constructor is required by {@link java.util.ServiceLoader}.
+     */
+    public TokenStreamPublisherAdapter() {
+    }
+
+    @Override
+    public boolean canAdaptTokenStreamTo(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            return parameterizedType.getRawType() == Flow.Publisher.class
+                    && parameterizedType.getActualTypeArguments()[0] == String.class;
+        }
+        return false;
+    }
+
+    @Override
+    public Object adapt(TokenStream tokenStream) {
+        return new TokenStreamPublisher(tokenStream);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Streaming chat model reading the OpenAI server-sent events and the Ollama newline delimited JSON with the
+ * {@link java.net.http.HttpClient} of the JDK, decoding the frames in place, and the
+ * {@link java.util.concurrent.Flow.Publisher} return type of the AI service methods.
+ */
+package com.oracle.weblogic.langchain4j.streaming;
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+/**
+ * Latency and failures of a stub model, configured with the prefix of the model, for example
+ * <i>langchain4j.stub.chat-model</i>:
+ * <ul>
+ *     <li><i>latency</i> - mean latency of a call in milliseconds, 0 by default.</li>
+ *     <li><i>latency-distribution</i> - <i>fixed</i> (default), <i>uniform</i>, <i>normal</i>, <i>exponential</i>
+ *     or <i>log-normal</i>.</li>
+ *     <li><i>latency-stddev</i> - standard deviation of the <i>normal</i> and <i>log-normal</i> distributions in
+ *     milliseconds, half-width of the <i>uniform</i> distribution.</li>
+ *     <li><i>latency-min</i>, <i>latency-max</i> - bounds applied to every sampled latency.</li>
+ *     <li><i>error-rate</i> - fraction of the calls failing with {@link InjectedFailureException}, 0 by default.</li>
+ *     <li><i>error-message</i> - message of the injected failures.</li>
+ *     <li><i>seed</i> - seed of the samples, 0 by default. The n-th call of a model always gets the same latency and
+ *     outcome for a given seed, so runs can be reproduced.</li>
+ * </ul>
+ */
+final class StubBehavior {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Distribution distribution;
+    private final double latency;
+    private final double stddev;
+    private final double min;
+    private final double max;
+    private final double errorRate;
+    private final String errorMessage;
+    private final long seed;
+    private final AtomicLong calls = new AtomicLong();
+
+    private StubBehavior(Distribution distribution, double latency, double stddev, double min, double max,
+                         double errorRate, String errorMessage, long seed) {
+        this.distribution = distribution;
+        this.latency = latency;
+        this.stddev = stddev;
+        this.min = min;
+        this.max = max;
+        this.errorRate = errorRate;
+        this.errorMessage = errorMessage;
+        this.seed = seed;
+    }
+
+    /**
+     * Reads the behavior of a stub model.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return the behavior
+     */
+    static StubBehavior create(String prefix, Configuration configuration) {
+        Distribution distribution = configuration.getString(prefix + ".latency-distribution")
+                .map(Distribution::of)
+                .orElse(Distribution.FIXED);
+        double latency = configuration.getDouble(prefix + ".latency").orElse(0.0);
+        double errorRate = configuration.getDouble(prefix + ".error-rate").orElse(0.0);
+        if (latency < 0) {
+            throw new IllegalArgumentException(prefix + ".latency must not be negative");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException(prefix + ".error-rate must be between 0 and 1");
+        }
+        return new StubBehavior(distribution,
+                                latency,
+                                configuration.getDouble(prefix + ".latency-stddev").orElse(0.0),
+                                configuration.getDouble(prefix + ".latency-min").orElse(0.0),
+                                configuration.getDouble(prefix + ".latency-max").orElse(Double.MAX_VALUE),
+                                errorRate,
+                                configuration.getString(prefix + ".error-message").orElse("Injected failure"),
+                                configuration.getLong(prefix + ".seed").orElse(0L));
+    }
+
+    /**
+     * Starts a call.
+     *
+     * @return the index of the call, to pass to the other methods
+     */
+    long nextCall() {
+        return calls.getAndIncrement();
+    }
+
+    /**
+     * Returns the latency of a call.
+     *
+     * @param call the index of the call
+     * @return the latency in milliseconds
+     */
+    long latencyMillis(long call) {
+        double sample;
+        switch (distribution) {
+        case UNIFORM:
+            sample = latency + stddev * (2 * uniform(call, 1) - 1);
+            break;
+        case NORMAL:
+            sample = latency + stddev * gaussian(call);
+            break;
+        case EXPONENTIAL:
+            sample = -latency * Math.log(1 - uniform(call, 1));
+            break;
+        case LOG_NORMAL:
+            if (latency == 0) {
+                sample = 0;
+            } else {
+                double sigma2 = Math.log(1 + (stddev * stddev) / (latency * latency));
+                double mu = Math.log(latency) - sigma2 / 2;
+                sample = Math.exp(mu + Math.sqrt(sigma2) * gaussian(call));
+            }
+            break;
+        default:
+            sample = latency;
+        }
+        return Math.round(Math.min(max, Math.max(min, Math.max(0, sample))));
+    }
+
+    /**
+     * Returns the injected failure of a call.
+     *
+     * @param call the index of the call
+     * @return the failure, or {@code null} if the call succeeds
+     */
+    InjectedFailureException failure(long call) {
+        return errorRate > 0 && uniform(call, 3) < errorRate ? new InjectedFailureException(errorMessage) : null;
+    }
+
+    /**
+     * Blocks for the latency of a call, then throws its injected failure, if any.
+     *
+     * @param call the index of the call
+     */
+    void await(long call) {
+        sleep(latencyMillis(call));
+        InjectedFailureException failure = failure(call);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks the current thread.
+     *
+     * @param millis the time to wait in milliseconds
+     */
+    static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating the model latency", e);
+        }
+    }
+
+    private double gaussian(long call) {
+        // Box-Muller transform
+        double u1 = 1 - uniform(call, 1);
+        double u2 = uniform(call, 2);
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private double uniform(long call, int stream) {
+        // SplitMix64 of the call and stream index
+        long z = seed + (call * 4 + stream) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    private enum Distribution {
+        FIXED,
+        UNIFORM,
+        NORMAL,
+        EXPONENTIAL,
+        LOG_NORMAL;
+
+        static Distribution of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Factory class for creating a configured {@link StubChatLanguageModel}.
+ *
+ * <p>This factory automatically registers a bean in the CDI registry if the configuration property
+ * <i>langchain4j.stub.chat-model.enabled</i> is set to <i>true</i>.</p>
+ *
+ * @see StubChatLanguageModel
+ */
+@ApplicationScoped
+public class StubChatModelFactory {
+
+    private static final String PREFIX = "langchain4j.stub.chat-model";
+
+    private Configuration configuration;
+
+    // Required by CDI
+    protected StubChatModelFactory() {
+    }
+
+    /**
+     * Creates StubChatModelFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public StubChatModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link StubChatLanguageModel} bean in the CDI registry with the name
+     * <i>stubChatModel</i> if the configuration property <i>langchain4j.stub.chat-model.enabled</i> is set to
+     * <i>true</i>.
+     *
+     * @return a configured instance of {@link StubChatLanguageModel}
+     */
+    @ConditionalProduce(key = "langchain4j.stub.chat-model.enabled", value = "true")
+    @Named("stubChatModel")
+    public StubChatLanguageModel create() {
+        return new StubChatLanguageModel(StubBehavior.create(PREFIX, configuration),
+                                         StubResponses.create(PREFIX, configuration));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Embedding model returning, after a simulated latency, a normalized pseudo-random vector seeded by the text. The
+ * same text always gets the same vector, different texts get unrelated vectors.
+ */
+public final class StubEmbeddingModel implements EmbeddingModel {
+
+    private final StubBehavior behavior;
+    private final int dimension;
+
+    StubEmbeddingModel(StubBehavior behavior, int dimension) {
+        this.behavior = behavior;
+        this.dimension = dimension;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        behavior.await(behavior.nextCall());
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        int tokens = 0;
+        for (TextSegment segment : textSegments) {
+            embeddings.add(vector(segment.text()));
+            tokens += Math.max(1, segment.text().length() / 4);
+        }
+        return Response.from(embeddings, new TokenUsage(tokens));
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    private Embedding vector(String text) {
+        SplittableRandom random = new SplittableRandom(text.hashCode() * 0x9E3779B97F4A7C15L);
+        float[] vector = new float[dimension];
+        double norm = 0;
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= scale;
+        }
+        return Embedding.from(vector);
+    }
+}
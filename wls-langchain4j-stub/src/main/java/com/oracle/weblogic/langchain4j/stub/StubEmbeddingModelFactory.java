@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Factory class for creating a configured {@link StubEmbeddingModel}.
+ *
+ * <p>This factory automatically registers a bean in the CDI registry if the configuration property
+ * <i>langchain4j.stub.embedding-model.enabled</i> is set to <i>true</i>. Besides the properties of
+ * {@link StubBehavior}, <i>langchain4j.stub.embedding-model.dimension</i> sets the dimension of the vectors, 384 by
+ * default.</p>
+ *
+ * @see StubEmbeddingModel
+ */
+@ApplicationScoped
+public class StubEmbeddingModelFactory {
+
+    private static final String PREFIX = "langchain4j.stub.embedding-model";
+
+    private Configuration configuration;
+
+    // Required by CDI
+    protected StubEmbeddingModelFactory() {
+    }
+
+    /**
+     * Creates StubEmbeddingModelFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public StubEmbeddingModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link StubEmbeddingModel} bean in the CDI registry with the name
+     * <i>stubEmbeddingModel</i> if the configuration property <i>langchain4j.stub.embedding-model.enabled</i> is set
+     * to <i>true</i>.
+     *
+     * @return a configured instance of {@link StubEmbeddingModel}
+     */
+    @ConditionalProduce(key = "langchain4j.stub.embedding-model.enabled", value = "true")
+    @Named("stubEmbeddingModel")
+    public StubEmbeddingModel create() {
+        int dimension = configuration.getInteger(PREFIX + ".dimension").orElse(384);
+        if (dimension <= 0) {
+            throw new IllegalArgumentException(PREFIX + ".dimension must be positive: " + dimension);
+        }
+        return new StubEmbeddingModel(StubBehavior.create(PREFIX, configuration), dimension);
+    }
+}
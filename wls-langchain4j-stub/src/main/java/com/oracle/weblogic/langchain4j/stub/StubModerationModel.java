@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.List;
+import java.util.Locale;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Moderation model flagging, after a simulated latency, the texts containing one of the configured words.
+ */
+public final class StubModerationModel implements ModerationModel {
+
+    private final StubBehavior behavior;
+    private final List<String> flaggedWords;
+
+    StubModerationModel(StubBehavior behavior, List<String> flaggedWords) {
+        this.behavior = behavior;
+        this.flaggedWords = flaggedWords.stream().map(word -> word.toLowerCase(Locale.ROOT)).toList();
+    }
+
+    @Override
+    public Response<Moderation> moderate(String text) {
+        behavior.await(behavior.nextCall());
+        return Response.from(check(text));
+    }
+
+    @Override
+    public Response<Moderation> moderate(List<ChatMessage> messages) {
+        behavior.await(behavior.nextCall());
+        for (ChatMessage message : messages) {
+            Moderation moderation = check(StubResponses.text(message));
+            if (moderation.flagged()) {
+                return Response.from(moderation);
+            }
+        }
+        return Response.from(Moderation.notFlagged());
+    }
+
+    private Moderation check(String text) {
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        for (String word : flaggedWords) {
+            if (lowerCase.contains(word)) {
+                return Moderation.flagged(text);
+            }
+        }
+        return Moderation.notFlagged();
+    }
+}
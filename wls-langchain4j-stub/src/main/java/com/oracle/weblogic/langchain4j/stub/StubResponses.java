@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Deterministic answers of the stub chat models, configured with the prefix of the model:
+ * <ul>
+ *     <li><i>response</i> - template of the answer, <i>{input}</i> is replaced by the last user message. Defaults to
+ *     <i>Stub response to: {input}</i>.</li>
+ *     <li><i>tool-calls.&lt;n&gt;.name</i>, <i>tool-calls.&lt;n&gt;.arguments</i> - tool calls requested in one turn,
+ *     numbered from 0, with their JSON arguments. They are requested when the model receives a user message and the
+ *     service offers the tool. Once the tool results are sent back, the model answers with the template followed by
+ *     the results.</li>
+ * </ul>
+ * <p>Token usage is estimated as one token per four characters of input and one token per word of output.</p>
+ */
+final class StubResponses {
+
+    private static final String INPUT = "{input}";
+
+    private final String template;
+    private final List<ToolExecutionRequest> toolCalls;
+
+    private StubResponses(String template, List<ToolExecutionRequest> toolCalls) {
+        this.template = template;
+        this.toolCalls = toolCalls;
+    }
+
+    /**
+     * Reads the answers of a stub chat model.
+     *
+     * @param prefix        the configuration prefix of the model
+     * @param configuration the configuration
+     * @return the answers
+     */
+    static StubResponses create(String prefix, Configuration configuration) {
+        List<ToolExecutionRequest> toolCalls = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            Optional<String> name = configuration.getString(prefix + ".tool-calls." + i + ".name");
+            if (name.isEmpty()) {
+                break;
+            }
+            toolCalls.add(ToolExecutionRequest.builder()
+                                  .id("stub-call-" + i)
+                                  .name(name.get())
+                                  .arguments(configuration.getString(prefix + ".tool-calls." + i + ".arguments")
+                                                     .orElse("{}"))
+                                  .build());
+        }
+        return new StubResponses(configuration.getString(prefix + ".response").orElse("Stub response to: " + INPUT),
+                                 List.copyOf(toolCalls));
+    }
+
+    /**
+     * Answers a conversation.
+     *
+     * @param messages the messages sent to the model
+     * @param tools    the tools offered by the caller, may be empty
+     * @return the response, requesting the scripted tool calls or answering with the template
+     */
+    Response<AiMessage> respond(List<ChatMessage> messages, List<ToolSpecification> tools) {
+        String input = "";
+        List<String> results = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            if (message instanceof UserMessage) {
+                input = text(message);
+                results.clear();
+            } else if (message instanceof ToolExecutionResultMessage) {
+                results.add(((ToolExecutionResultMessage) message).text());
+            }
+        }
+        AiMessage aiMessage;
+        FinishReason finishReason;
+        List<ToolExecutionRequest> requests = results.isEmpty() ? requestedTools(tools) : List.of();
+        if (requests.isEmpty()) {
+            String answer = template.replace(INPUT, input);
+            aiMessage = AiMessage.from(results.isEmpty() ? answer : answer + " Tool results: " + String.join(", ", results));
+            finishReason = FinishReason.STOP;
+        } else {
+            aiMessage = AiMessage.from(requests);
+            finishReason = FinishReason.TOOL_EXECUTION;
+        }
+        int inputTokens = 0;
+        for (ChatMessage message : messages) {
+            inputTokens += text(message).length();
+        }
+        inputTokens = Math.max(1, inputTokens / 4);
+        int outputTokens = aiMessage.text() == null ? requests.size() * 10 : words(aiMessage.text());
+        return Response.from(aiMessage, new TokenUsage(inputTokens, outputTokens), finishReason);
+    }
+
+    /**
+     * Returns the text of a message.
+     *
+     * @param message the message
+     * @return the text, empty if the message has none
+     */
+    static String text(ChatMessage message) {
+        String text = null;
+        if (message instanceof UserMessage) {
+            text = ((UserMessage) message).hasSingleText() ? ((UserMessage) message).singleText() : null;
+        } else if (message instanceof SystemMessage) {
+            text = ((SystemMessage) message).text();
+        } else if (message instanceof AiMessage) {
+            text = ((AiMessage) message).text();
+        } else if (message instanceof ToolExecutionResultMessage) {
+            text = ((ToolExecutionResultMessage) message).text();
+        }
+        return text == null ? "" : text;
+    }
+
+    private List<ToolExecutionRequest> requestedTools(List<ToolSpecification> tools) {
+        if (toolCalls.isEmpty() || tools == null || tools.isEmpty()) {
+            return List.of();
+        }
+        List<ToolExecutionRequest> requests = new ArrayList<>();
+        for (ToolExecutionRequest toolCall : toolCalls) {
+            for (ToolSpecification tool : tools) {
+                if (tool.name().equals(toolCall.name())) {
+                    requests.add(toolCall);
+                    break;
+                }
+            }
+        }
+        return requests;
+    }
+
+    private static int words(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+/**
+ * Scoring model returning, after a simulated latency, the fraction of the query words found in each segment.
+ */
+public final class StubScoringModel implements ScoringModel {
+
+    private final StubBehavior behavior;
+
+    StubScoringModel(StubBehavior behavior) {
+        this.behavior = behavior;
+    }
+
+    @Override
+    public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+        behavior.await(behavior.nextCall());
+        Set<String> queryWords = words(query);
+        List<Double> scores = new ArrayList<>(segments.size());
+        for (TextSegment segment : segments) {
+            if (queryWords.isEmpty()) {
+                scores.add(0.0);
+                continue;
+            }
+            Set<String> segmentWords = words(segment.text());
+            int found = 0;
+            for (String word : queryWords) {
+                if (segmentWords.contains(word)) {
+                    found++;
+                }
+            }
+            scores.add((double) found / queryWords.size());
+        }
+        return Response.from(scores);
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\W+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * Streaming chat model answering deterministically, see {@link StubResponses}. The latency configured in
+ * {@link StubBehavior} is the time to the first token, the following tokens are streamed at
+ * <i>tokens-per-second</i>. Tokens are emitted by a scheduler, so a slow stream does not hold a thread.
+ */
+public final class StubStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    private final StubBehavior behavior;
+    private final StubResponses responses;
+    private final long tokenIntervalNanos;
+    private final ScheduledExecutorService scheduler;
+
+    StubStreamingChatLanguageModel(StubBehavior behavior,
+                                   StubResponses responses,
+                                   double tokensPerSecond,
+                                   ScheduledExecutorService scheduler) {
+        this.behavior = behavior;
+        this.responses = responses;
+        this.tokenIntervalNanos = tokensPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond) : 0;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, List.of(), handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        long call = behavior.nextCall();
+        long timeToFirstToken = behavior.latencyMillis(call);
+        RuntimeException failure = behavior.failure(call);
+        if (failure != null) {
+            scheduler.schedule(() -> handler.onError(failure), timeToFirstToken, TimeUnit.MILLISECONDS);
+            return;
+        }
+        Response<AiMessage> response = responses.respond(messages, toolSpecifications);
+        scheduler.schedule(new Emission(response, handler), timeToFirstToken, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, List.of(toolSpecification), handler);
+    }
+
+    /**
+     * Emits the tokens of a response one by one, rescheduling itself between tokens.
+     */
+    private final class Emission implements Runnable {
+
+        private final Response<AiMessage> response;
+        private final StreamingResponseHandler<AiMessage> handler;
+        private final String[] tokens;
+        private int next;
+
+        private Emission(Response<AiMessage> response, StreamingResponseHandler<AiMessage> handler) {
+            this.response = response;
+            this.handler = handler;
+            String text = response.content().text();
+            // Words keep their trailing whitespace, so the concatenated tokens are the text
+            this.tokens = text == null || text.isEmpty() ? new String[0] : text.split("(?<=\\s)(?=\\S)");
+        }
+
+        @Override
+        public void run() {
+            try {
+                do {
+                    if (next < tokens.length) {
+                        handler.onNext(tokens[next++]);
+                    }
+                    if (next >= tokens.length) {
+                        handler.onComplete(response);
+                        return;
+                    }
+                } while (tokenIntervalNanos == 0);
+                scheduler.schedule(this, tokenIntervalNanos, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                handler.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oracle.weblogic.langchain4j.stub;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.weblogic.langchain4j.cdi.ConditionalProduce;
+import com.oracle.weblogic.langchain4j.cdi.ConfigurationProvider.Configuration;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Factory class for creating a configured {@link StubStreamingChatLanguageModel}.
+ *
+ * <p>This factory automatically registers a bean in the CDI registry if the configuration property
+ * <i>langchain4j.stub.streaming-chat-model.enabled</i> is set to <i>true</i>. Besides the properties of
+ * {@link StubBehavior} and {@link StubResponses}, <i>langchain4j.stub.streaming-chat-model.tokens-per-second</i>
+ * sets the streaming rate, 0 by default to emit all the tokens at once.</p>
+ *
+ * @see StubStreamingChatLanguageModel
+ */
+@ApplicationScoped
+public class StubStreamingChatModelFactory {
+
+    private static final String PREFIX = "langchain4j.stub.streaming-chat-model";
+
+    private Configuration configuration;
+    private ScheduledExecutorService scheduler;
+
+    // Required by CDI
+    protected StubStreamingChatModelFactory() {
+    }
+
+    /**
+     * Creates StubStreamingChatModelFactory.
+     *
+     * @param configuration the AI properties.
+     */
+    @Inject
+    public StubStreamingChatModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Registers and produces a configured {@link StubStreamingChatLanguageModel} bean in the CDI registry with the
+     * name <i>stubStreamingChatModel</i> if the configuration property
+     * <i>langchain4j.stub.streaming-chat-model.enabled</i> is set to <i>true</i>.
+     *
+     * @return a configured instance of {@link StubStreamingChatLanguageModel}
+     */
+    @ConditionalProduce(key = "langchain4j.stub.streaming-chat-model.enabled", value = "true")
+    @Named("stubStreamingChatModel")
+    public StubStreamingChatLanguageModel create() {
+        double tokensPerSecond = configuration.getDouble(PREFIX + ".tokens-per-second").orElse(0.0);
+        return new StubStreamingChatLanguageModel(StubBehavior.create(PREFIX, configuration),
+                                                  StubResponses.create(PREFIX, configuration),
+                                                  tokensPerSecond,
+                                                  scheduler());
+    }
+
+    /**
+     * Stops the scheduler emitting the tokens.
+     */
+    @PreDestroy
+    synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            AtomicInteger counter = new AtomicInteger();
+            scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "wls-langchain4j-stub-stream-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+}